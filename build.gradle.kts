@@ -12,6 +12,14 @@ repositories {
 
 val mockitoAgent = configurations.create("mockitoAgent")
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[jmh.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 configurations {
     compileClasspath {
         resolutionStrategy.activateDependencyLocking()
@@ -38,6 +46,9 @@ dependencies {
     testImplementation("org.assertj:assertj-core")
 
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
 }
 
 mavenPublishing {
@@ -99,6 +110,26 @@ tasks.test {
     finalizedBy(tasks.jacocoTestReport)
 }
 
+// Runs the JMH benchmarks with the GC profiler and writes the results as JSON, so that they can be compared between
+// releases. Benchmarks can be selected with -Pjmh.includes=<regex>, and other JMH options passed with -Pjmh.args.
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks."
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+
+    val resultFile = layout.buildDirectory.file("results/jmh/results.json")
+    outputs.file(resultFile)
+    outputs.upToDateWhen { false }
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+
+    args("-rf", "json", "-rff", resultFile.get().asFile.absolutePath, "-prof", "gc")
+    providers.gradleProperty("jmh.args").orNull?.let { args(it.split(" ").filter(String::isNotBlank)) }
+    providers.gradleProperty("jmh.includes").orNull?.let { args(it) }
+}
+
 tasks.jacocoTestReport {
     dependsOn(tasks.test)
     reports {
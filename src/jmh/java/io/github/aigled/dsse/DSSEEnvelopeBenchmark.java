@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import io.github.aigled.dsse.crypto.ECDSASigner;
+import io.github.aigled.dsse.crypto.ECDSAVerifier;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures signing and threshold verification of heap envelopes, from 1 KiB to 64 MiB payloads, and co-signing with
+ * several signers, either local or simulating the round trip of a remote signer.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DSSEEnvelopeBenchmark {
+
+    private static final String ALGORITHM = "SHA256withECDSA";
+    private static final String PAYLOAD_TYPE = "application/vnd.in-toto+json";
+
+    @State(Scope.Benchmark)
+    public static class SignState {
+
+        @Param({"1024", "65536", "1048576", "67108864"})
+        public int payloadSize;
+
+        byte[] payload;
+        DSSESigner signer;
+
+        @Setup
+        public void setUp() throws GeneralSecurityException {
+
+            this.payload = randomBytes(this.payloadSize);
+            this.signer = new ECDSASigner("key-0", ALGORITHM, generateKeyPair().getPrivate());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CoSignState {
+
+        @Param({"1024", "1048576"})
+        public int payloadSize;
+
+        @Param({"4", "16"})
+        public int signerCount;
+
+        @Param({"0", "2"})
+        public int remoteLatencyMillis;
+
+        byte[] payload;
+        List<DSSESigner> signers;
+
+        @Setup
+        public void setUp() throws GeneralSecurityException {
+
+            this.payload = randomBytes(this.payloadSize);
+            this.signers = new ArrayList<>();
+            for (int i = 0; i < this.signerCount; i++) {
+                DSSESigner signer = new ECDSASigner("key-" + i, ALGORITHM, generateKeyPair().getPrivate());
+                this.signers.add(this.remoteLatencyMillis == 0 ? signer : new RemoteSigner(signer, this.remoteLatencyMillis));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class VerifyState {
+
+        @Param({"1024", "65536", "1048576", "67108864"})
+        public int payloadSize;
+
+        @Param({"1", "4", "16"})
+        public int signatureCount;
+
+        DSSEEnvelope envelope;
+        DSSEVerificationPolicy sequentialPolicy;
+        DSSEVerificationPolicy parallelPolicy;
+
+        @Setup
+        public void setUp() throws GeneralSecurityException {
+
+            this.envelope = new DSSEEnvelope(randomBytes(this.payloadSize), PAYLOAD_TYPE);
+            Set<DSSEVerifier> verifiers = new HashSet<>();
+            for (int i = 0; i < this.signatureCount; i++) {
+                KeyPair keyPair = generateKeyPair();
+                this.envelope.sign(new ECDSASigner("key-" + i, ALGORITHM, keyPair.getPrivate()));
+                verifiers.add(new ECDSAVerifier("key-" + i, ALGORITHM, keyPair.getPublic()));
+            }
+
+            // Every signature has to be checked to reach the threshold
+            this.sequentialPolicy = new ThresholdVerificationPolicy(this.signatureCount, true, verifiers);
+            this.parallelPolicy = ThresholdVerificationPolicy.parallel(this.signatureCount, true, verifiers);
+        }
+    }
+
+    @Benchmark
+    public DSSEEnvelope sign(SignState state) {
+
+        DSSEEnvelope envelope = new DSSEEnvelope(state.payload, PAYLOAD_TYPE);
+        envelope.sign(state.signer);
+        return envelope;
+    }
+
+    @Benchmark
+    public DSSEEnvelope coSign(CoSignState state) {
+
+        DSSEEnvelope envelope = new DSSEEnvelope(state.payload, PAYLOAD_TYPE);
+        for (DSSESigner signer : state.signers) {
+            envelope.sign(signer);
+        }
+        return envelope;
+    }
+
+    @Benchmark
+    public DSSESigningResult coSignAll(CoSignState state) {
+
+        return new DSSEEnvelope(state.payload, PAYLOAD_TYPE).signAll(state.signers);
+    }
+
+    @Benchmark
+    public boolean verify(VerifyState state) {
+
+        return state.envelope.verify(state.sequentialPolicy);
+    }
+
+    @Benchmark
+    public boolean verifyParallel(VerifyState state) {
+
+        return state.envelope.verify(state.parallelPolicy);
+    }
+
+    static byte[] randomBytes(int size) {
+
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * A signer waiting for a fixed latency before signing, as a signer backed by a remote service or an HSM does.
+     */
+    private record RemoteSigner(DSSESigner signer, int latencyMillis) implements DSSESigner {
+
+        @Override
+        public String getKeyId() {
+
+            return this.signer.getKeyId();
+        }
+
+        @Override
+        public byte[] sign(byte[] signingInput) {
+
+            try {
+                Thread.sleep(this.latencyMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return this.signer.sign(signingInput);
+        }
+    }
+
+    private static KeyPair generateKeyPair() throws GeneralSecurityException {
+
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Base64 paths of {@link DSSEUtils}, including URL-safe input, decoded in the same single pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DSSEUtilsBenchmark {
+
+    @Param({"64", "1024", "65536", "1048576", "67108864"})
+    public int size;
+
+    private byte[] bytes;
+    private String standard;
+    private String urlSafe;
+
+    @Setup
+    public void setUp() {
+
+        this.bytes = DSSEEnvelopeBenchmark.randomBytes(this.size);
+        this.standard = Base64.getEncoder().encodeToString(this.bytes);
+        this.urlSafe = Base64.getUrlEncoder().encodeToString(this.bytes);
+    }
+
+    @Benchmark
+    public String base64Encode() {
+
+        return DSSEUtils.base64Encode(this.bytes);
+    }
+
+    @Benchmark
+    public byte[] base64Decode() {
+
+        return DSSEUtils.base64Decode(this.standard);
+    }
+
+    @Benchmark
+    public byte[] base64DecodeUrlSafe() {
+
+        return DSSEUtils.base64Decode(this.urlSafe);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEDeserializer;
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSESerializer;
+import io.github.aigled.dsse.DSSESignature;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the serialization and deserialization of envelopes with the Jackson and the dependency-free JSON codecs,
+ * and with the binary and protobuf codecs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class CodecBenchmark {
+
+    @Param({"1024", "65536", "1048576", "67108864"})
+    public int payloadSize;
+
+    @Param({"1", "16"})
+    public int signatureCount;
+
+    @Param({"jackson", "simple", "simple-encoded", "binary", "protobuf"})
+    public String codec;
+
+    private DSSESerializer serializer;
+    private DSSEDeserializer deserializer;
+
+    private DSSEEnvelope envelope;
+    private String serialized;
+    private byte[] serializedBytes;
+
+    @Setup
+    public void setUp() {
+
+        switch (this.codec) {
+            case "jackson" -> {
+                this.serializer = new Jackson2JsonDSSESerializer();
+                this.deserializer = new Jackson2JsonDSSEDeserializer();
+            }
+            case "simple" -> {
+                this.serializer = new SimpleJsonDSSESerializer();
+                this.deserializer = new SimpleJsonDSSEDeserializer();
+            }
+            case "simple-encoded" -> {
+                this.serializer = new SimpleJsonDSSESerializer();
+                this.deserializer = new SimpleJsonDSSEDeserializer(true);
+            }
+            case "binary" -> {
+                this.serializer = new BinaryDSSESerializer();
+                this.deserializer = new BinaryDSSEDeserializer();
+            }
+            default -> {
+                this.serializer = new ProtobufDSSESerializer();
+                this.deserializer = new ProtobufDSSEDeserializer();
+            }
+        }
+
+        Random random = new Random(42);
+        byte[] payload = new byte[this.payloadSize];
+        random.nextBytes(payload);
+
+        // ECDSA P-256 signatures are about 72 bytes long once DER-encoded
+        List<DSSESignature> signatures = new ArrayList<>(this.signatureCount);
+        for (int i = 0; i < this.signatureCount; i++) {
+            byte[] signature = new byte[72];
+            random.nextBytes(signature);
+            signatures.add(DSSESignature.of("key-" + i, signature));
+        }
+
+        // Built from the serialized body, so that serializing it encodes the payload
+        this.envelope = DSSEEnvelope.of(payload, "application/vnd.in-toto+json", signatures);
+        this.serialized = this.serializer.serialize(this.envelope);
+        // The binary and protobuf codecs represent their output as an ISO-8859-1 string
+        boolean json = "jackson".equals(this.codec) || this.codec.startsWith("simple");
+        this.serializedBytes = this.serialized.getBytes(json ? StandardCharsets.UTF_8 : StandardCharsets.ISO_8859_1);
+    }
+
+    @Benchmark
+    public String serialize() {
+
+        return this.serializer.serialize(this.envelope);
+    }
+
+    @Benchmark
+    public void serializeToStream() {
+
+        this.serializer.serialize(this.envelope, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public DSSEEnvelope deserialize() {
+
+        return this.deserializer.deserialize(this.serialized);
+    }
+
+    @Benchmark
+    public DSSEEnvelope deserializeBytes() {
+
+        return this.deserializer.deserialize(this.serializedBytes, 0, this.serializedBytes.length);
+    }
+
+    @Benchmark
+    public byte[] deserializeAndDecode() {
+
+        return this.deserializer.deserialize(this.serializedBytes, 0, this.serializedBytes.length).getSerializedBody();
+    }
+
+    @Benchmark
+    public void reserialize() {
+
+        DSSEEnvelope deserialized = this.deserializer.deserialize(this.serializedBytes, 0, this.serializedBytes.length);
+        this.serializer.serialize(deserialized, OutputStream.nullOutputStream());
+    }
+}
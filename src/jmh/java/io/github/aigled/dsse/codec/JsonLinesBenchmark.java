@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSESignature;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures reading and writing 100,000 NDJSON envelopes, sequentially and on every core.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class JsonLinesBenchmark {
+
+    private static final int ENVELOPE_COUNT = 100_000;
+
+    @Param({"256", "4096"})
+    public int payloadSize;
+
+    private Path file;
+    private JsonLinesDSSEReader reader;
+    private List<DSSEEnvelope> envelopes;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        Random random = new Random(42);
+        this.envelopes = IntStream.range(0, ENVELOPE_COUNT).mapToObj(i -> {
+            byte[] payload = new byte[this.payloadSize];
+            random.nextBytes(payload);
+            byte[] signature = new byte[72];
+            random.nextBytes(signature);
+            return DSSEEnvelope.of(payload, "application/vnd.in-toto+json", List.of(DSSESignature.of("key-0", signature)));
+        }).toList();
+
+        this.file = Files.createTempFile("envelopes", ".ndjson");
+        try (JsonLinesDSSEWriter writer = JsonLinesDSSEWriter.of(this.file, new SimpleJsonDSSESerializer())) {
+            writer.writeAll(this.envelopes.stream());
+        }
+        this.reader = JsonLinesDSSEReader.of(this.file, new SimpleJsonDSSEDeserializer());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public long readSequential() {
+
+        return this.reader.stream().sequential().count();
+    }
+
+    @Benchmark
+    public long readParallel() {
+
+        return this.reader.stream().count();
+    }
+
+    @Benchmark
+    public void writeSequential() throws IOException {
+
+        try (JsonLinesDSSEWriter writer = new JsonLinesDSSEWriter(OutputStream.nullOutputStream(),
+                                                                  new SimpleJsonDSSESerializer())) {
+            writer.writeAll(this.envelopes.stream());
+        }
+    }
+
+    @Benchmark
+    public void writeParallel() throws IOException {
+
+        try (JsonLinesDSSEWriter writer = new JsonLinesDSSEWriter(OutputStream.nullOutputStream(),
+                                                                  new SimpleJsonDSSESerializer())) {
+            writer.writeAll(this.envelopes.parallelStream());
+        }
+    }
+}
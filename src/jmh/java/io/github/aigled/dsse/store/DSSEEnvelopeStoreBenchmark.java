@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.store;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures appending envelopes to a store, reading them back by digest, and scanning a store of 100,000 envelopes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class DSSEEnvelopeStoreBenchmark {
+
+    private static final int ENVELOPE_COUNT = 100_000;
+
+    @Param({"256", "4096"})
+    public int payloadSize;
+
+    private Path directory;
+    private DSSEEnvelopeStore store;
+    private byte[][] digests;
+    private Random random;
+    private byte[] signature;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        this.random = new Random(42);
+        this.signature = new byte[72];
+        this.random.nextBytes(this.signature);
+
+        this.directory = Files.createTempDirectory("envelopes");
+        this.store = DSSEEnvelopeStore.open(this.directory);
+        this.digests = IntStream.range(0, ENVELOPE_COUNT)
+                                .mapToObj(i -> this.store.append(this.newEnvelope()))
+                                .toArray(byte[][]::new);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        this.store.close();
+        try (Stream<Path> files = Files.walk(this.directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] append() {
+
+        return this.store.append(this.newEnvelope());
+    }
+
+    @Benchmark
+    public MappedDSSEEnvelope get() {
+
+        return this.store.get(this.digests[ThreadLocalRandom.current().nextInt(ENVELOPE_COUNT)]).orElseThrow();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long scan() {
+
+        return this.store.stream().mapToLong(DSSEEnvelope::getPayloadLength).sum();
+    }
+
+    private DSSEEnvelope newEnvelope() {
+
+        byte[] payload = new byte[this.payloadSize];
+        this.random.nextBytes(payload);
+        return DSSEEnvelope.of(payload, "application/vnd.in-toto+json", List.of(DSSESignature.of("key-0", this.signature)));
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link DSSEVerificationPolicy} decorator caching the verification results of another policy.
+ * <p>
+ * Results are keyed on a SHA-256 digest of the Pre-Authentication Encoding of the envelope, which binds its payload
+ * type and payload, and of the key ID and value of each of its signatures. A cache belongs to the policy it
+ * decorates, so that the policy identity is part of the key by construction: the same envelope verified against two
+ * different policies never shares a result. Both positive and negative results are cached; exceptions are not.
+ * <p>
+ * The cache holds at most {@code maximumSize} results, evicting the least recently used ones first, and results
+ * expire after an optional time-to-live. Entries are spread over independently locked segments, so that concurrent
+ * verifications of different envelopes rarely contend.
+ * <p>
+ * Thread-safety:
+ * This class is thread-safe if the decorated policy is thread-safe.
+ */
+public class CachingVerificationPolicy implements DSSEVerificationPolicy {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private final DSSEVerificationPolicy delegate;
+    private final boolean expiring;
+    private final long timeToLiveNanos;
+    private final LongSupplier nanoClock;
+    private final Segment[] segments;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * Constructs a new {@code CachingVerificationPolicy} whose results never expire.
+     *
+     * @param delegate
+     *         the policy whose results are cached; must not be null
+     * @param maximumSize
+     *         the maximum number of cached results; must be greater than 0
+     * @throws IllegalArgumentException
+     *         if the specified maximum size is less than or equal to 0
+     */
+    public CachingVerificationPolicy(DSSEVerificationPolicy delegate, int maximumSize) {
+
+        this(delegate, maximumSize, null);
+    }
+
+    /**
+     * Constructs a new {@code CachingVerificationPolicy} whose results expire after the specified time-to-live.
+     *
+     * @param delegate
+     *         the policy whose results are cached; must not be null
+     * @param maximumSize
+     *         the maximum number of cached results; must be greater than 0
+     * @param timeToLive
+     *         the duration after which a cached result expires, or {@code null} for results that never expire
+     * @throws IllegalArgumentException
+     *         if the specified maximum size is less than or equal to 0, or if the time-to-live is not positive
+     */
+    public CachingVerificationPolicy(DSSEVerificationPolicy delegate, int maximumSize, Duration timeToLive) {
+
+        this(delegate, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    CachingVerificationPolicy(@NonNull DSSEVerificationPolicy delegate, int maximumSize, Duration timeToLive,
+                              LongSupplier nanoClock) {
+
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be > 0");
+        }
+        if (timeToLive != null && (timeToLive.isNegative() || timeToLive.isZero())) {
+            throw new IllegalArgumentException("timeToLive must be > 0");
+        }
+
+        this.delegate = delegate;
+        this.expiring = timeToLive != null;
+        this.timeToLiveNanos = timeToLive != null ? timeToLive.toNanos() : 0;
+        this.nanoClock = nanoClock;
+
+        // The remainder of the division is spread over the first segments, so that the capacities add up exactly
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+            this.segments[i] = new Segment(capacity, this.expiring);
+        }
+    }
+
+    @Override
+    public boolean verify(DSSEEnvelope envelope) {
+
+        return this.verify(DSSEVerificationContext.of(envelope));
+    }
+
+    @Override
+    public boolean verify(DSSEVerificationContext context) {
+
+        Key key = Key.of(context);
+        Segment segment = this.segments[key.hashCode() & (this.segments.length - 1)];
+
+        long now = this.nanoClock.getAsLong();
+        Boolean cached = segment.get(key, now);
+        if (cached != null) {
+            this.hitCount.increment();
+            return cached;
+        }
+
+        this.missCount.increment();
+        boolean verified = this.delegate.verify(context);
+        // Wraps around like the clock, since expiry is tested on the difference of the two
+        segment.put(key, verified, now + this.timeToLiveNanos);
+        return verified;
+    }
+
+    /**
+     * Retrieves the number of verifications answered from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Retrieves the number of verifications delegated to the decorated policy.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+
+        return this.missCount.sum();
+    }
+
+    /**
+     * Retrieves the number of results currently held by the cache, including expired results not yet evicted.
+     *
+     * @return the number of cached results
+     */
+    public int getSize() {
+
+        int size = 0;
+        for (Segment segment : this.segments) {
+            size += segment.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Removes every cached result. The hit and miss counters are left unchanged.
+     */
+    public void invalidateAll() {
+
+        for (Segment segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    private record Key(byte[] digest) {
+
+        static Key of(DSSEVerificationContext context) {
+
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException ex) {
+                throw new DSSEException(ex.getMessage(), ex);
+            }
+
+            context.getSigningInput().digest(digest);
+            for (DSSESignature signature : context.getSignatures()) {
+                update(digest, signature.keyid());
+                update(digest, signature.sig());
+            }
+
+            return new Key(digest.digest());
+        }
+
+        private static void update(MessageDigest digest, String value) {
+
+            if (value == null) {
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(-1).flip());
+                return;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).flip());
+            digest.update(bytes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+
+            return other instanceof Key key && Arrays.equals(this.digest, key.digest);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return (this.digest[0] & 0xff) << 24 | (this.digest[1] & 0xff) << 16 | (this.digest[2] & 0xff) << 8
+                    | (this.digest[3] & 0xff);
+        }
+
+        @Override
+        public String toString() {
+
+            return "Key[digest=%s]".formatted(DSSEUtils.base64Encode(this.digest));
+        }
+    }
+
+    private record CachedResult(boolean verified, long expiresAt) {
+    }
+
+    private static final class Segment {
+
+        private final Map<Key, CachedResult> entries;
+        private final boolean expiring;
+
+        private Segment(int capacity, boolean expiring) {
+
+            this.expiring = expiring;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, CachedResult> eldest) {
+
+                    return this.size() > capacity;
+                }
+            };
+        }
+
+        private synchronized Boolean get(Key key, long now) {
+
+            CachedResult entry = this.entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (this.expiring && now - entry.expiresAt() >= 0) {
+                this.entries.remove(key);
+                return null;
+            }
+
+            return entry.verified();
+        }
+
+        private synchronized void put(Key key, boolean verified, long expiresAt) {
+
+            this.entries.put(key, new CachedResult(verified, expiresAt));
+        }
+
+        private synchronized int size() {
+
+            return this.entries.size();
+        }
+
+        private synchronized void clear() {
+
+            this.entries.clear();
+        }
+    }
+}
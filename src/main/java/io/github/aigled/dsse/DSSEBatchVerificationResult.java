@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The outcome of the verification of a batch of envelopes by a {@link DSSEBatchVerifier}.
+ *
+ * @param results
+ *         the result of each envelope, in input order
+ * @param elapsed
+ *         the wall-clock time spent verifying the whole batch
+ * @see DSSEBatchVerifier
+ */
+public record DSSEBatchVerificationResult(@NonNull List<EnvelopeResult> results, @NonNull Duration elapsed) {
+
+    /**
+     * Creates a new batch result holding an immutable copy of the provided results.
+     */
+    public DSSEBatchVerificationResult {
+
+        results = List.copyOf(results);
+    }
+
+    /**
+     * Counts the envelopes that were successfully verified.
+     *
+     * @return the number of verified envelopes
+     */
+    public long verifiedCount() {
+
+        return this.results.stream().filter(EnvelopeResult::verified).count();
+    }
+
+    /**
+     * Indicates whether every envelope of the batch was successfully verified. An empty batch is not considered
+     * verified, so that a caller gating on this method does not accept a batch in which nothing was verified.
+     *
+     * @return {@code true} if the batch holds at least one envelope and all were verified, {@code false} otherwise
+     */
+    public boolean allVerified() {
+
+        return !this.results.isEmpty() && this.verifiedCount() == this.results.size();
+    }
+
+    /**
+     * The outcome of the verification of a single envelope of a batch.
+     *
+     * @param index
+     *         the position of the envelope in the input
+     * @param envelope
+     *         the verified envelope; {@code null} if it could not be deserialized
+     * @param verified
+     *         {@code true} if the envelope was successfully verified, {@code false} otherwise
+     * @param error
+     *         the exception raised while deserializing or verifying the envelope; {@code null} if none
+     * @param duration
+     *         the time spent deserializing and verifying the envelope
+     */
+    public record EnvelopeResult(int index, DSSEEnvelope envelope, boolean verified, RuntimeException error,
+                                 @NonNull Duration duration) {
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Verifies batches of {@link DSSEEnvelope} objects against a single {@link DSSEVerificationPolicy}, with bounded
+ * concurrency.
+ * <p>
+ * Each envelope is deserialized, if needed, and verified in its own task, so that the deserialization and
+ * Pre-Authentication Encoding of an envelope overlap with the signature checks of the envelopes before it. At most
+ * {@code maxConcurrency} envelopes are in flight at any time, and the input is consumed lazily. Tasks run in virtual
+ * threads by default, when the runtime supports them.
+ * <p>
+ * The {@code verifyAll} methods collect the result of every envelope, including a reference to the envelope itself,
+ * into a {@link DSSEBatchVerificationResult}. To verify large streams, such as the content of an envelope store,
+ * without retaining their envelopes, the {@code verifyEach} methods hand each result to a consumer instead, in input
+ * order. They hold at most {@code maxConcurrency} pending results, so that a slow envelope holds back the start of
+ * new verifications until its result is delivered.
+ * <p>
+ * A failure to deserialize or verify an envelope is reported in its {@link DSSEBatchVerificationResult.EnvelopeResult}
+ * and does not affect the other envelopes of the batch.
+ *
+ * @see DSSEBatchVerificationResult
+ */
+public class DSSEBatchVerifier {
+
+    private final DSSEVerificationPolicy policy;
+    private final int maxConcurrency;
+    private final Executor executor;
+
+    /**
+     * Constructs a new {@code DSSEBatchVerifier} running verifications in virtual threads when the runtime supports
+     * them, or on the common fork-join pool otherwise.
+     *
+     * @param policy
+     *         the policy each envelope is verified against; must not be null
+     * @param maxConcurrency
+     *         the maximum number of envelopes verified at the same time; must be greater than 0
+     * @throws IllegalArgumentException
+     *         if the specified maximum concurrency is less than or equal to 0
+     */
+    public DSSEBatchVerifier(DSSEVerificationPolicy policy, int maxConcurrency) {
+
+        this(policy, maxConcurrency, DSSEUtils.defaultExecutor());
+    }
+
+    /**
+     * Constructs a new {@code DSSEBatchVerifier} running verifications on the specified executor.
+     *
+     * @param policy
+     *         the policy each envelope is verified against; must not be null
+     * @param maxConcurrency
+     *         the maximum number of envelopes verified at the same time; must be greater than 0
+     * @param executor
+     *         the executor running the verifications; must not be null
+     * @throws IllegalArgumentException
+     *         if the specified maximum concurrency is less than or equal to 0
+     */
+    public DSSEBatchVerifier(@NonNull DSSEVerificationPolicy policy, int maxConcurrency, @NonNull Executor executor) {
+
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be > 0");
+        }
+
+        this.policy = policy;
+        this.maxConcurrency = maxConcurrency;
+        this.executor = executor;
+    }
+
+    /**
+     * Verifies the provided envelopes.
+     *
+     * @param envelopes
+     *         the envelopes to be verified; must not be null
+     * @return the result of each envelope, in input order, and the time spent verifying the batch
+     * @throws DSSEException
+     *         if the calling thread is interrupted while waiting for a verification
+     */
+    public DSSEBatchVerificationResult verifyAll(@NonNull Collection<? extends DSSEEnvelope> envelopes) {
+
+        return this.verifyAll(envelopes.stream());
+    }
+
+    /**
+     * Verifies the envelopes of the provided stream. The stream is consumed lazily, as verification slots become
+     * available.
+     *
+     * @param envelopes
+     *         the envelopes to be verified; must not be null
+     * @return the result of each envelope, in input order, and the time spent verifying the batch
+     * @throws DSSEException
+     *         if the calling thread is interrupted while waiting for a verification
+     */
+    public DSSEBatchVerificationResult verifyAll(@NonNull Stream<? extends DSSEEnvelope> envelopes) {
+
+        return this.collectSources(envelopes, Function.identity());
+    }
+
+    /**
+     * Deserializes and verifies the serialized envelopes of the provided stream. The stream is consumed lazily, as
+     * verification slots become available, and each envelope is deserialized in the task verifying it.
+     *
+     * @param contents
+     *         the serialized envelopes to be verified; must not be null
+     * @param deserializer
+     *         the deserializer used to decode each envelope; must not be null
+     * @return the result of each envelope, in input order, and the time spent verifying the batch
+     * @throws DSSEException
+     *         if the calling thread is interrupted while waiting for a verification
+     */
+    public DSSEBatchVerificationResult verifyAll(@NonNull Stream<String> contents, @NonNull DSSEDeserializer deserializer) {
+
+        return this.collectSources(contents, deserializer::deserialize);
+    }
+
+    /**
+     * Verifies the envelopes of the provided stream, and hands the result of each one to the specified consumer, in
+     * input order, from the calling thread. Neither the envelopes nor their results are retained by the verifier
+     * once delivered, so that streams of any size can be verified.
+     *
+     * @param envelopes
+     *         the envelopes to be verified; must not be null
+     * @param consumer
+     *         the consumer receiving the result of each envelope; must not be null
+     * @throws DSSEException
+     *         if the calling thread is interrupted while waiting for a verification
+     */
+    public void verifyEach(@NonNull Stream<? extends DSSEEnvelope> envelopes,
+                           @NonNull Consumer<? super DSSEBatchVerificationResult.EnvelopeResult> consumer) {
+
+        this.verifySources(envelopes, Function.identity(), consumer);
+    }
+
+    /**
+     * Deserializes and verifies the serialized envelopes of the provided stream, and hands the result of each one to
+     * the specified consumer, in input order, from the calling thread.
+     *
+     * @param contents
+     *         the serialized envelopes to be verified; must not be null
+     * @param deserializer
+     *         the deserializer used to decode each envelope; must not be null
+     * @param consumer
+     *         the consumer receiving the result of each envelope; must not be null
+     * @throws DSSEException
+     *         if the calling thread is interrupted while waiting for a verification
+     * @see #verifyEach(Stream, Consumer)
+     */
+    public void verifyEach(@NonNull Stream<String> contents, @NonNull DSSEDeserializer deserializer,
+                           @NonNull Consumer<? super DSSEBatchVerificationResult.EnvelopeResult> consumer) {
+
+        this.verifySources(contents, deserializer::deserialize, consumer);
+    }
+
+    private <T> DSSEBatchVerificationResult collectSources(Stream<T> sources,
+                                                           Function<? super T, ? extends DSSEEnvelope> loader) {
+
+        long start = System.nanoTime();
+        List<DSSEBatchVerificationResult.EnvelopeResult> results = new ArrayList<>();
+        this.verifySources(sources, loader, results::add);
+        return new DSSEBatchVerificationResult(results, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private <T> void verifySources(Stream<T> sources, Function<? super T, ? extends DSSEEnvelope> loader,
+                                   Consumer<? super DSSEBatchVerificationResult.EnvelopeResult> consumer) {
+
+        // The pending verifications, in input order, whose number bounds both the concurrency and the results held
+        Deque<CompletableFuture<DSSEBatchVerificationResult.EnvelopeResult>> pending = new ArrayDeque<>(this.maxConcurrency);
+
+        Iterator<T> iterator = sources.iterator();
+        try {
+            for (int index = 0; iterator.hasNext(); index++) {
+                if (pending.size() == this.maxConcurrency) {
+                    consumer.accept(await(pending.removeFirst()));
+                }
+
+                T source = iterator.next();
+                int envelopeIndex = index;
+                pending.addLast(CompletableFuture.supplyAsync(() -> this.verifyOne(envelopeIndex, source, loader),
+                                                              this.executor));
+            }
+
+            while (!pending.isEmpty()) {
+                consumer.accept(await(pending.removeFirst()));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DSSEException("Interrupted while verifying envelopes", ex);
+        }
+    }
+
+    private static DSSEBatchVerificationResult.EnvelopeResult await(
+            CompletableFuture<DSSEBatchVerificationResult.EnvelopeResult> verification) throws InterruptedException {
+
+        try {
+            return verification.get();
+        } catch (ExecutionException ex) {
+            // Failures are reported in the results, so that only errors end up here
+            throw new DSSEException("Failed to verify envelope", ex.getCause());
+        }
+    }
+
+    private <T> DSSEBatchVerificationResult.EnvelopeResult verifyOne(int index, T source,
+                                                                     Function<? super T, ? extends DSSEEnvelope> loader) {
+
+        long start = System.nanoTime();
+        DSSEEnvelope envelope = null;
+        try {
+            envelope = loader.apply(source);
+            boolean verified = envelope.verify(this.policy);
+            return new DSSEBatchVerificationResult.EnvelopeResult(index, envelope, verified, null,
+                                                                  Duration.ofNanos(System.nanoTime() - start));
+        } catch (RuntimeException ex) {
+            return new DSSEBatchVerificationResult.EnvelopeResult(index, envelope, false, ex,
+                                                                  Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+}
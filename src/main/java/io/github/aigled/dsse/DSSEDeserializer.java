@@ -8,6 +8,13 @@
 
 package io.github.aigled.dsse;
 
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * A functional interface responsible for deserializing encoded DSSE envelope strings into
  * {@link DSSEEnvelope} objects.
@@ -16,6 +23,10 @@ package io.github.aigled.dsse;
  * which takes an encoded DSSE envelope as input and returns a {@link DSSEEnvelope} object
  * that represents the decoded structure. If deserialization fails due to invalid or malformed
  * input, a {@link DSSEException} is thrown to indicate the error.
+ * <p>
+ * Envelopes received as bytes, for instance from an HTTP body, can be deserialized with the {@code InputStream},
+ * {@code byte[]} and {@code ByteBuffer} overloads. Their default implementations decode the UTF-8 content into a
+ * string; implementations able to parse bytes directly should override them.
  *
  * @see DSSEEnvelope
  * @see DSSEException
@@ -34,4 +45,67 @@ public interface DSSEDeserializer {
      *         if the provided input string is invalid, malformed, or cannot be deserialized
      */
     DSSEEnvelope deserialize(String content) throws DSSEException;
+
+    /**
+     * Deserializes the UTF-8 encoded DSSE envelope held by the specified range of a byte array.
+     *
+     * @param content
+     *         the array holding the serialized DSSE envelope; must not be null
+     * @param offset
+     *         the index of the first byte of the serialized envelope
+     * @param length
+     *         the number of bytes of the serialized envelope
+     * @return a {@link DSSEEnvelope} object representing the deserialized structure of the input
+     * @throws DSSEException
+     *         if the provided input is invalid, malformed, or cannot be deserialized
+     * @throws IndexOutOfBoundsException
+     *         if the range is out of the bounds of the array
+     */
+    default DSSEEnvelope deserialize(byte @NonNull [] content, int offset, int length) throws DSSEException {
+
+        return this.deserialize(new String(content, offset, length, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deserializes the UTF-8 encoded DSSE envelope held by the remaining bytes of the specified buffer.
+     * The position of the buffer is not modified.
+     *
+     * @param content
+     *         the buffer holding the serialized DSSE envelope; must not be null
+     * @return a {@link DSSEEnvelope} object representing the deserialized structure of the input
+     * @throws DSSEException
+     *         if the provided input is invalid, malformed, or cannot be deserialized
+     */
+    default DSSEEnvelope deserialize(@NonNull ByteBuffer content) throws DSSEException {
+
+        if (content.hasArray()) {
+            return this.deserialize(content.array(), content.arrayOffset() + content.position(), content.remaining());
+        }
+
+        byte[] bytes = new byte[content.remaining()];
+        content.duplicate().get(bytes);
+        return this.deserialize(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Deserializes the UTF-8 encoded DSSE envelope read from the specified stream, up to its end.
+     * The stream is not closed.
+     *
+     * @param content
+     *         the stream providing the serialized DSSE envelope; must not be null
+     * @return a {@link DSSEEnvelope} object representing the deserialized structure of the input
+     * @throws DSSEException
+     *         if the stream cannot be read, or if the provided input is invalid, malformed, or cannot be deserialized
+     */
+    default DSSEEnvelope deserialize(@NonNull InputStream content) throws DSSEException {
+
+        byte[] bytes;
+        try {
+            bytes = content.readAllBytes();
+        } catch (IOException ex) {
+            throw new DSSEException(ex.getMessage(), ex);
+        }
+
+        return this.deserialize(bytes, 0, bytes.length);
+    }
 }
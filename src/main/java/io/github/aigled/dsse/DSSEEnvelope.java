@@ -8,12 +8,23 @@
 
 package io.github.aigled.dsse;
 
+import lombok.AccessLevel;
 import lombok.Data;
-import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.Setter;
+import lombok.ToString;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -31,21 +42,42 @@ import java.util.concurrent.atomic.AtomicReference;
  * - VERIFIED: The envelope is signed, and its signature(s) have been successfully verified.
  * <p>
  * Thread-safety:
- * This class is thread-safe for signing and verification operations since these methods are synchronized.
+ * This class is thread-safe, and lock-free: signing and verification do not hold any monitor of the envelope, so that
+ * concurrent verifications of a shared envelope run in parallel. The signatures are held in an immutable list, replaced
+ * by compare-and-set on each new signature, and the state transitions are compare-and-set operations too. A signature
+ * added while a verification is in progress leaves the envelope {@code SIGNED} once both calls returned, the new
+ * signature not being covered by that verification.
  * <p>
  * Note:
- * The payload is expected to be in Base64 format for interoperability with DSSE standards.
+ * The payload is expected to be in Base64 format for interoperability with DSSE standards. An envelope keeps the
+ * representation it was created from, either the serialized body or its Base64 form, and derives the other one lazily
+ * on first use. The derived representation and the hash of the content are then cached, so that an envelope which is
+ * only routed and serialized again is never decoded, and the payload of a decoded envelope is encoded at most once.
  *
  * @see <a href="https://github.com/secure-systems-lab/dsse/blob/master/envelope.md">DSSE Envelope</a>
  * @see <a href="https://github.com/secure-systems-lab/dsse/blob/master/protocol.md">DSSE Protocol</a>
  */
 @Data
-@EqualsAndHashCode(of = {"serializedBody", "payloadType", "signatures"})
 public class DSSEEnvelope {
 
-    private final byte[] serializedBody;
+    // Either representation of the payload may be null until derived from the other one; both are computed
+    // deterministically, so racing threads at worst derive the same value twice
+    @Setter(AccessLevel.NONE)
+    private volatile byte[] serializedBody;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile String encodedPayload;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int contentHash;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private boolean contentHashIsZero;
     private final String payloadType;
-    private final List<DSSESignature> signatures = new ArrayList<>();
+    private final AtomicReference<List<DSSESignature>> signatures = new AtomicReference<>(List.of());
     private final AtomicReference<State> state = new AtomicReference<>();
 
     /**
@@ -64,12 +96,50 @@ public class DSSEEnvelope {
         this.state.set(State.UNSIGNED);
     }
 
+    /**
+     * Constructs a new {@code DSSEEnvelope} without serialized body. Either the encoded payload is set right after,
+     * or the payload is not held on the heap and subclasses using this constructor must override every method
+     * accessing the serialized body.
+     *
+     * @param payloadType
+     *         the type of the payload; must not be null
+     */
+    DSSEEnvelope(@NonNull String payloadType) {
+
+        this.serializedBody = null;
+        this.payloadType = payloadType;
+        this.state.set(State.UNSIGNED);
+    }
+
+    /**
+     * Constructs a new {@code DSSEEnvelope} holding the specified signatures, with either representation of the
+     * payload, for subclasses whose content is fixed at construction.
+     *
+     * @param serializedBody
+     *         the serialized content of the payload; null if the encoded payload is provided
+     * @param encodedPayload
+     *         the canonical Base64 form of the payload; null if the serialized body is provided
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param signatures
+     *         the signatures of the envelope; must not be null
+     */
+    DSSEEnvelope(byte[] serializedBody, String encodedPayload, @NonNull String payloadType,
+                 @NonNull List<DSSESignature> signatures) {
+
+        this.serializedBody = serializedBody;
+        this.encodedPayload = encodedPayload;
+        this.payloadType = payloadType;
+        this.state.set(State.UNSIGNED);
+        this.addSignatures(signatures);
+    }
+
     /**
      * Constructs a new {@code DSSEEnvelope} instance from the specified signed message payload,
-     * payload type, and list of signatures. The payload is Base64-decoded and used to create the
-     * serialized body of the envelope. The provided signatures are added to the envelope's list
-     * of signatures, and the state of the envelope is updated to {@link State#SIGNED} if at least
-     * one signature is provided.
+     * payload type, and list of signatures. A payload in the standard, padded Base64 form is only validated and
+     * decoded on first access to the serialized body, any other payload is decoded right away. The provided
+     * signatures are added to the envelope's list of signatures, and the state of the envelope is updated to
+     * {@link State#SIGNED} if at least one signature is provided.
      *
      * @param payload
      *         the Base64-encoded payload representing the serialized content of the envelope; must not be null
@@ -78,27 +148,114 @@ public class DSSEEnvelope {
      * @param signatures
      *         the list of {@code DSSESignature} objects to include in the envelope; must not be null
      * @return a new {@code DSSEEnvelope} with the specified payload, payload type, and list of signatures
+     * @throws IllegalArgumentException
+     *         if the payload is not valid Base64
      */
     public static DSSEEnvelope ofSignedMessage(@NonNull String payload, @NonNull String payloadType, @NonNull List<DSSESignature> signatures) {
 
-        byte[] serializedBody = DSSEUtils.base64Decode(payload);
-        DSSEEnvelope dsseEnvelope = new DSSEEnvelope(serializedBody, payloadType);
-        dsseEnvelope.signatures.addAll(signatures);
-        if (!signatures.isEmpty()) {
-            dsseEnvelope.state.set(State.SIGNED);
+        if (!DSSEUtils.isCanonicalBase64(payload)) {
+            return DSSEEnvelope.of(DSSEUtils.base64Decode(payload), payloadType, signatures);
         }
 
+        DSSEEnvelope dsseEnvelope = new DSSEEnvelope(payloadType);
+        dsseEnvelope.encodedPayload = payload;
+        dsseEnvelope.addSignatures(signatures);
+        return dsseEnvelope;
+    }
+
+    /**
+     * Constructs a new {@code DSSEEnvelope} instance from the specified serialized body, payload type, and list of
+     * signatures. This is the counterpart of {@link #ofSignedMessage(String, String, List)} for codecs that decode
+     * the payload themselves, for instance straight from their input buffers. The serialized body is not copied.
+     *
+     * @param serializedBody
+     *         the serialized content of the payload; must not be null
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param signatures
+     *         the list of {@code DSSESignature} objects to include in the envelope; must not be null
+     * @return a new {@code DSSEEnvelope} with the specified serialized body, payload type, and list of signatures
+     */
+    public static DSSEEnvelope of(byte @NonNull [] serializedBody, @NonNull String payloadType, @NonNull List<DSSESignature> signatures) {
+
+        DSSEEnvelope dsseEnvelope = new DSSEEnvelope(serializedBody, payloadType);
+        dsseEnvelope.addSignatures(signatures);
         return dsseEnvelope;
     }
 
     /**
-     * Encodes the serialized body of the DSSE envelope into a Base64-encoded string.
+     * Retrieves the serialized body of the DSSE envelope, decoding the payload on first call when the envelope was
+     * created from its Base64 form. The returned array is not copied.
+     *
+     * @return the serialized content of the payload
+     * @throws IllegalArgumentException
+     *         if the Base64 payload the envelope was created from is not valid
+     */
+    public byte[] getSerializedBody() {
+
+        byte[] body = this.serializedBody;
+        if (body == null) {
+            body = DSSEUtils.base64Decode(this.encodedPayload);
+            this.serializedBody = body;
+        }
+
+        return body;
+    }
+
+    /**
+     * Encodes the serialized body of the DSSE envelope into a Base64-encoded string. The encoding is computed on first
+     * call only, and not at all when the envelope was created from its Base64 form.
      *
      * @return the Base64-encoded representation of the serialized body.
      */
     public String getPayload() {
 
-        return DSSEUtils.base64Encode(this.serializedBody);
+        String payload = this.encodedPayload;
+        if (payload == null) {
+            payload = DSSEUtils.base64Encode(this.serializedBody);
+            this.encodedPayload = payload;
+        }
+
+        return payload;
+    }
+
+    /**
+     * Tells whether the Base64 form of the payload is already available, that is whether {@link #getPayload()}
+     * returns without encoding the serialized body. Codecs use it to write the encoded payload as is.
+     *
+     * @return {@code true} if the encoded payload is cached, {@code false} otherwise
+     */
+    public boolean hasEncodedPayload() {
+
+        return this.encodedPayload != null;
+    }
+
+    /**
+     * Retrieves the length of the serialized body of the DSSE envelope, in bytes, without decoding the payload.
+     *
+     * @return the number of bytes of the serialized body
+     */
+    public long getPayloadLength() {
+
+        byte[] body = this.serializedBody;
+        if (body != null) {
+            return body.length;
+        }
+
+        String payload = this.encodedPayload;
+        int padding = payload.endsWith("==") ? 2 : payload.endsWith("=") ? 1 : 0;
+        return payload.length() / 4 * 3L - padding;
+    }
+
+    /**
+     * Opens a stream reading the serialized body of the DSSE envelope, without copying it. This allows codecs to
+     * encode large payloads in chunks, straight into their output.
+     *
+     * @return a new stream over the serialized body
+     */
+    public InputStream newPayloadInputStream() {
+
+        return new ByteArrayInputStream(this.body());
     }
 
     /**
@@ -109,7 +266,7 @@ public class DSSEEnvelope {
      */
     public List<DSSESignature> getSignatures() {
 
-        return List.copyOf(this.signatures);
+        return this.signatures.get();
     }
 
     /**
@@ -121,13 +278,81 @@ public class DSSEEnvelope {
      * @param signer
      *         the {@code DSSESigner} instance responsible for creating the digital signature; must not be null
      */
-    public synchronized void sign(DSSESigner signer) {
+    public void sign(DSSESigner signer) {
 
-        String pae = DSSESignature.createPreAuthenticationEncoding(this.payloadType, this.serializedBody);
-        byte[] signedContent = signer.sign(pae.getBytes());
-        DSSESignature dsseSignature = DSSESignature.of(signer.getKeyId(), signedContent);
-        this.signatures.add(dsseSignature);
-        this.state.set(State.SIGNED);
+        SigningEvent event = new SigningEvent();
+        event.begin();
+        long start = System.nanoTime();
+        byte[] signedContent;
+        try {
+            signedContent = this.createSigningInput().sign(signer);
+        } catch (RuntimeException ex) {
+            String keyId = signer.getKeyId();
+            DSSEMetrics.getListener().onSign(keyId, this.getPayloadLength(), System.nanoTime() - start, ex);
+            event.report(this, keyId, ex);
+            throw ex;
+        }
+        String keyId = signer.getKeyId();
+        DSSEMetrics.getListener().onSign(keyId, this.getPayloadLength(), System.nanoTime() - start, null);
+        event.report(this, keyId, null);
+
+        DSSESignature dsseSignature = DSSESignature.of(keyId, signedContent);
+        this.appendSignatures(List.of(dsseSignature));
+    }
+
+    /**
+     * Co-signs the DSSE envelope with all the provided signers, running them concurrently in virtual threads when the
+     * runtime supports them, or on the common fork-join pool otherwise.
+     *
+     * @param signers
+     *         the signers to sign the envelope with; must not be null
+     * @return the result of each signer, in the iteration order of the signers
+     * @see #signAll(Collection, Executor)
+     */
+    public DSSESigningResult signAll(@NonNull Collection<? extends DSSESigner> signers) {
+
+        return this.signAll(signers, DSSEUtils.defaultExecutor());
+    }
+
+    /**
+     * Co-signs the DSSE envelope with all the provided signers, running them concurrently on the specified executor.
+     * The Pre-Authentication Encoding of the envelope is built once and shared by all the signers, so that remote or
+     * hardware-backed signers wait for their round trips in parallel rather than in a row.
+     * <p>
+     * Once every signer has returned, the signatures of the successful ones are added to the envelope at once, in
+     * the iteration order of the signers, and the state of the envelope is updated to {@code SIGNED} if at least one
+     * signature was added. A signer throwing an exception does not prevent the others from signing: its error is
+     * reported in its result instead.
+     *
+     * @param signers
+     *         the signers to sign the envelope with; must not be null
+     * @param executor
+     *         the executor running the signers; must not be null
+     * @return the result of each signer, in the iteration order of the signers
+     */
+    public DSSESigningResult signAll(@NonNull Collection<? extends DSSESigner> signers, @NonNull Executor executor) {
+
+        long start = System.nanoTime();
+        SigningInput signingInput = this.createSigningInput();
+
+        List<DSSESigner> orderedSigners = List.copyOf(signers);
+        List<CompletableFuture<DSSESigningResult.SignerResult>> signings = new ArrayList<>(orderedSigners.size());
+        for (int index = 0; index < orderedSigners.size(); index++) {
+            int signerIndex = index;
+            DSSESigner signer = orderedSigners.get(index);
+            signings.add(orderedSigners.size() == 1
+                         ? CompletableFuture.completedFuture(this.signOne(signerIndex, signer, signingInput))
+                         : CompletableFuture.supplyAsync(() -> this.signOne(signerIndex, signer, signingInput), executor));
+        }
+
+        List<DSSESigningResult.SignerResult> results = signings.stream()
+                                                               .map(CompletableFuture::join)
+                                                               .toList();
+        this.appendSignatures(results.stream()
+                                     .filter(DSSESigningResult.SignerResult::signed)
+                                     .map(DSSESigningResult.SignerResult::signature)
+                                     .toList());
+        return new DSSESigningResult(results, Duration.ofNanos(System.nanoTime() - start));
     }
 
     /**
@@ -142,21 +367,178 @@ public class DSSEEnvelope {
      * @throws IllegalStateException
      *         if the envelope is not in a signed or verified state prior to verification
      */
-    public synchronized boolean verify(DSSEVerificationPolicy policy) {
+    public boolean verify(DSSEVerificationPolicy policy) {
 
         this.ensureSignedOrVerifiedState();
 
-        boolean verified = policy.verify(this);
-        if (verified) {
-            this.state.set(State.VERIFIED);
+        List<DSSESignature> verifiedSignatures = this.signatures.get();
+        VerificationEvent event = new VerificationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean verified;
+        try {
+            verified = policy.verify(this);
+        } catch (RuntimeException ex) {
+            DSSEMetrics.getListener().onVerify(this.getPayloadLength(), verifiedSignatures.size(), false,
+                                               System.nanoTime() - start, ex);
+            event.report(this, verifiedSignatures, policy, false, ex);
+            throw ex;
+        }
+        DSSEMetrics.getListener().onVerify(this.getPayloadLength(), verifiedSignatures.size(), verified,
+                                           System.nanoTime() - start, null);
+        event.report(this, verifiedSignatures, policy, verified, null);
+
+        if (verified && this.state.compareAndSet(State.SIGNED, State.VERIFIED)
+                && this.signatures.get() != verifiedSignatures) {
+            // A signature was added concurrently, and its state write may have preceded the transition above
+            this.state.compareAndSet(State.VERIFIED, State.SIGNED);
         }
 
         return verified;
     }
 
+    /**
+     * Returns the serialized body without the copy that subclasses may make in {@link #getSerializedBody()}, for
+     * read-only use within the library.
+     */
+    byte[] body() {
+
+        return this.getSerializedBody();
+    }
+
+    /**
+     * Returns views of the serialized body, in order, for subclasses that do not hold it in a single array.
+     */
+    List<ByteBuffer> bodyBuffers() {
+
+        return List.of(ByteBuffer.wrap(this.body()));
+    }
+
+    /**
+     * Computes the hash of the serialized body, which must be that of {@link Arrays#hashCode(byte[])}, so that
+     * envelopes holding equal bodies in different forms have the same hash.
+     */
+    int bodyHash() {
+
+        return Arrays.hashCode(this.body());
+    }
+
+    /**
+     * Returns the serialized body in an array that no one else can modify, copying it only if needed, for
+     * {@link ImmutableDSSEEnvelope#copyOf(DSSEEnvelope)}.
+     */
+    byte[] copyOfBody() {
+
+        return this.body().clone();
+    }
+
+    SigningInput createSigningInput() {
+
+        return SigningInput.of(PreAuthenticationEncoding.encode(this.payloadType, this.body()));
+    }
+
+    /**
+     * Compares the payload type, the signatures and the serialized body of both envelopes. Envelopes both holding
+     * their Base64 form are compared on it, without decoding them.
+     */
+    @Override
+    public boolean equals(Object other) {
+
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DSSEEnvelope envelope)
+                || !this.payloadType.equals(envelope.payloadType)
+                || !this.getSignatures().equals(envelope.getSignatures())) {
+            return false;
+        }
+
+        // The encoding of the serialized body is canonical, so that the Base64 forms are equal if the bodies are
+        String payload = this.encodedPayload;
+        String otherPayload = envelope.encodedPayload;
+        if (payload != null && otherPayload != null) {
+            return payload.equals(otherPayload);
+        }
+
+        return this.contentHash() == envelope.contentHash()
+                && DSSEUtils.contentEquals(this.bodyBuffers(), envelope.bodyBuffers());
+    }
+
+    @Override
+    public int hashCode() {
+
+        int result = this.contentHash();
+        result = 31 * result + this.payloadType.hashCode();
+        return 31 * result + this.getSignatures().hashCode();
+    }
+
+    /**
+     * Returns the hash of the serialized body, computed once. As for {@link String#hashCode()}, the race between
+     * threads computing it is benign.
+     */
+    private int contentHash() {
+
+        int hash = this.contentHash;
+        if (hash == 0 && !this.contentHashIsZero) {
+            hash = this.bodyHash();
+            if (hash == 0) {
+                this.contentHashIsZero = true;
+            } else {
+                this.contentHash = hash;
+            }
+        }
+
+        return hash;
+    }
+
+    private void addSignatures(List<DSSESignature> signatures) {
+
+        this.signatures.set(List.copyOf(signatures));
+        if (!signatures.isEmpty()) {
+            this.state.set(State.SIGNED);
+        }
+    }
+
+    private void appendSignatures(List<DSSESignature> signatures) {
+
+        if (signatures.isEmpty()) {
+            return;
+        }
+
+        this.signatures.getAndUpdate(current -> {
+            List<DSSESignature> appended = new ArrayList<>(current.size() + signatures.size());
+            appended.addAll(current);
+            appended.addAll(signatures);
+            return List.copyOf(appended);
+        });
+        // Any verification that started before these signatures were added no longer covers all the signatures
+        this.state.set(State.SIGNED);
+    }
+
+    private DSSESigningResult.SignerResult signOne(int index, DSSESigner signer, SigningInput signingInput) {
+
+        SigningEvent event = new SigningEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String keyId = null;
+        DSSESignature signature = null;
+        RuntimeException error = null;
+        try {
+            keyId = signer.getKeyId();
+            signature = DSSESignature.of(keyId, signingInput.sign(signer));
+        } catch (RuntimeException ex) {
+            error = ex;
+        }
+
+        long duration = System.nanoTime() - start;
+        DSSEMetrics.getListener().onSign(keyId, this.getPayloadLength(), duration, error);
+        event.report(this, keyId, error);
+        return new DSSESigningResult.SignerResult(index, signer, signature, error, Duration.ofNanos(duration));
+    }
+
     private void ensureSignedOrVerifiedState() {
 
-        if (this.state.get() != State.SIGNED && this.state.get() != State.VERIFIED) {
+        if (this.state.get() == State.UNSIGNED) {
             throw new IllegalStateException("The envelope must be in a signed or verified state");
         }
     }
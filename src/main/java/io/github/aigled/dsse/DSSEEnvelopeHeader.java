@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The header of a serialized DSSE envelope: what can be read from it without decoding its payload or its signatures.
+ * This allows routing or rejecting envelopes on their payload type and key IDs before any cryptography runs.
+ *
+ * @param payloadType
+ *         the type of the payload
+ * @param keyids
+ *         the key ID of each signature, in order; an element is {@code null} for a signature without key ID
+ * @param payloadOffset
+ *         the index in the parsed input of the first byte of the Base64 payload, right after its opening quote
+ * @param payloadLength
+ *         the number of bytes of the Base64 payload in the parsed input, up to its closing quote
+ * @see DSSEHeaderFilter
+ */
+public record DSSEEnvelopeHeader(@NonNull String payloadType, @NonNull List<String> keyids,
+                                 int payloadOffset, int payloadLength) {
+
+    /**
+     * Creates a new header holding an immutable copy of the provided key IDs, which may contain {@code null}.
+     */
+    public DSSEEnvelopeHeader {
+
+        keyids = Collections.unmodifiableList(new ArrayList<>(keyids));
+    }
+}
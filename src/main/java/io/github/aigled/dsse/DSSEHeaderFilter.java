@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Decides, from the header of a serialized envelope only, whether the envelope can possibly be verified. Deserializers
+ * supporting header filters stop parsing as soon as either check fails, so that traffic which no verification policy
+ * would accept is rejected before its payload is decoded and before any signature is checked.
+ * <p>
+ * A filter must never reject an envelope that the verification policy it stands for could accept; it is a cheap
+ * pre-check, not a replacement for the verification.
+ *
+ * @see DSSEEnvelopeHeader
+ * @see ThresholdVerificationPolicy#toHeaderFilter()
+ */
+public interface DSSEHeaderFilter {
+
+    /**
+     * Tells whether envelopes of the specified payload type can be accepted.
+     *
+     * @param payloadType
+     *         the payload type of the envelope
+     * @return {@code false} if the envelope must be rejected, {@code true} otherwise
+     */
+    default boolean acceptsPayloadType(String payloadType) {
+
+        return true;
+    }
+
+    /**
+     * Tells whether envelopes whose signatures have the specified key IDs can be accepted.
+     *
+     * @param keyids
+     *         the key ID of each signature of the envelope, in order; an element is {@code null} for a signature
+     *         without key ID
+     * @return {@code false} if the envelope must be rejected, {@code true} otherwise
+     */
+    default boolean acceptsKeyIds(List<String> keyids) {
+
+        return true;
+    }
+
+    /**
+     * Returns a filter accepting envelopes with signatures from at least {@code threshold} distinct trusted key IDs.
+     * Signatures without key ID are never counted.
+     *
+     * @param threshold
+     *         the minimum number of distinct trusted key IDs; must be greater than 0
+     * @param trustedKeyIds
+     *         the trusted key IDs; must not be null
+     * @return a new filter on the key IDs of the signatures
+     * @throws IllegalArgumentException
+     *         if the specified threshold is less than or equal to 0
+     */
+    static DSSEHeaderFilter trustedKeyIds(int threshold, @NonNull Set<String> trustedKeyIds) {
+
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be > 0");
+        }
+
+        Set<String> keyIds = Set.copyOf(trustedKeyIds);
+        return new DSSEHeaderFilter() {
+
+            @Override
+            public boolean acceptsKeyIds(List<String> keyids) {
+
+                Set<String> trustedSigners = new HashSet<>();
+                for (String keyid : keyids) {
+                    if (keyid != null && keyIds.contains(keyid) && trustedSigners.add(keyid)
+                            && trustedSigners.size() >= threshold) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a filter accepting the envelopes accepted by this filter whose payload type is one of the specified
+     * ones.
+     *
+     * @param payloadTypes
+     *         the accepted payload types; must not be null
+     * @return a new filter also checking the payload type
+     */
+    default DSSEHeaderFilter withPayloadTypes(@NonNull Set<String> payloadTypes) {
+
+        Set<String> acceptedPayloadTypes = Set.copyOf(payloadTypes);
+        DSSEHeaderFilter delegate = this;
+        return new DSSEHeaderFilter() {
+
+            @Override
+            public boolean acceptsPayloadType(String payloadType) {
+
+                return acceptedPayloadTypes.contains(payloadType) && delegate.acceptsPayloadType(payloadType);
+            }
+
+            @Override
+            public boolean acceptsKeyIds(List<String> keyids) {
+
+                return delegate.acceptsKeyIds(keyids);
+            }
+        };
+    }
+}
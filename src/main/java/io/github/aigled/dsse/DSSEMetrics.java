@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link DSSEMetricsListener} receiving the measurements of the library.
+ * <p>
+ * The listener is looked up once, through {@link ServiceLoader}, the first time this class is used: the first
+ * provider found is used, so that a metrics bridge is enabled by adding it to the classpath. Without any provider,
+ * the listener is {@link DSSEMetricsListener#NOOP}, whose cost is that of reading the system clock around each
+ * operation. A listener can also be set programmatically, which replaces the discovered one.
+ * <p>
+ * Thread-safety:
+ * This class is thread-safe; a listener set by a thread is used by the operations that start afterwards.
+ *
+ * @see DSSEMetricsListener
+ */
+@Slf4j
+public final class DSSEMetrics {
+
+    private static volatile DSSEMetricsListener listener = loadListener();
+
+    private DSSEMetrics() {
+
+    }
+
+    /**
+     * Retrieves the active listener.
+     *
+     * @return the active listener, {@link DSSEMetricsListener#NOOP} if none is set
+     */
+    public static DSSEMetricsListener getListener() {
+
+        return listener;
+    }
+
+    /**
+     * Sets the active listener, replacing the one discovered through {@link ServiceLoader}, if any.
+     *
+     * @param listener
+     *         the new listener, or {@link DSSEMetricsListener#NOOP} to disable measurements; must not be null
+     */
+    public static void setListener(@NonNull DSSEMetricsListener listener) {
+
+        DSSEMetrics.listener = listener;
+    }
+
+    private static DSSEMetricsListener loadListener() {
+
+        try {
+            return ServiceLoader.load(DSSEMetricsListener.class, DSSEMetrics.class.getClassLoader())
+                                .findFirst()
+                                .orElse(DSSEMetricsListener.NOOP);
+        } catch (ServiceConfigurationError ex) {
+            log.warn("Failed to load the metrics listener, measurements are disabled", ex);
+            return DSSEMetricsListener.NOOP;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+/**
+ * Receives measurements of the signing, verification and serialization of envelopes, to be bridged to a metrics
+ * backend. Every method does nothing by default, so that implementations override the events they are interested
+ * in only.
+ * <p>
+ * The active listener is held by {@link DSSEMetrics}: the first implementation declared as a
+ * {@link java.util.ServiceLoader} provider of this interface, or the one set through
+ * {@link DSSEMetrics#setListener(DSSEMetricsListener)}, or {@link #NOOP} otherwise.
+ * <p>
+ * Durations are given in nanoseconds, and payload lengths in bytes, so that events are reported without allocating.
+ * Failures are passed as the exception thrown to the caller, whose type tells the reason of the failure.
+ * <p>
+ * Thread-safety:
+ * Implementations must be thread-safe, since events are reported by the threads doing the work, and should return
+ * quickly, for instance by recording into a histogram. They must not throw exceptions, which would be propagated to
+ * the caller of the measured operation.
+ *
+ * @see DSSEMetrics
+ */
+public interface DSSEMetricsListener {
+
+    /**
+     * A listener ignoring every event.
+     */
+    DSSEMetricsListener NOOP = new DSSEMetricsListener() {
+
+    };
+
+    /**
+     * Called once an envelope has been signed by a signer, or has failed to, through {@link DSSEEnvelope#sign} or
+     * {@link DSSEEnvelope#signAll}.
+     *
+     * @param keyId
+     *         the key ID of the signer, possibly {@code null}
+     * @param payloadLength
+     *         the length of the payload of the envelope
+     * @param durationNanos
+     *         the time taken to sign, including the Pre-Authentication Encoding when it is built for this signer only
+     * @param failure
+     *         the exception thrown by the signer, or {@code null} if the envelope was signed
+     */
+    default void onSign(String keyId, long payloadLength, long durationNanos, RuntimeException failure) {
+
+    }
+
+    /**
+     * Called once an envelope has been verified against a policy, through {@link DSSEEnvelope#verify}.
+     *
+     * @param payloadLength
+     *         the length of the payload of the envelope
+     * @param signatureCount
+     *         the number of signatures of the envelope
+     * @param verified
+     *         whether the policy verified the envelope; {@code false} if it failed
+     * @param durationNanos
+     *         the time taken by the policy
+     * @param failure
+     *         the exception thrown by the policy, or {@code null} if it returned
+     */
+    default void onVerify(long payloadLength, int signatureCount, boolean verified, long durationNanos,
+                          RuntimeException failure) {
+
+    }
+
+    /**
+     * Called by {@link ThresholdVerificationPolicy} once a signature has been checked against its candidate
+     * verifiers.
+     *
+     * @param keyId
+     *         the key ID of the signature, possibly {@code null}
+     * @param outcome
+     *         the outcome of the check
+     * @param verifiersTried
+     *         the number of verifiers the signature was checked with
+     * @param durationNanos
+     *         the time taken to check the signature
+     */
+    default void onSignatureCheck(String keyId, SignatureOutcome outcome, int verifiersTried, long durationNanos) {
+
+    }
+
+    /**
+     * Called by {@link ThresholdVerificationPolicy} once it has decided whether an envelope reaches its threshold.
+     * Signatures left unchecked once the decision is made, or whose concurrent check had not completed, are not
+     * counted as tried.
+     *
+     * @param threshold
+     *         the threshold of the policy
+     * @param signatureCount
+     *         the number of signatures of the envelope
+     * @param signaturesTried
+     *         the number of signatures checked before the decision
+     * @param signaturesMatched
+     *         the number of checked signatures recognized by a trusted verifier
+     * @param verified
+     *         whether the threshold was reached
+     */
+    default void onThresholdVerification(int threshold, int signatureCount, int signaturesTried, int signaturesMatched,
+                                         boolean verified) {
+
+    }
+
+    /**
+     * Called when a verifier rejects a signature that it cannot even parse, such as a truncated DER-encoded ECDSA
+     * signature, rather than one that does not match the content.
+     *
+     * @param keyId
+     *         the key ID of the verifier, possibly {@code null}
+     * @param cause
+     *         the exception raised by the signature engine
+     */
+    default void onMalformedSignature(String keyId, Exception cause) {
+
+    }
+
+    /**
+     * Called once a codec has serialized or deserialized an envelope, or has failed to.
+     *
+     * @param operation
+     *         whether the envelope was serialized or deserialized
+     * @param codec
+     *         the simple name of the codec class
+     * @param payloadLength
+     *         the length of the payload of the envelope, or {@code -1} if deserialization failed
+     * @param durationNanos
+     *         the time taken by the codec
+     * @param failure
+     *         the exception thrown by the codec, or {@code null} if it succeeded
+     */
+    default void onCodec(CodecOperation operation, String codec, long payloadLength, long durationNanos,
+                         RuntimeException failure) {
+
+    }
+
+    /**
+     * The outcome of the check of a signature.
+     */
+    enum SignatureOutcome {
+
+        /**
+         * A trusted verifier recognized the signature.
+         */
+        MATCHED,
+
+        /**
+         * None of the candidate verifiers recognized the signature.
+         */
+        NOT_MATCHED,
+
+        /**
+         * No trusted verifier has the key ID of the signature, which was therefore not checked.
+         */
+        UNKNOWN_KEY_ID,
+
+        /**
+         * The check threw an exception, for instance because the signature is not valid Base64.
+         */
+        FAILED
+    }
+
+    /**
+     * The operations of a codec.
+     */
+    enum CodecOperation {
+
+        SERIALIZE,
+
+        DESERIALIZE
+    }
+}
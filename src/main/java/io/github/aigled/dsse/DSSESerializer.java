@@ -8,6 +8,14 @@
 
 package io.github.aigled.dsse;
 
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Functional interface responsible for serializing {@link DSSEEnvelope} objects into their string representations.
  * Implementations of this interface provide mechanisms to convert a DSSE envelope into a serialized format,
@@ -15,6 +23,10 @@ package io.github.aigled.dsse;
  * <p>
  * The serialization process translates the {@link DSSEEnvelope} instance into an intermediary format that
  * can be stored or transmitted, ensuring a faithful representation of the envelope's data.
+ * <p>
+ * Envelopes written to files or sockets can be serialized with the {@code OutputStream} and
+ * {@code WritableByteChannel} overloads. Their default implementations write the UTF-8 bytes of the string
+ * representation; implementations able to stream the envelope should override them.
  *
  * @see DSSEEnvelope
  * @see DSSEException
@@ -34,4 +46,42 @@ public interface DSSESerializer {
      *         if an error occurs during the serialization process
      */
     String serialize(DSSEEnvelope envelope) throws DSSEException;
+
+    /**
+     * Serializes the given {@link DSSEEnvelope} into the specified stream, as UTF-8 bytes.
+     * The stream is flushed, but not closed.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @param output
+     *         the stream receiving the serialized envelope; must not be null
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the stream cannot be written
+     */
+    default void serialize(DSSEEnvelope envelope, @NonNull OutputStream output) throws DSSEException {
+
+        byte[] serializedEnvelope = this.serialize(envelope).getBytes(StandardCharsets.UTF_8);
+        try {
+            output.write(serializedEnvelope);
+            output.flush();
+        } catch (IOException ex) {
+            throw new DSSEException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Serializes the given {@link DSSEEnvelope} into the specified channel, as UTF-8 bytes.
+     * The channel is not closed.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @param output
+     *         the channel receiving the serialized envelope; must not be null
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the channel cannot be written
+     */
+    default void serialize(DSSEEnvelope envelope, @NonNull WritableByteChannel output) throws DSSEException {
+
+        this.serialize(envelope, Channels.newOutputStream(output));
+    }
 }
@@ -10,8 +10,6 @@ package io.github.aigled.dsse;
 
 import lombok.NonNull;
 
-import java.nio.charset.StandardCharsets;
-
 /**
  * Represents a DSSE (Dead Simple Signing Envelope) signature.
  * This class encapsulates the signature and associated key identifier,
@@ -26,11 +24,6 @@ import java.nio.charset.StandardCharsets;
  */
 public record DSSESignature(String keyid, @NonNull String sig) {
 
-    /**
-     * Pre-Authentication Encoding format
-     */
-    private static final String PAE_FORMAT = "DSSEv1 %d %s %d %s";
-
     /**
      * Creates a new instance of {@link DSSESignature} using the provided key identifier and raw signature bytes.
      * The signature bytes are encoded in Base64 format before being used to construct the {@code DSSESignature}.
@@ -49,14 +42,9 @@ public record DSSESignature(String keyid, @NonNull String sig) {
         return new DSSESignature(keyid, sig);
     }
 
-    static String createPreAuthenticationEncoding(String payloadType, byte[] payload) {
-
-        return PAE_FORMAT.formatted(payloadType.length(), payloadType, payload.length, new String(payload, StandardCharsets.UTF_8));
-    }
-
-    boolean verify(DSSEVerifier verifier, String pae) {
+    boolean verify(DSSEVerifier verifier, SigningInput signingInput) {
 
-        return verifier.verify(pae.getBytes(), this.getDecodedSig());
+        return signingInput.verify(verifier, this.getDecodedSig());
     }
 
     /**
@@ -64,7 +52,7 @@ public record DSSESignature(String keyid, @NonNull String sig) {
      *
      * @see <a href="https://github.com/secure-systems-lab/dsse/blob/master/protocol.md#protocol">Protocol</a>
      */
-    private byte[] getDecodedSig() {
+    byte[] getDecodedSig() {
 
         try {
             return DSSEUtils.base64Decode(this.sig);
@@ -8,13 +8,26 @@
 
 package io.github.aigled.dsse;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
 /**
  * Represents the behavior required for signing data within the DSSE (Dead Simple Signing Envelope) framework.
  * Implementations of this interface provide mechanisms to sign content using specific cryptographic algorithms.
  * <p>
  * The signing process ensures the integrity and authenticity of the DSSE envelope by creating a digital
  * signature over the Pre-Authentication Encoding (PAE) of the payload.
+ * <p>
+ * Besides the mandatory {@link #sign(byte[])} method, signers may be fed with streaming inputs, so that large
+ * payloads never need to be held in a single array. The default implementations of the streaming variants buffer
+ * the whole input and delegate to {@link #sign(byte[])}; implementations backed by an incremental signature engine
+ * should override them.
  *
+ * @see PreAuthenticationEncoding
  * @see DSSEEnvelope
  * @see DSSESignature
  */
@@ -37,4 +50,54 @@ public interface DSSESigner {
      * @return the digital signature in byte array format produced for the given input
      */
     byte[] sign(byte[] signingInput);
+
+    /**
+     * Signs all the bytes read from the provided input stream, until the end of the stream is reached.
+     * The stream is not closed by this method.
+     *
+     * @param signingInput
+     *         the stream providing the data to be signed, typically the PAE header followed by the payload
+     * @return the digital signature in byte array format produced for the given input
+     * @throws DSSEException
+     *         if the input cannot be read
+     * @see PreAuthenticationEncoding#stream(String, long, InputStream)
+     */
+    default byte[] sign(InputStream signingInput) {
+
+        try {
+            return this.sign(signingInput.readAllBytes());
+        } catch (IOException ex) {
+            throw new DSSEException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Signs all the bytes read from the provided channel, until the end of the channel is reached.
+     * The channel is not closed by this method.
+     *
+     * @param signingInput
+     *         the channel providing the data to be signed, typically the PAE header followed by the payload
+     * @return the digital signature in byte array format produced for the given input
+     * @throws DSSEException
+     *         if the input cannot be read
+     * @see PreAuthenticationEncoding#channel(String, long, ReadableByteChannel)
+     */
+    default byte[] sign(ReadableByteChannel signingInput) {
+
+        return this.sign(Channels.newInputStream(signingInput));
+    }
+
+    /**
+     * Signs the concatenation of the remaining bytes of the provided buffers, in order.
+     * The positions of the buffers are left unchanged.
+     *
+     * @param signingInput
+     *         the buffers holding the data to be signed, typically the PAE header followed by the payload
+     * @return the digital signature in byte array format produced for the given input
+     * @see PreAuthenticationEncoding#buffers(String, List)
+     */
+    default byte[] sign(List<ByteBuffer> signingInput) {
+
+        return this.sign(DSSEUtils.concat(signingInput));
+    }
 }
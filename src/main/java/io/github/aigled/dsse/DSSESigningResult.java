@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The outcome of the co-signing of an envelope by several signers, see {@link DSSEEnvelope#signAll(java.util.Collection)}.
+ *
+ * @param results
+ *         the result of each signer, in the iteration order of the signers
+ * @param elapsed
+ *         the wall-clock time spent signing the envelope with all the signers
+ * @see DSSEEnvelope#signAll(java.util.Collection)
+ */
+public record DSSESigningResult(@NonNull List<SignerResult> results, @NonNull Duration elapsed) {
+
+    /**
+     * Creates a new signing result holding an immutable copy of the provided results.
+     */
+    public DSSESigningResult {
+
+        results = List.copyOf(results);
+    }
+
+    /**
+     * Counts the signers whose signature was added to the envelope.
+     *
+     * @return the number of added signatures
+     */
+    public long signedCount() {
+
+        return this.results.stream().filter(SignerResult::signed).count();
+    }
+
+    /**
+     * Indicates whether every signer added its signature to the envelope.
+     *
+     * @return {@code true} if no signer failed, {@code false} otherwise
+     */
+    public boolean allSigned() {
+
+        return this.signedCount() == this.results.size();
+    }
+
+    /**
+     * The outcome of the signing of an envelope by a single signer.
+     *
+     * @param index
+     *         the position of the signer in the input
+     * @param signer
+     *         the signer
+     * @param signature
+     *         the signature added to the envelope; {@code null} if the signer failed
+     * @param error
+     *         the exception raised by the signer; {@code null} if none
+     * @param duration
+     *         the time spent by the signer
+     */
+    public record SignerResult(int index, @NonNull DSSESigner signer, DSSESignature signature, RuntimeException error,
+                               @NonNull Duration duration) {
+
+        /**
+         * Indicates whether the signature of this signer was added to the envelope.
+         *
+         * @return {@code true} if the signer succeeded, {@code false} otherwise
+         */
+        public boolean signed() {
+
+            return this.signature != null;
+        }
+    }
+}
@@ -10,24 +10,555 @@ package io.github.aigled.dsse;
 
 import lombok.NoArgsConstructor;
 
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
+/**
+ * Utility methods shared by the DSSE implementation.
+ * <p>
+ * The Base64 methods are public, so that codecs can encode and decode payloads and signatures straight from and into
+ * their own buffers. Decoding accepts both the standard and the URL-safe alphabets, with or without padding, in a
+ * single pass: the alphabet is detected while decoding, and no exception is involved unless the input is invalid.
+ * Mixing both alphabets in the same input is an error. Encoding always uses the standard alphabet, with padding.
+ */
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
-final class DSSEUtils {
+public final class DSSEUtils {
+
+    private static final byte[] ENCODE_TABLE =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+    private static final int[] DECODE_TABLE = new int[256];
+    // Bit set for characters specific to the standard (1) or to the URL-safe (2) alphabet
+    private static final byte[] ALPHABET_TABLE = new byte[256];
+    private static final int STANDARD_ALPHABET = 1;
+    private static final int URL_SAFE_ALPHABET = 2;
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        for (int i = 0; i < ENCODE_TABLE.length; i++) {
+            DECODE_TABLE[ENCODE_TABLE[i]] = i;
+        }
+        DECODE_TABLE['-'] = 62;
+        DECODE_TABLE['_'] = 63;
+        ALPHABET_TABLE['+'] = STANDARD_ALPHABET;
+        ALPHABET_TABLE['/'] = STANDARD_ALPHABET;
+        ALPHABET_TABLE['-'] = URL_SAFE_ALPHABET;
+        ALPHABET_TABLE['_'] = URL_SAFE_ALPHABET;
+    }
+
+    /**
+     * Encodes the specified bytes using the standard Base64 alphabet, with padding.
+     *
+     * @param src
+     *         the bytes to encode; must not be null
+     * @return the Base64-encoded string
+     */
+    public static String base64Encode(byte[] src) {
+
+        return Base64.getEncoder().encodeToString(src);
+    }
+
+    /**
+     * Encodes the specified range of bytes using the standard Base64 alphabet, with padding.
+     *
+     * @param src
+     *         the array holding the bytes to encode; must not be null
+     * @param offset
+     *         the index of the first byte to encode
+     * @param length
+     *         the number of bytes to encode
+     * @return the Base64-encoded string
+     * @throws IndexOutOfBoundsException
+     *         if the range is out of the bounds of the array
+     */
+    public static String base64Encode(byte[] src, int offset, int length) {
+
+        byte[] encoded = new byte[Math.toIntExact(base64EncodedLength(length))];
+        base64Encode(src, offset, length, encoded, 0);
+        return new String(encoded, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Encodes the specified range of bytes using the standard Base64 alphabet, with padding, into the specified array.
+     *
+     * @param src
+     *         the array holding the bytes to encode; must not be null
+     * @param srcOffset
+     *         the index of the first byte to encode
+     * @param length
+     *         the number of bytes to encode
+     * @param dst
+     *         the array receiving the encoded bytes; must not be null
+     * @param dstOffset
+     *         the index of the first encoded byte in the destination array
+     * @return the number of encoded bytes written, see {@link #base64EncodedLength(long)}
+     * @throws IndexOutOfBoundsException
+     *         if either range is out of the bounds of its array
+     */
+    public static int base64Encode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+
+        int encodedLength = Math.toIntExact(base64EncodedLength(length));
+        Objects.checkFromIndexSize(srcOffset, length, src.length);
+        Objects.checkFromIndexSize(dstOffset, encodedLength, dst.length);
+
+        int s = srcOffset;
+        int d = dstOffset;
+        int fullEnd = srcOffset + length / 3 * 3;
+        while (s < fullEnd) {
+            int bits = (src[s++] & 0xff) << 16 | (src[s++] & 0xff) << 8 | (src[s++] & 0xff);
+            dst[d++] = ENCODE_TABLE[bits >>> 18];
+            dst[d++] = ENCODE_TABLE[(bits >>> 12) & 0x3f];
+            dst[d++] = ENCODE_TABLE[(bits >>> 6) & 0x3f];
+            dst[d++] = ENCODE_TABLE[bits & 0x3f];
+        }
+
+        int remaining = srcOffset + length - s;
+        if (remaining > 0) {
+            int bits = (src[s] & 0xff) << 16 | (remaining == 2 ? (src[s + 1] & 0xff) << 8 : 0);
+            dst[d++] = ENCODE_TABLE[bits >>> 18];
+            dst[d++] = ENCODE_TABLE[(bits >>> 12) & 0x3f];
+            dst[d++] = remaining == 2 ? ENCODE_TABLE[(bits >>> 6) & 0x3f] : (byte) '=';
+            dst[d] = '=';
+        }
+
+        return encodedLength;
+    }
+
+    /**
+     * Computes the length of the padded Base64 encoding of the specified number of bytes.
+     *
+     * @param length
+     *         the number of bytes to encode
+     * @return the number of encoded bytes
+     */
+    public static long base64EncodedLength(long length) {
+
+        return 4 * ((length + 2) / 3);
+    }
+
+    /**
+     * Decodes the specified Base64 string, in the standard or the URL-safe alphabet, with or without padding.
+     *
+     * @param src
+     *         the Base64 string to decode; must not be null
+     * @return the decoded bytes
+     * @throws IllegalArgumentException
+     *         if the string is not valid Base64
+     */
+    public static byte[] base64Decode(String src) {
+
+        // Decodes the characters in place, rather than a copy of the string as bytes
+        int length = src.length();
+        int padding = length == 0 || src.charAt(length - 1) != '=' ? 0
+                : length == 1 || src.charAt(length - 2) != '=' ? 1 : 2;
+        byte[] dst = new byte[decodedLength(length, padding)];
+
+        int s = 0;
+        int d = 0;
+        int alphabets = 0;
+        int dataEnd = (dst.length / 3) * 4;
+        while (s < dataEnd) {
+            int c0 = latin1(src.charAt(s));
+            int c1 = latin1(src.charAt(s + 1));
+            int c2 = latin1(src.charAt(s + 2));
+            int c3 = latin1(src.charAt(s + 3));
+            int b0 = DECODE_TABLE[c0];
+            int b1 = DECODE_TABLE[c1];
+            int b2 = DECODE_TABLE[c2];
+            int b3 = DECODE_TABLE[c3];
+            if ((b0 | b1 | b2 | b3) < 0) {
+                throw illegalCharacter(src, s, 4);
+            }
+            alphabets |= ALPHABET_TABLE[c0] | ALPHABET_TABLE[c1] | ALPHABET_TABLE[c2] | ALPHABET_TABLE[c3];
+
+            int bits = b0 << 18 | b1 << 12 | b2 << 6 | b3;
+            dst[d++] = (byte) (bits >> 16);
+            dst[d++] = (byte) (bits >> 8);
+            dst[d++] = (byte) bits;
+            s += 4;
+        }
+
+        int remaining = dst.length % 3;
+        if (remaining > 0) {
+            int c0 = latin1(src.charAt(s));
+            int c1 = latin1(src.charAt(s + 1));
+            int c2 = remaining == 2 ? latin1(src.charAt(s + 2)) : 'A';
+            int b0 = DECODE_TABLE[c0];
+            int b1 = DECODE_TABLE[c1];
+            int b2 = DECODE_TABLE[c2];
+            if ((b0 | b1 | b2) < 0) {
+                throw illegalCharacter(src, s, remaining + 1);
+            }
+            alphabets |= ALPHABET_TABLE[c0] | ALPHABET_TABLE[c1] | ALPHABET_TABLE[c2];
+
+            int bits = b0 << 18 | b1 << 12 | b2 << 6;
+            dst[d++] = (byte) (bits >> 16);
+            if (remaining == 2) {
+                dst[d] = (byte) (bits >> 8);
+            }
+        }
+
+        if (alphabets == (STANDARD_ALPHABET | URL_SAFE_ALPHABET)) {
+            throw mixedAlphabets();
+        }
+
+        return dst;
+    }
+
+    /**
+     * Decodes the specified range of Base64 bytes, in the standard or the URL-safe alphabet, with or without padding.
+     *
+     * @param src
+     *         the array holding the Base64 bytes to decode; must not be null
+     * @param offset
+     *         the index of the first byte to decode
+     * @param length
+     *         the number of bytes to decode
+     * @return the decoded bytes, in an exactly-sized array
+     * @throws IllegalArgumentException
+     *         if the range is not valid Base64
+     * @throws IndexOutOfBoundsException
+     *         if the range is out of the bounds of the array
+     */
+    public static byte[] base64Decode(byte[] src, int offset, int length) {
+
+        byte[] decoded = new byte[base64DecodedLength(src, offset, length)];
+        base64Decode(src, offset, length, decoded, 0);
+        return decoded;
+    }
+
+    /**
+     * Decodes the remaining bytes of the specified buffer, in the standard or the URL-safe alphabet, with or without
+     * padding. The position of the buffer is not modified.
+     *
+     * @param src
+     *         the buffer holding the Base64 bytes to decode; must not be null
+     * @return the decoded bytes, in an exactly-sized array
+     * @throws IllegalArgumentException
+     *         if the content of the buffer is not valid Base64
+     */
+    public static byte[] base64Decode(ByteBuffer src) {
+
+        if (src.hasArray()) {
+            return base64Decode(src.array(), src.arrayOffset() + src.position(), src.remaining());
+        }
+
+        byte[] encoded = new byte[src.remaining()];
+        src.duplicate().get(encoded);
+        return base64Decode(encoded, 0, encoded.length);
+    }
+
+    /**
+     * Decodes the specified range of Base64 bytes, in the standard or the URL-safe alphabet, with or without padding,
+     * into the specified array. Use {@link #base64DecodedLength(byte[], int, int)} to size the destination.
+     *
+     * @param src
+     *         the array holding the Base64 bytes to decode; must not be null
+     * @param srcOffset
+     *         the index of the first byte to decode
+     * @param length
+     *         the number of bytes to decode
+     * @param dst
+     *         the array receiving the decoded bytes; must not be null
+     * @param dstOffset
+     *         the index of the first decoded byte in the destination array
+     * @return the number of decoded bytes written
+     * @throws IllegalArgumentException
+     *         if the range is not valid Base64
+     * @throws IndexOutOfBoundsException
+     *         if either range is out of the bounds of its array
+     */
+    public static int base64Decode(byte[] src, int srcOffset, int length, byte[] dst, int dstOffset) {
+
+        int decodedLength = base64DecodedLength(src, srcOffset, length);
+        Objects.checkFromIndexSize(dstOffset, decodedLength, dst.length);
+
+        int s = srcOffset;
+        int d = dstOffset;
+        int alphabets = 0;
+        int dataEnd = srcOffset + (decodedLength / 3) * 4;
+        while (s < dataEnd) {
+            int c0 = src[s] & 0xff;
+            int c1 = src[s + 1] & 0xff;
+            int c2 = src[s + 2] & 0xff;
+            int c3 = src[s + 3] & 0xff;
+            int b0 = DECODE_TABLE[c0];
+            int b1 = DECODE_TABLE[c1];
+            int b2 = DECODE_TABLE[c2];
+            int b3 = DECODE_TABLE[c3];
+            if ((b0 | b1 | b2 | b3) < 0) {
+                throw illegalCharacter(src, s, 4);
+            }
+            alphabets |= ALPHABET_TABLE[c0] | ALPHABET_TABLE[c1] | ALPHABET_TABLE[c2] | ALPHABET_TABLE[c3];
+
+            int bits = b0 << 18 | b1 << 12 | b2 << 6 | b3;
+            dst[d++] = (byte) (bits >> 16);
+            dst[d++] = (byte) (bits >> 8);
+            dst[d++] = (byte) bits;
+            s += 4;
+        }
+
+        int remaining = decodedLength % 3;
+        if (remaining > 0) {
+            int c0 = src[s] & 0xff;
+            int c1 = src[s + 1] & 0xff;
+            int c2 = remaining == 2 ? src[s + 2] & 0xff : 'A';
+            int b0 = DECODE_TABLE[c0];
+            int b1 = DECODE_TABLE[c1];
+            int b2 = DECODE_TABLE[c2];
+            if ((b0 | b1 | b2) < 0) {
+                throw illegalCharacter(src, s, remaining + 1);
+            }
+            alphabets |= ALPHABET_TABLE[c0] | ALPHABET_TABLE[c1] | ALPHABET_TABLE[c2];
+
+            int bits = b0 << 18 | b1 << 12 | b2 << 6;
+            dst[d++] = (byte) (bits >> 16);
+            if (remaining == 2) {
+                dst[d] = (byte) (bits >> 8);
+            }
+        }
+
+        if (alphabets == (STANDARD_ALPHABET | URL_SAFE_ALPHABET)) {
+            throw mixedAlphabets();
+        }
+
+        return decodedLength;
+    }
+
+    /**
+     * Computes the number of bytes decoded from the specified range of Base64 bytes, from its length and padding.
+     * The characters themselves are only checked when decoding.
+     *
+     * @param src
+     *         the array holding the Base64 bytes; must not be null
+     * @param offset
+     *         the index of the first Base64 byte
+     * @param length
+     *         the number of Base64 bytes
+     * @return the number of decoded bytes
+     * @throws IllegalArgumentException
+     *         if the length or the padding of the range is not valid
+     * @throws IndexOutOfBoundsException
+     *         if the range is out of the bounds of the array
+     */
+    public static int base64DecodedLength(byte[] src, int offset, int length) {
+
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        int end = offset + length;
+        int padding = length == 0 || src[end - 1] != '=' ? 0 : length == 1 || src[end - 2] != '=' ? 1 : 2;
+        return decodedLength(length, padding);
+    }
+
+    private static int decodedLength(int length, int padding) {
+
+        int dataLength = length - padding;
+        if (padding > 0 && length % 4 != 0) {
+            throw new IllegalArgumentException("Input byte array has incorrect ending byte at " + dataLength);
+        }
+
+        int remainder = dataLength % 4;
+        if (remainder == 1) {
+            throw new IllegalArgumentException("Last unit does not have enough valid bits");
+        }
+
+        return dataLength / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * Tells whether the specified string is exactly what {@link #base64Encode(byte[])} produces for some bytes: the
+     * standard alphabet, with padding, and no stray bits in the last character before the padding. Such a string can
+     * be kept in place of the bytes it encodes.
+     */
+    static boolean isCanonicalBase64(String src) {
+
+        int length = src.length();
+        if (length % 4 != 0) {
+            return false;
+        }
+
+        int padding = length == 0 || src.charAt(length - 1) != '=' ? 0 : src.charAt(length - 2) != '=' ? 1 : 2;
+        int dataLength = length - padding;
+        for (int i = 0; i < dataLength; i++) {
+            char c = src.charAt(i);
+            if (c >= DECODE_TABLE.length || DECODE_TABLE[c] < 0 || ALPHABET_TABLE[c] == URL_SAFE_ALPHABET) {
+                return false;
+            }
+        }
+
+        return padding == 0 || (DECODE_TABLE[src.charAt(dataLength - 1)] & (padding == 1 ? 0x03 : 0x0f)) == 0;
+    }
+
+    /**
+     * Maps the characters outside of Latin-1 to a character which is not part of any Base64 alphabet.
+     */
+    private static int latin1(char c) {
+
+        return c < DECODE_TABLE.length ? c : 0;
+    }
+
+    private static IllegalArgumentException illegalCharacter(String src, int offset, int length) {
+
+        for (int i = offset; i < offset + length; i++) {
+            if (DECODE_TABLE[latin1(src.charAt(i))] < 0) {
+                return new IllegalArgumentException("Illegal base64 character " + Integer.toString(src.charAt(i), 16));
+            }
+        }
+
+        return new IllegalArgumentException("Illegal base64 input");
+    }
+
+    private static IllegalArgumentException mixedAlphabets() {
+
+        return new IllegalArgumentException("Input mixes the standard and URL-safe base64 alphabets");
+    }
+
+    private static IllegalArgumentException illegalCharacter(byte[] src, int offset, int length) {
+
+        for (int i = offset; i < offset + length; i++) {
+            if (DECODE_TABLE[src[i] & 0xff] < 0) {
+                return new IllegalArgumentException("Illegal base64 character " + Integer.toString(src[i], 16));
+            }
+        }
+
+        return new IllegalArgumentException("Illegal base64 input");
+    }
+
+    static byte[] concat(List<ByteBuffer> buffers) {
+
+        long length = 0;
+        for (ByteBuffer buffer : buffers) {
+            length += buffer.remaining();
+        }
+
+        ByteBuffer concatenation = ByteBuffer.allocate(Math.toIntExact(length));
+        for (ByteBuffer buffer : buffers) {
+            concatenation.put(buffer.duplicate());
+        }
+
+        return concatenation.array();
+    }
+
+    /**
+     * Compares the remaining content of the specified lists of buffers as two byte sequences, however they are split
+     * into buffers, without copying it. The positions of the buffers are left unchanged.
+     */
+    static boolean contentEquals(List<ByteBuffer> first, List<ByteBuffer> second) {
+
+        ByteBuffer left = ByteBuffer.allocate(0);
+        ByteBuffer right = ByteBuffer.allocate(0);
+        int leftIndex = 0;
+        int rightIndex = 0;
+        while (true) {
+            while (!left.hasRemaining() && leftIndex < first.size()) {
+                left = first.get(leftIndex++).duplicate();
+            }
+            while (!right.hasRemaining() && rightIndex < second.size()) {
+                right = second.get(rightIndex++).duplicate();
+            }
+            if (!left.hasRemaining() || !right.hasRemaining()) {
+                return left.hasRemaining() == right.hasRemaining();
+            }
+
+            int length = Math.min(left.remaining(), right.remaining());
+            if (!left.slice(left.position(), length).equals(right.slice(right.position(), length))) {
+                return false;
+            }
+            left.position(left.position() + length);
+            right.position(right.position() + length);
+        }
+    }
+
+    /**
+     * Computes the hash of the remaining content of the specified buffers, without copying it. The hash is that of
+     * {@link java.util.Arrays#hashCode(byte[])} applied to their concatenation.
+     */
+    static int contentHash(List<ByteBuffer> buffers) {
+
+        int hash = 1;
+        for (ByteBuffer buffer : buffers) {
+            for (int i = buffer.position(); i < buffer.limit(); i++) {
+                hash = 31 * hash + buffer.get(i);
+            }
+        }
+
+        return hash;
+    }
 
-    static String base64Encode(byte[] src) {
+    /**
+     * Returns a stream reading the remaining content of the specified buffers in order, without copying it. The
+     * positions of the buffers are left unchanged.
+     */
+    static InputStream newInputStream(List<ByteBuffer> buffers) {
 
-        byte[] base64SerializedBody = Base64.getEncoder().encode(src);
-        return new String(base64SerializedBody, StandardCharsets.UTF_8);
+        List<ByteBuffer> remaining = buffers.stream().map(ByteBuffer::duplicate).toList();
+        return new InputStream() {
+
+            private int index;
+
+            @Override
+            public int read() {
+
+                ByteBuffer buffer = this.current();
+                return buffer != null ? buffer.get() & 0xff : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+
+                Objects.checkFromIndexSize(off, len, b.length);
+                if (len == 0) {
+                    return 0;
+                }
+
+                ByteBuffer buffer = this.current();
+                if (buffer == null) {
+                    return -1;
+                }
+
+                int count = Math.min(len, buffer.remaining());
+                buffer.get(b, off, count);
+                return count;
+            }
+
+            private ByteBuffer current() {
+
+                while (this.index < remaining.size() && !remaining.get(this.index).hasRemaining()) {
+                    this.index++;
+                }
+
+                return this.index < remaining.size() ? remaining.get(this.index) : null;
+            }
+        };
     }
 
-    static byte[] base64Decode(String src) {
+    /**
+     * Returns a shared executor running each task in its own virtual thread when the runtime supports them (Java 21
+     * or later), or the common fork-join pool otherwise. The library targets Java 17, hence the reflective lookup.
+     */
+    static Executor defaultExecutor() {
+
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    private static final class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = createDefaultExecutor();
+
+        private static Executor createDefaultExecutor() {
 
-        try {
-            return Base64.getDecoder().decode(src);
-        } catch (IllegalArgumentException ex) {
-            return Base64.getUrlDecoder().decode(src);
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException ex) {
+                return ForkJoinPool.commonPool();
+            }
         }
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Holds the data shared by all the signature checks performed while verifying a single {@link DSSEEnvelope}.
+ * <p>
+ * The Pre-Authentication Encoding of the envelope and the Base64-decoded value of each signature are computed at most
+ * once, on first use, and then reused for every candidate verifier. A context is meant to live for the duration of a
+ * single verification: {@link DSSEVerificationPolicy} implementations create one per envelope, or receive one through
+ * {@link DSSEVerificationPolicy#verify(DSSEVerificationContext)}.
+ * <p>
+ * Thread-safety:
+ * This class is thread-safe, so that the signatures of an envelope can be verified concurrently.
+ *
+ * @see DSSEVerificationPolicy
+ */
+public final class DSSEVerificationContext {
+
+    @Getter
+    private final DSSEEnvelope envelope;
+    @Getter
+    private final List<DSSESignature> signatures;
+    private final AtomicReferenceArray<byte[]> decodedSignatures;
+    @Getter(value = AccessLevel.PACKAGE, lazy = true)
+    private final SigningInput signingInput = this.envelope.createSigningInput();
+    // Only built for callers of getPreAuthenticationEncoding(), since verifiers may stream the signing input instead
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    private final byte[] preAuthenticationBytes = this.getSigningInput().toByteArray();
+
+    private DSSEVerificationContext(DSSEEnvelope envelope) {
+
+        this.envelope = envelope;
+        this.signatures = envelope.getSignatures();
+        this.decodedSignatures = new AtomicReferenceArray<>(this.signatures.size());
+    }
+
+    /**
+     * Creates a new verification context for the specified envelope. The signatures of the envelope are captured
+     * when the context is created.
+     *
+     * @param envelope
+     *         the envelope to be verified; must not be null
+     * @return a new {@code DSSEVerificationContext} for the envelope
+     */
+    public static DSSEVerificationContext of(@NonNull DSSEEnvelope envelope) {
+
+        return new DSSEVerificationContext(envelope);
+    }
+
+    /**
+     * Retrieves a read-only view of the Pre-Authentication Encoding of the envelope, computed once per context.
+     * For envelopes whose payload is not held on the heap, such as {@link MappedDSSEEnvelope}, the first call copies
+     * the whole payload into the context; prefer {@link #verify(DSSEVerifier, int)}, which streams it.
+     *
+     * @return a read-only buffer over the PAE of the envelope, positioned at its start
+     */
+    public ByteBuffer getPreAuthenticationEncoding() {
+
+        return ByteBuffer.wrap(this.getPreAuthenticationBytes()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Retrieves a read-only view of the Base64-decoded value of the signature at the specified index, decoded once
+     * per context.
+     *
+     * @param signatureIndex
+     *         the index of the signature in {@link #getSignatures()}
+     * @return a read-only buffer over the raw signature bytes, positioned at their start
+     * @throws DSSEException
+     *         if the signature is not valid Base64
+     * @throws IndexOutOfBoundsException
+     *         if the index is out of range
+     */
+    public ByteBuffer getDecodedSignature(int signatureIndex) {
+
+        return ByteBuffer.wrap(this.decodedSignature(signatureIndex)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Verifies the signature at the specified index against the Pre-Authentication Encoding of the envelope,
+     * using the provided verifier.
+     *
+     * @param verifier
+     *         the verifier to be used; must not be null
+     * @param signatureIndex
+     *         the index of the signature in {@link #getSignatures()}
+     * @return {@code true} if the verifier recognizes the signature, {@code false} otherwise
+     * @throws DSSEException
+     *         if the signature is not valid Base64
+     */
+    public boolean verify(@NonNull DSSEVerifier verifier, int signatureIndex) {
+
+        return this.getSigningInput().verify(verifier, this.decodedSignature(signatureIndex));
+    }
+
+    /**
+     * Returns the cached array of the decoded signature, which is only handed to verifiers.
+     */
+    private byte[] decodedSignature(int signatureIndex) {
+
+        byte[] decodedSignature = this.decodedSignatures.get(signatureIndex);
+        if (decodedSignature == null) {
+            decodedSignature = this.signatures.get(signatureIndex).getDecodedSig();
+            this.decodedSignatures.set(signatureIndex, decodedSignature);
+        }
+
+        return decodedSignature;
+    }
+}
@@ -16,6 +16,8 @@ package io.github.aigled.dsse;
  * Implementations of this interface are expected to provide the logic required to evaluate the
  * envelope and confirm its authenticity based on the signatures, payload, and any associated
  * verifiers or configurations.
+ *
+ * @see DSSEVerificationContext
  */
 @FunctionalInterface
 public interface DSSEVerificationPolicy {
@@ -30,4 +32,20 @@ public interface DSSEVerificationPolicy {
      * @return {@code true} if the envelope is successfully verified, {@code false} otherwise
      */
     boolean verify(DSSEEnvelope envelope);
+
+    /**
+     * Verifies the envelope of the provided verification context, reusing the Pre-Authentication Encoding and
+     * decoded signatures it holds. Policies delegating to other policies should call this method, so that the
+     * context is shared between them.
+     * <p>
+     * The default implementation ignores the shared data and verifies the envelope itself.
+     *
+     * @param context
+     *         the verification context of the envelope to be verified; must not be null
+     * @return {@code true} if the envelope is successfully verified, {@code false} otherwise
+     */
+    default boolean verify(DSSEVerificationContext context) {
+
+        return this.verify(context.getEnvelope());
+    }
 }
@@ -8,11 +8,24 @@
 
 package io.github.aigled.dsse;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
 /**
  * Verifies DSSE (Dead Simple Signing Envelope) signatures.
  * Implementations of this interface provide signature verification capabilities
  * for DSSE envelopes using specific cryptographic algorithms.
+ * <p>
+ * Besides the mandatory {@link #verify(byte[], byte[])} method, verifiers may be fed with streaming inputs, so that
+ * large payloads never need to be held in a single array. The default implementations of the streaming variants
+ * buffer the whole input and delegate to {@link #verify(byte[], byte[])}; implementations backed by an incremental
+ * signature engine should override them.
  *
+ * @see PreAuthenticationEncoding
  * @see <a href="https://github.com/secure-systems-lab/dsse">DSSE Specification</a>
  */
 public interface DSSEVerifier {
@@ -37,4 +50,60 @@ public interface DSSEVerifier {
      * @see <a href="https://github.com/secure-systems-lab/dsse/blob/master/protocol.md#signature-definition">Signature Definition</a>
      */
     boolean verify(byte[] data, byte[] signature);
+
+    /**
+     * Verifies a signature against all the bytes read from the provided input stream, until the end of the stream
+     * is reached. The stream is not closed by this method.
+     *
+     * @param data
+     *         the stream providing the content that was signed, typically the PAE header followed by the payload
+     * @param signature
+     *         the signature to verify
+     * @return true if the signature is valid, false otherwise
+     * @throws DSSEException
+     *         if the content cannot be read
+     * @see PreAuthenticationEncoding#stream(String, long, InputStream)
+     */
+    default boolean verify(InputStream data, byte[] signature) {
+
+        try {
+            return this.verify(data.readAllBytes(), signature);
+        } catch (IOException ex) {
+            throw new DSSEException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Verifies a signature against all the bytes read from the provided channel, until the end of the channel
+     * is reached. The channel is not closed by this method.
+     *
+     * @param data
+     *         the channel providing the content that was signed, typically the PAE header followed by the payload
+     * @param signature
+     *         the signature to verify
+     * @return true if the signature is valid, false otherwise
+     * @throws DSSEException
+     *         if the content cannot be read
+     * @see PreAuthenticationEncoding#channel(String, long, ReadableByteChannel)
+     */
+    default boolean verify(ReadableByteChannel data, byte[] signature) {
+
+        return this.verify(Channels.newInputStream(data), signature);
+    }
+
+    /**
+     * Verifies a signature against the concatenation of the remaining bytes of the provided buffers, in order.
+     * The positions of the buffers are left unchanged.
+     *
+     * @param data
+     *         the buffers holding the content that was signed, typically the PAE header followed by the payload
+     * @param signature
+     *         the signature to verify
+     * @return true if the signature is valid, false otherwise
+     * @see PreAuthenticationEncoding#buffers(String, List)
+     */
+    default boolean verify(List<ByteBuffer> data, byte[] signature) {
+
+        return this.verify(DSSEUtils.concat(data), signature);
+    }
 }
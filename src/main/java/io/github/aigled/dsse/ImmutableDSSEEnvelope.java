@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A DSSE envelope whose payload, payload type and signatures are fixed at construction, built with a {@link Builder}
+ * or copied from a {@link DSSEEnvelope} with {@link #copyOf(DSSEEnvelope)}.
+ * <p>
+ * The payload is copied once when the envelope is built, and never exposed afterwards: {@link #getPayloadBuffer()}
+ * returns read-only views of it without copying, and the signatures are held in an immutable list returned as is.
+ * Unlike a {@link DSSEEnvelope}, this class holds no verification state, and {@link #sign(DSSESigner)} returns a new
+ * envelope rather than adding a signature. Instances are values, compared on their content, and can be shared between
+ * threads and components without defensive copies.
+ * <p>
+ * Thread-safety:
+ * This class is immutable and thread-safe.
+ * <p>
+ * Note:
+ * Codecs and batch verification work on {@link DSSEEnvelope}s: {@link #toEnvelope()} returns one sharing the payload of
+ * this envelope, without copying it.
+ *
+ * @see DSSEEnvelope
+ */
+public final class ImmutableDSSEEnvelope {
+
+    // Never exposed: each caller gets its own view, so that signing or verifying it leaves this envelope unchanged
+    private final View content;
+
+    private ImmutableDSSEEnvelope(View content) {
+
+        this.content = content;
+    }
+
+    /**
+     * Creates a new builder of {@code ImmutableDSSEEnvelope}.
+     *
+     * @return a new builder, without payload, payload type nor signatures
+     */
+    public static Builder builder() {
+
+        return new Builder();
+    }
+
+    /**
+     * Returns an immutable copy of the specified envelope. The payload is copied once, in the representation the
+     * envelope holds, that is without encoding nor decoding it when the envelope holds its Base64 form. An envelope
+     * returned by {@link #toEnvelope()} shares its payload with the copy, which is then not copied at all.
+     *
+     * @param envelope
+     *         the envelope to copy; must not be null
+     * @return an immutable copy of the specified envelope
+     */
+    public static ImmutableDSSEEnvelope copyOf(@NonNull DSSEEnvelope envelope) {
+
+        return envelope.hasEncodedPayload()
+               ? new ImmutableDSSEEnvelope(new View(null, envelope.getPayload(), envelope.getPayloadType(),
+                                                    envelope.getSignatures()))
+               : new ImmutableDSSEEnvelope(new View(envelope.copyOfBody(), null, envelope.getPayloadType(),
+                                                    envelope.getSignatures()));
+    }
+
+    /**
+     * Creates a new builder initialized with the content of this envelope, sharing its payload without copying it.
+     *
+     * @return a new builder holding the payload, payload type and signatures of this envelope
+     */
+    public Builder toBuilder() {
+
+        Builder builder = new Builder().payloadType(this.getPayloadType()).signatures(this.getSignatures());
+        if (this.hasEncodedPayload()) {
+            builder.encodedPayload = this.getPayload();
+        } else {
+            builder.serializedBody = this.content.body();
+        }
+
+        return builder;
+    }
+
+    /**
+     * Returns a new {@link DSSEEnvelope} holding the content of this envelope, for codecs and verification. Its
+     * payload is shared with this envelope without being exposed: its {@link DSSEEnvelope#getSerializedBody()} returns
+     * copies, while {@link DSSEEnvelope#newPayloadInputStream()} and {@link DSSEEnvelope#getPayload()} read it in
+     * place. Signing the returned envelope leaves this one unchanged.
+     *
+     * @return a new envelope, {@code SIGNED} if this envelope holds at least one signature, {@code UNSIGNED} otherwise
+     */
+    public DSSEEnvelope toEnvelope() {
+
+        return this.content.copy(this.getSignatures());
+    }
+
+    /**
+     * Retrieves a read-only view of the payload, positioned at its start. The payload is not copied, and each call
+     * returns a new view, so that callers can freely move its position.
+     *
+     * @return a read-only buffer over the serialized body
+     * @throws IllegalArgumentException
+     *         if the Base64 payload the envelope was built from is not valid
+     */
+    public ByteBuffer getPayloadBuffer() {
+
+        return ByteBuffer.wrap(this.content.body()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the serialized body of the envelope into a new array. Use {@link #getPayloadBuffer()} to access it without
+     * copying.
+     *
+     * @return a copy of the serialized body
+     * @throws IllegalArgumentException
+     *         if the Base64 payload the envelope was built from is not valid
+     */
+    public byte[] getSerializedBody() {
+
+        return this.content.getSerializedBody();
+    }
+
+    /**
+     * Retrieves the Base64 form of the payload, encoded on first call only.
+     *
+     * @return the Base64-encoded representation of the serialized body
+     * @see DSSEEnvelope#getPayload()
+     */
+    public String getPayload() {
+
+        return this.content.getPayload();
+    }
+
+    /**
+     * Tells whether the Base64 form of the payload is already available.
+     *
+     * @return {@code true} if the encoded payload is cached, {@code false} otherwise
+     * @see DSSEEnvelope#hasEncodedPayload()
+     */
+    public boolean hasEncodedPayload() {
+
+        return this.content.hasEncodedPayload();
+    }
+
+    /**
+     * Retrieves the length of the serialized body, in bytes, without decoding the payload.
+     *
+     * @return the number of bytes of the serialized body
+     */
+    public long getPayloadLength() {
+
+        return this.content.getPayloadLength();
+    }
+
+    /**
+     * Retrieves the type of the payload.
+     *
+     * @return the payload type
+     */
+    public String getPayloadType() {
+
+        return this.content.getPayloadType();
+    }
+
+    /**
+     * Retrieves the signatures of the envelope.
+     *
+     * @return an immutable {@code List} of the signatures, in order
+     */
+    public List<DSSESignature> getSignatures() {
+
+        return this.content.getSignatures();
+    }
+
+    /**
+     * Signs the envelope with the provided signer, as {@link DSSEEnvelope#sign(DSSESigner)} does, and returns a new
+     * envelope holding the signatures of this one followed by the new signature. The payload is shared with the new
+     * envelope, and this envelope is left unchanged.
+     *
+     * @param signer
+     *         the {@code DSSESigner} instance responsible for creating the digital signature; must not be null
+     * @return a new envelope, signed by the provided signer
+     */
+    public ImmutableDSSEEnvelope sign(@NonNull DSSESigner signer) {
+
+        View signed = this.content.copy(this.getSignatures());
+        signed.sign(signer);
+        return new ImmutableDSSEEnvelope(signed);
+    }
+
+    /**
+     * Verifies the signatures of the envelope against the provided verification policy, as
+     * {@link DSSEEnvelope#verify(DSSEVerificationPolicy)} does. The outcome is only returned: this envelope holds no
+     * verification state.
+     *
+     * @param policy
+     *         the {@code DSSEVerificationPolicy} implementation used to verify the signatures; must not be null
+     * @return {@code true} if the envelope's signatures are successfully verified based on the policy,
+     * {@code false} otherwise
+     * @throws IllegalStateException
+     *         if the envelope holds no signature
+     */
+    public boolean verify(@NonNull DSSEVerificationPolicy policy) {
+
+        return this.content.copy(this.getSignatures()).verify(policy);
+    }
+
+    /**
+     * Compares the payload type, the signatures and the serialized body of both immutable envelopes. Envelopes both
+     * holding their Base64 form are compared on it, without decoding them.
+     */
+    @Override
+    public boolean equals(Object other) {
+
+        return this == other
+                || other instanceof ImmutableDSSEEnvelope envelope && this.content.equals(envelope.content);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return this.content.hashCode();
+    }
+
+    @Override
+    public String toString() {
+
+        return "ImmutableDSSEEnvelope(payloadLength=%d, payloadType=%s, signatures=%s)"
+                .formatted(this.getPayloadLength(), this.getPayloadType(), this.getSignatures());
+    }
+
+    /**
+     * A {@link DSSEEnvelope} over a payload that is never modified, which it only exposes through copies.
+     */
+    private static final class View extends DSSEEnvelope {
+
+        View(byte[] serializedBody, String encodedPayload, String payloadType, List<DSSESignature> signatures) {
+
+            super(serializedBody, encodedPayload, payloadType, signatures);
+        }
+
+        /**
+         * Returns a new view sharing the payload of this one, in the representation it holds, with the given signatures.
+         */
+        View copy(List<DSSESignature> signatures) {
+
+            return this.hasEncodedPayload()
+                   ? new View(null, this.getPayload(), this.getPayloadType(), signatures)
+                   : new View(this.body(), null, this.getPayloadType(), signatures);
+        }
+
+        @Override
+        public byte[] getSerializedBody() {
+
+            return this.body().clone();
+        }
+
+        @Override
+        public String toString() {
+
+            return "ImmutableDSSEEnvelope.View(payloadLength=%d, payloadType=%s, signatures=%s, state=%s)"
+                    .formatted(this.getPayloadLength(), this.getPayloadType(), this.getSignatures(), this.getState());
+        }
+
+        @Override
+        byte[] body() {
+
+            return super.getSerializedBody();
+        }
+
+        @Override
+        byte[] copyOfBody() {
+
+            return this.body();
+        }
+    }
+
+    /**
+     * A builder of {@link ImmutableDSSEEnvelope}. The payload and the payload type are required.
+     * <p>
+     * Thread-safety:
+     * This class is not thread-safe.
+     */
+    public static final class Builder {
+
+        private byte[] serializedBody;
+        private String encodedPayload;
+        private String payloadType;
+        private final List<DSSESignature> signatures = new ArrayList<>();
+
+        private Builder() {
+
+        }
+
+        /**
+         * Sets the payload of the envelope, which is copied.
+         *
+         * @param serializedBody
+         *         the serialized content of the payload; must not be null
+         * @return this builder
+         */
+        public Builder payload(byte @NonNull [] serializedBody) {
+
+            this.serializedBody = serializedBody.clone();
+            this.encodedPayload = null;
+            return this;
+        }
+
+        /**
+         * Sets the payload of the envelope to the remaining content of the specified buffer, which is copied.
+         * The position of the buffer is left unchanged.
+         *
+         * @param serializedBody
+         *         the buffer holding the payload between its position and limit; must not be null
+         * @return this builder
+         */
+        public Builder payload(@NonNull ByteBuffer serializedBody) {
+
+            byte[] body = new byte[serializedBody.remaining()];
+            serializedBody.duplicate().get(body);
+            this.serializedBody = body;
+            this.encodedPayload = null;
+            return this;
+        }
+
+        /**
+         * Sets the payload of the envelope from its Base64 form. A payload in the standard, padded Base64 form is
+         * kept as is and only decoded on first access, any other payload is decoded right away.
+         *
+         * @param encodedPayload
+         *         the Base64-encoded payload; must not be null
+         * @return this builder
+         * @throws IllegalArgumentException
+         *         if the payload is not valid Base64
+         */
+        public Builder encodedPayload(@NonNull String encodedPayload) {
+
+            if (DSSEUtils.isCanonicalBase64(encodedPayload)) {
+                this.serializedBody = null;
+                this.encodedPayload = encodedPayload;
+            } else {
+                this.serializedBody = DSSEUtils.base64Decode(encodedPayload);
+                this.encodedPayload = null;
+            }
+            return this;
+        }
+
+        /**
+         * Sets the payload type of the envelope.
+         *
+         * @param payloadType
+         *         the type of the payload; must not be null
+         * @return this builder
+         */
+        public Builder payloadType(@NonNull String payloadType) {
+
+            this.payloadType = payloadType;
+            return this;
+        }
+
+        /**
+         * Adds a signature to the envelope, after the ones already added.
+         *
+         * @param signature
+         *         the signature to add; must not be null
+         * @return this builder
+         */
+        public Builder signature(@NonNull DSSESignature signature) {
+
+            this.signatures.add(signature);
+            return this;
+        }
+
+        /**
+         * Adds signatures to the envelope, in order, after the ones already added.
+         *
+         * @param signatures
+         *         the signatures to add; must not be null nor contain null elements
+         * @return this builder
+         */
+        public Builder signatures(@NonNull Collection<DSSESignature> signatures) {
+
+            for (DSSESignature signature : signatures) {
+                this.signature(signature);
+            }
+            return this;
+        }
+
+        /**
+         * Builds a new {@code ImmutableDSSEEnvelope}, holding the signatures added so far. The builder can be reused
+         * afterwards.
+         *
+         * @return a new immutable envelope
+         * @throws IllegalStateException
+         *         if the payload or the payload type is not set
+         */
+        public ImmutableDSSEEnvelope build() {
+
+            if (this.serializedBody == null && this.encodedPayload == null) {
+                throw new IllegalStateException("payload is required");
+            }
+            if (this.payloadType == null) {
+                throw new IllegalStateException("payloadType is required");
+            }
+
+            return new ImmutableDSSEEnvelope(new View(this.serializedBody, this.encodedPayload, this.payloadType,
+                                                      List.copyOf(this.signatures)));
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link DSSEEnvelope} whose payload is read from a memory-mapped file instead of a heap byte array.
+ * <p>
+ * Signing and verification stream the mapped regions through the signature engine, so that artifacts of several
+ * gigabytes can be signed with a flat heap footprint. Files larger than 1 GiB are mapped as several consecutive
+ * regions. The Base64 payload is only produced when the envelope is serialized.
+ * <p>
+ * Note:
+ * {@link #getSerializedBody()} and {@link #getPayload()} copy the whole payload onto the heap and are therefore
+ * limited to payloads that fit in a single array. Use {@link #getPayloadBuffers()} or {@link #newPayloadInputStream()}
+ * to access the payload without copying it. {@link #equals(Object)} and {@link #hashCode()} read the mapped regions in
+ * place.
+ *
+ * @see DSSEEnvelope
+ */
+public class MappedDSSEEnvelope extends DSSEEnvelope {
+
+    private static final long MAX_REGION_SIZE = 1L << 30;
+
+    private final List<ByteBuffer> payloadBuffers;
+    private final long payloadLength;
+
+    private MappedDSSEEnvelope(List<ByteBuffer> payloadBuffers, String payloadType) {
+
+        super(payloadType);
+        this.payloadBuffers = payloadBuffers;
+        this.payloadLength = payloadBuffers.stream().mapToLong(ByteBuffer::remaining).sum();
+    }
+
+    private MappedDSSEEnvelope(List<ByteBuffer> payloadBuffers, String payloadType, List<DSSESignature> signatures) {
+
+        super(null, null, payloadType, signatures);
+        this.payloadBuffers = payloadBuffers;
+        this.payloadLength = payloadBuffers.stream().mapToLong(ByteBuffer::remaining).sum();
+    }
+
+    /**
+     * Creates a new {@code MappedDSSEEnvelope} whose payload is the whole content of the file located at the given
+     * path. The file is mapped read-only and remains mapped after this method returns, even though the underlying
+     * channel is closed.
+     *
+     * @param path
+     *         the path of the file holding the payload; must not be null
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @return a new {@code MappedDSSEEnvelope} backed by the content of the file
+     * @throws DSSEException
+     *         if the file cannot be opened or mapped
+     */
+    public static MappedDSSEEnvelope of(@NonNull Path path, @NonNull String payloadType) {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return of(channel, payloadType);
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to open payload file '%s'".formatted(path), ex);
+        }
+    }
+
+    /**
+     * Creates a new {@code MappedDSSEEnvelope} whose payload is the whole content of the given file channel.
+     * The content is mapped read-only and remains mapped after the channel is closed.
+     *
+     * @param channel
+     *         the channel of the file holding the payload; must not be null and must be readable
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @return a new {@code MappedDSSEEnvelope} backed by the content of the file
+     * @throws DSSEException
+     *         if the file cannot be mapped
+     */
+    public static MappedDSSEEnvelope of(@NonNull FileChannel channel, @NonNull String payloadType) {
+
+        try {
+            long size = channel.size();
+            List<ByteBuffer> regions = new ArrayList<>();
+            for (long position = 0; position < size; position += MAX_REGION_SIZE) {
+                regions.add(channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAX_REGION_SIZE, size - position)));
+            }
+            return new MappedDSSEEnvelope(Collections.unmodifiableList(regions), payloadType);
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to map payload file", ex);
+        }
+    }
+
+    /**
+     * Creates a new {@code MappedDSSEEnvelope} whose payload is the remaining content of the given buffer,
+     * typically a {@link java.nio.MappedByteBuffer}. The buffer content is not copied, and its position is left
+     * unchanged.
+     *
+     * @param buffer
+     *         the buffer holding the payload between its position and limit; must not be null
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @return a new {@code MappedDSSEEnvelope} backed by the content of the buffer
+     */
+    public static MappedDSSEEnvelope of(@NonNull ByteBuffer buffer, @NonNull String payloadType) {
+
+        return new MappedDSSEEnvelope(List.of(buffer.slice().asReadOnlyBuffer()), payloadType);
+    }
+
+    /**
+     * Creates a new {@code MappedDSSEEnvelope} whose payload is the remaining content of the given buffer, holding the
+     * specified signatures. This is the counterpart of {@link #of(ByteBuffer, String)} for codecs that read envelopes
+     * from buffers without copying their payload. The buffer content is not copied, and its position is left
+     * unchanged; it must therefore not be modified while the envelope is in use.
+     *
+     * @param buffer
+     *         the buffer holding the payload between its position and limit; must not be null
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param signatures
+     *         the signatures of the envelope; must not be null
+     * @return a new {@code MappedDSSEEnvelope} backed by the content of the buffer, {@code SIGNED} if at least one
+     * signature is provided
+     */
+    public static MappedDSSEEnvelope of(@NonNull ByteBuffer buffer, @NonNull String payloadType,
+                                        @NonNull List<DSSESignature> signatures) {
+
+        return new MappedDSSEEnvelope(List.of(buffer.slice().asReadOnlyBuffer()), payloadType, signatures);
+    }
+
+    /**
+     * Retrieves read-only views of the consecutive regions holding the payload.
+     * Each call returns new views, so that callers can freely move their positions.
+     *
+     * @return the buffers holding the payload, in order
+     */
+    public List<ByteBuffer> getPayloadBuffers() {
+
+        return this.payloadBuffers.stream().map(ByteBuffer::duplicate).toList();
+    }
+
+    @Override
+    public long getPayloadLength() {
+
+        return this.payloadLength;
+    }
+
+    /**
+     * Copies the whole payload into a new heap byte array.
+     *
+     * @return a copy of the payload
+     * @throws ArithmeticException
+     *         if the payload is too large to fit in a single array
+     */
+    @Override
+    public byte[] getSerializedBody() {
+
+        return DSSEUtils.concat(this.payloadBuffers);
+    }
+
+    @Override
+    public InputStream newPayloadInputStream() {
+
+        return DSSEUtils.newInputStream(this.payloadBuffers);
+    }
+
+    @Override
+    public String getPayload() {
+
+        return DSSEUtils.base64Encode(this.getSerializedBody());
+    }
+
+    @Override
+    public String toString() {
+
+        return "MappedDSSEEnvelope(payloadLength=%d, payloadType=%s, signatures=%s, state=%s)"
+                .formatted(this.payloadLength, this.getPayloadType(), this.getSignatures(), this.getState());
+    }
+
+    @Override
+    List<ByteBuffer> bodyBuffers() {
+
+        return this.payloadBuffers;
+    }
+
+    @Override
+    int bodyHash() {
+
+        return DSSEUtils.contentHash(this.payloadBuffers);
+    }
+
+    @Override
+    byte[] copyOfBody() {
+
+        // Already a copy of the mapped regions
+        return this.getSerializedBody();
+    }
+
+    @Override
+    SigningInput createSigningInput() {
+
+        return SigningInput.of(PreAuthenticationEncoding.buffers(this.getPayloadType(), this.payloadBuffers));
+    }
+}
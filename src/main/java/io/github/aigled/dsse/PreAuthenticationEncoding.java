@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds the DSSE Pre-Authentication Encoding (PAE) directly at the byte level.
+ * <p>
+ * The encoding is defined as {@code "DSSEv1" SP LEN(type) SP type SP LEN(body) SP body}, where {@code LEN(s)}
+ * is the ASCII decimal encoding of the <em>byte</em> length of {@code s}. The payload type is encoded in UTF-8 and
+ * the payload bytes are copied verbatim, so arbitrary binary payloads are preserved.
+ * <p>
+ * All buffers produced by this class are allocated with their exact final size, and the payload is copied only once.
+ * The {@code stream}, {@code channel} and {@code buffers} variants do not copy the payload at all: they prepend the
+ * PAE header to the payload source, so that the result can be fed incrementally to the streaming methods of
+ * {@link DSSESigner} and {@link DSSEVerifier}.
+ *
+ * @see <a href="https://github.com/secure-systems-lab/dsse/blob/master/protocol.md#signature-definition">Signature Definition</a>
+ */
+@NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+public final class PreAuthenticationEncoding {
+
+    private static final byte[] PREFIX = "DSSEv1 ".getBytes(StandardCharsets.US_ASCII);
+    private static final byte SPACE = ' ';
+
+    /**
+     * Creates the Pre-Authentication Encoding of the given payload type and payload.
+     *
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param payload
+     *         the raw payload bytes; must not be null
+     * @return a new, exactly-sized byte array holding the PAE
+     */
+    public static byte[] encode(@NonNull String payloadType, byte @NonNull [] payload) {
+
+        byte[] header = header(payloadType, payload.length);
+        byte[] pae = new byte[Math.addExact(header.length, payload.length)];
+        System.arraycopy(header, 0, pae, 0, header.length);
+        System.arraycopy(payload, 0, pae, header.length, payload.length);
+        return pae;
+    }
+
+    /**
+     * Creates the Pre-Authentication Encoding of the given payload type and the remaining bytes of the given payload
+     * buffer. The position of the payload buffer is left unchanged.
+     *
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param payload
+     *         the buffer holding the raw payload bytes between its position and limit; must not be null
+     * @return a new, exactly-sized heap buffer holding the PAE, positioned at zero
+     */
+    public static ByteBuffer encode(@NonNull String payloadType, @NonNull ByteBuffer payload) {
+
+        byte[] header = header(payloadType, payload.remaining());
+        ByteBuffer pae = ByteBuffer.allocate(Math.addExact(header.length, payload.remaining()));
+        pae.put(header).put(payload.duplicate());
+        return pae.flip();
+    }
+
+    /**
+     * Creates the header of the Pre-Authentication Encoding, i.e. every byte preceding the payload:
+     * {@code "DSSEv1" SP LEN(type) SP type SP LEN(body) SP}.
+     * <p>
+     * Signing the header followed by the raw payload bytes is equivalent to signing the full PAE.
+     *
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param payloadLength
+     *         the length of the payload in bytes; must not be negative
+     * @return a new, exactly-sized byte array holding the PAE header
+     * @throws IllegalArgumentException
+     *         if the payload length is negative
+     */
+    public static byte[] header(@NonNull String payloadType, long payloadLength) {
+
+        if (payloadLength < 0) {
+            throw new IllegalArgumentException("payloadLength must be >= 0");
+        }
+
+        byte[] type = payloadType.getBytes(StandardCharsets.UTF_8);
+        byte[] typeLength = Integer.toString(type.length).getBytes(StandardCharsets.US_ASCII);
+        byte[] bodyLength = Long.toString(payloadLength).getBytes(StandardCharsets.US_ASCII);
+
+        byte[] header = new byte[PREFIX.length + typeLength.length + 1 + type.length + 1 + bodyLength.length + 1];
+        int offset = put(header, 0, PREFIX);
+        offset = put(header, offset, typeLength);
+        header[offset++] = SPACE;
+        offset = put(header, offset, type);
+        header[offset++] = SPACE;
+        offset = put(header, offset, bodyLength);
+        header[offset] = SPACE;
+        return header;
+    }
+
+    /**
+     * Creates an input stream producing the Pre-Authentication Encoding of the given payload type and payload:
+     * the PAE header is read first, followed by the bytes of the payload stream. Closing the returned stream closes
+     * the payload stream.
+     *
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param payloadLength
+     *         the exact number of bytes the payload stream will produce; must not be negative
+     * @param payload
+     *         the stream providing the raw payload bytes; must not be null
+     * @return a stream producing the PAE
+     */
+    public static InputStream stream(@NonNull String payloadType, long payloadLength, @NonNull InputStream payload) {
+
+        return new SequenceInputStream(new ByteArrayInputStream(header(payloadType, payloadLength)), payload);
+    }
+
+    /**
+     * Creates a channel producing the Pre-Authentication Encoding of the given payload type and payload:
+     * the PAE header is read first, followed by the bytes of the payload channel. Closing the returned channel
+     * closes the payload channel.
+     *
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param payloadLength
+     *         the exact number of bytes the payload channel will produce; must not be negative
+     * @param payload
+     *         the channel providing the raw payload bytes; must not be null
+     * @return a channel producing the PAE
+     */
+    public static ReadableByteChannel channel(@NonNull String payloadType, long payloadLength, @NonNull ReadableByteChannel payload) {
+
+        return new HeaderChannel(ByteBuffer.wrap(header(payloadType, payloadLength)), payload);
+    }
+
+    /**
+     * Creates the sequence of buffers forming the Pre-Authentication Encoding of the given payload type and payload:
+     * a buffer holding the PAE header, followed by views of the remaining bytes of each payload buffer. The payload
+     * bytes are not copied and the positions of the payload buffers are left unchanged.
+     *
+     * @param payloadType
+     *         the type of the payload; must not be null
+     * @param payload
+     *         the buffers holding the raw payload bytes between their positions and limits; must not be null
+     * @return an immutable list of buffers forming the PAE
+     */
+    public static List<ByteBuffer> buffers(@NonNull String payloadType, @NonNull List<ByteBuffer> payload) {
+
+        long payloadLength = 0;
+        for (ByteBuffer buffer : payload) {
+            payloadLength += buffer.remaining();
+        }
+
+        List<ByteBuffer> buffers = new ArrayList<>(payload.size() + 1);
+        buffers.add(ByteBuffer.wrap(header(payloadType, payloadLength)));
+        for (ByteBuffer buffer : payload) {
+            buffers.add(buffer.duplicate());
+        }
+
+        return Collections.unmodifiableList(buffers);
+    }
+
+    private static int put(byte[] dst, int offset, byte[] src) {
+
+        System.arraycopy(src, 0, dst, offset, src.length);
+        return offset + src.length;
+    }
+
+    private static final class HeaderChannel implements ReadableByteChannel {
+
+        private final ByteBuffer header;
+        private final ReadableByteChannel payload;
+
+        private HeaderChannel(ByteBuffer header, ReadableByteChannel payload) {
+
+            this.header = header;
+            this.payload = payload;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+
+            if (!this.header.hasRemaining()) {
+                return this.payload.read(dst);
+            }
+
+            int count = Math.min(this.header.remaining(), dst.remaining());
+            dst.put(this.header.slice().limit(count));
+            this.header.position(this.header.position() + count);
+            return count;
+        }
+
+        @Override
+        public boolean isOpen() {
+
+            return this.payload.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+
+            this.payload.close();
+        }
+    }
+}
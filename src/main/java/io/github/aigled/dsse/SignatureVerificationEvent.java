@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event covering the check of one signature against its candidate verifiers, within
+ * {@link ThresholdVerificationPolicy}. When signatures are verified concurrently, each event is recorded by the
+ * thread which checked the signature.
+ */
+@Name("io.github.aigled.dsse.SignatureVerification")
+@Label("DSSE Signature Verification")
+@Category("DSSE")
+@Description("Check of one signature of a DSSE envelope against the trusted verifiers")
+final class SignatureVerificationEvent extends Event {
+
+    @Label("Key ID")
+    String keyId;
+
+    @Label("Signature Index")
+    int signatureIndex;
+
+    @Label("Outcome")
+    @Description("MATCHED, NOT_MATCHED, UNKNOWN_KEY_ID or FAILED")
+    String outcome;
+
+    @Label("Verifiers Tried")
+    int verifiersTried;
+
+    /**
+     * Records the outcome of the check, and the number of verifiers tried before it was known.
+     */
+    void report(String keyId, int signatureIndex, DSSEMetricsListener.SignatureOutcome outcome, int verifiersTried) {
+
+        if (this.shouldCommit()) {
+            this.keyId = keyId;
+            this.signatureIndex = signatureIndex;
+            this.outcome = outcome.name();
+            this.verifiersTried = verifiersTried;
+            this.commit();
+        }
+    }
+}
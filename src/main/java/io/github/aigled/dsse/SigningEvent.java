@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event covering the signing of an envelope by one signer, through
+ * {@link DSSEEnvelope#sign(DSSESigner)} or {@link DSSEEnvelope#signAll}.
+ * <p>
+ * {@code signAll} records one event per signer, from the thread running it, so that a slow remote or hardware-backed
+ * signer stands out among the signers of the same envelope.
+ */
+@Name("io.github.aigled.dsse.Signing")
+@Label("DSSE Signing")
+@Category("DSSE")
+@Description("Signing of a DSSE envelope by one signer")
+final class SigningEvent extends Event {
+
+    @Label("Key ID")
+    String keyId;
+
+    @Label("Payload Type")
+    String payloadType;
+
+    @Label("Payload Length")
+    @DataAmount
+    long payloadLength;
+
+    @Label("Signature Count")
+    @Description("Number of signatures of the envelope when signing started")
+    int signatureCount;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Failure")
+    @Description("Class of the exception thrown by the signer")
+    String failure;
+
+    /**
+     * Records the outcome of the signer, with the signatures the envelope held before its own was added.
+     */
+    void report(DSSEEnvelope envelope, String keyId, RuntimeException failure) {
+
+        if (this.shouldCommit()) {
+            this.keyId = keyId;
+            this.payloadType = envelope.getPayloadType();
+            this.payloadLength = envelope.getPayloadLength();
+            this.signatureCount = envelope.getSignatures().size();
+            this.succeeded = failure == null;
+            this.failure = failure == null ? null : failure.getClass().getName();
+            this.commit();
+        }
+    }
+}
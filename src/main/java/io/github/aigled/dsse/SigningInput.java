@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * The Pre-Authentication Encoding of an envelope, in the form best suited to its payload source.
+ * Heap envelopes provide an exactly-sized byte array, whereas file-backed envelopes provide a sequence of buffers
+ * streamed through the signature engine.
+ */
+interface SigningInput {
+
+    byte[] sign(DSSESigner signer);
+
+    boolean verify(DSSEVerifier verifier, byte[] signature);
+
+    byte[] toByteArray();
+
+    void digest(MessageDigest digest);
+
+    static SigningInput of(byte[] pae) {
+
+        return new SigningInput() {
+
+            @Override
+            public byte[] sign(DSSESigner signer) {
+
+                return signer.sign(pae);
+            }
+
+            @Override
+            public boolean verify(DSSEVerifier verifier, byte[] signature) {
+
+                return verifier.verify(pae, signature);
+            }
+
+            @Override
+            public byte[] toByteArray() {
+
+                return pae;
+            }
+
+            @Override
+            public void digest(MessageDigest digest) {
+
+                digest.update(pae);
+            }
+        };
+    }
+
+    static SigningInput of(List<ByteBuffer> pae) {
+
+        return new SigningInput() {
+
+            @Override
+            public byte[] sign(DSSESigner signer) {
+
+                return signer.sign(pae);
+            }
+
+            @Override
+            public boolean verify(DSSEVerifier verifier, byte[] signature) {
+
+                return verifier.verify(pae, signature);
+            }
+
+            @Override
+            public byte[] toByteArray() {
+
+                return DSSEUtils.concat(pae);
+            }
+
+            @Override
+            public void digest(MessageDigest digest) {
+
+                for (ByteBuffer buffer : pae) {
+                    digest.update(buffer.duplicate());
+                }
+            }
+        };
+    }
+}
@@ -10,10 +10,8 @@ package io.github.aigled.dsse;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashSet;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * A verification policy that validates a {@link DSSEEnvelope} using a threshold-based approach.
@@ -24,13 +22,31 @@ import java.util.Set;
  * individual signatures. If the filter is enabled, only the verifier associated with the key ID
  * will be used for verification of that signature. If the filter is disabled, all trusted verifiers
  * will be considered.
+ * <p>
+ * The trusted verifiers are captured when the policy is constructed. When filtering is enabled, they are indexed by
+ * key ID once, so that each signature is matched to its candidate verifiers in constant time, and signatures with an
+ * unknown key ID are rejected without touching the verifier set.
+ * <p>
+ * Signatures are verified sequentially by default. A policy created with an {@link Executor}, or through
+ * {@link #parallel(int, boolean, Set)}, verifies the signatures of an envelope concurrently instead, and cancels the
+ * outstanding verifications as soon as the threshold is reached or can no longer be reached. In both modes, a trusted
+ * verifier counts only once towards the threshold, however many signatures it recognizes.
+ * <p>
+ * The Pre-Authentication Encoding and the decoded signatures are computed once per verification, through a
+ * {@link DSSEVerificationContext}, and shared by all candidate verifiers. Envelopes that cannot reach the threshold
+ * can also be rejected before being fully parsed, through {@link #toHeaderFilter()}.
+ * <p>
+ * The check of each signature, and the number of signatures tried and matched per verification, are reported to the
+ * {@link DSSEMetricsListener} held by {@link DSSEMetrics}.
  */
 @Slf4j
 public class ThresholdVerificationPolicy implements DSSEVerificationPolicy {
 
     private final int threshold;
     private final boolean filterPublicKeyId;
-    private final Set<DSSEVerifier> trustedVerifiers;
+    private final List<DSSEVerifier> trustedVerifiers;
+    private final Map<String, List<DSSEVerifier>> trustedVerifiersByKeyId;
+    private final Executor executor;
 
     /**
      * Constructs a ThresholdVerificationPolicy with the specified configuration.
@@ -51,52 +67,250 @@ public class ThresholdVerificationPolicy implements DSSEVerificationPolicy {
      */
     public ThresholdVerificationPolicy(int threshold, boolean filterPublicKeyId, Set<DSSEVerifier> trustedVerifiers) {
 
+        this(threshold, filterPublicKeyId, trustedVerifiers, null);
+    }
+
+    /**
+     * Constructs a ThresholdVerificationPolicy verifying the signatures of an envelope concurrently on the specified
+     * executor.
+     *
+     * @param threshold
+     *         the minimum number of valid signatures required for verification; must be greater than 0
+     * @param filterPublicKeyId
+     *         a flag indicating whether to filter verifiers based on the public key ID in the signature.
+     *         If true, only the matching verifier will be used for each signature. If false, all trusted verifiers
+     *         will be considered for each signature.
+     * @param trustedVerifiers
+     *         the trusted verifiers available for signature validation
+     * @param executor
+     *         the executor running the signature verifications, or {@code null} to verify them sequentially
+     *         in the calling thread
+     * @throws IllegalArgumentException
+     *         if the specified threshold is less than or equal to 0
+     */
+    public ThresholdVerificationPolicy(int threshold, boolean filterPublicKeyId, Set<DSSEVerifier> trustedVerifiers,
+                                       Executor executor) {
+
         if (threshold <= 0) {
             throw new IllegalArgumentException("threshold must be > 0");
         }
 
         this.threshold = threshold;
         this.filterPublicKeyId = filterPublicKeyId;
-        this.trustedVerifiers = trustedVerifiers;
+        this.trustedVerifiers = List.copyOf(trustedVerifiers);
+        this.trustedVerifiersByKeyId = filterPublicKeyId ? indexByKeyId(this.trustedVerifiers) : Map.of();
+        this.executor = executor;
+    }
+
+    /**
+     * Creates a ThresholdVerificationPolicy verifying the signatures of an envelope concurrently, each in its own
+     * virtual thread when the runtime supports them, or on the common fork-join pool otherwise.
+     *
+     * @param threshold
+     *         the minimum number of valid signatures required for verification; must be greater than 0
+     * @param filterPublicKeyId
+     *         a flag indicating whether to filter verifiers based on the public key ID in the signature
+     * @param trustedVerifiers
+     *         the trusted verifiers available for signature validation
+     * @return a new policy verifying signatures concurrently
+     * @throws IllegalArgumentException
+     *         if the specified threshold is less than or equal to 0
+     */
+    public static ThresholdVerificationPolicy parallel(int threshold, boolean filterPublicKeyId,
+                                                       Set<DSSEVerifier> trustedVerifiers) {
+
+        return new ThresholdVerificationPolicy(threshold, filterPublicKeyId, trustedVerifiers, DSSEUtils.defaultExecutor());
     }
 
     @Override
     public boolean verify(DSSEEnvelope envelope) {
 
-        String pae = DSSESignature.createPreAuthenticationEncoding(envelope.getPayloadType(),
-                                                                   envelope.getSerializedBody());
+        return this.verify(DSSEVerificationContext.of(envelope));
+    }
+
+    @Override
+    public boolean verify(DSSEVerificationContext context) {
+
+        int signatureCount = context.getSignatures().size();
+        if (this.executor != null && signatureCount > 1) {
+            return this.verifyConcurrently(context);
+        }
+
         Set<DSSEVerifier> recognizedVerifiers = new HashSet<>();
+        int signaturesTried = 0;
+        int signaturesMatched = 0;
 
         boolean isVerified = false;
-        for (DSSESignature signature : envelope.getSignatures()) {
-            this.verifySignatureAgainstPAE(signature, pae).ifPresent(recognizedVerifiers::add);
+        for (int signatureIndex = 0; signatureIndex < signatureCount; signatureIndex++) {
+            Optional<DSSEVerifier> verifier = this.verifySignatureAgainstPAE(context, signatureIndex);
+            signaturesTried++;
+            if (verifier.isPresent()) {
+                signaturesMatched++;
+                recognizedVerifiers.add(verifier.get());
+            }
             if (recognizedVerifiers.size() >= this.threshold) {
                 isVerified = true;
                 break;
             }
         }
 
+        DSSEMetrics.getListener().onThresholdVerification(this.threshold, signatureCount, signaturesTried,
+                                                          signaturesMatched, isVerified);
         return isVerified;
     }
 
-    private Optional<DSSEVerifier> verifySignatureAgainstPAE(DSSESignature signature, String pae) {
+    /**
+     * Returns a filter rejecting, from their header only, the envelopes that this policy cannot verify: those with
+     * fewer signatures than the threshold or, when filtering on key IDs, with too few signatures whose key ID is
+     * trusted to possibly reach it.
+     *
+     * @return a header filter standing for this policy
+     * @see DSSEHeaderFilter
+     */
+    public DSSEHeaderFilter toHeaderFilter() {
+
+        return new DSSEHeaderFilter() {
+
+            @Override
+            public boolean acceptsKeyIds(List<String> keyids) {
+
+                return ThresholdVerificationPolicy.this.mayReachThreshold(keyids);
+            }
+        };
+    }
+
+    /**
+     * Computes an upper bound of the number of trusted verifiers the signatures with the specified key IDs may be
+     * recognized by: each signature is recognized by at most one verifier, among those trusted for its key ID when
+     * filtering on key IDs.
+     */
+    private boolean mayReachThreshold(List<String> keyids) {
+
+        if (!this.filterPublicKeyId) {
+            return Math.min(keyids.size(), this.trustedVerifiers.size()) >= this.threshold;
+        }
+
+        Map<String, Integer> signatureCounts = new HashMap<>();
+        for (String keyId : keyids) {
+            if (keyId != null && this.trustedVerifiersByKeyId.containsKey(keyId)) {
+                signatureCounts.merge(keyId, 1, Integer::sum);
+            }
+        }
+
+        int recognizable = 0;
+        for (Map.Entry<String, Integer> signatureCount : signatureCounts.entrySet()) {
+            recognizable += Math.min(signatureCount.getValue(),
+                                     this.trustedVerifiersByKeyId.get(signatureCount.getKey()).size());
+        }
+
+        return recognizable >= this.threshold;
+    }
+
+    private boolean verifyConcurrently(DSSEVerificationContext context) {
+
+        int signatureCount = context.getSignatures().size();
+        if (signatureCount < this.threshold) {
+            DSSEMetrics.getListener().onThresholdVerification(this.threshold, signatureCount, 0, 0, false);
+            return false;
+        }
+
+        CompletionService<Optional<DSSEVerifier>> completionService = new ExecutorCompletionService<>(this.executor);
+        List<Future<Optional<DSSEVerifier>>> verifications = new ArrayList<>(signatureCount);
+        Set<DSSEVerifier> recognizedVerifiers = new HashSet<>();
+        int signaturesTried = 0;
+        int signaturesMatched = 0;
+        try {
+            for (int signatureIndex = 0; signatureIndex < signatureCount; signatureIndex++) {
+                int index = signatureIndex;
+                verifications.add(completionService.submit(() -> this.verifySignatureAgainstPAE(context, index)));
+            }
+
+            boolean isVerified = false;
+            for (int pending = signatureCount; pending > 0; pending--) {
+                Optional<DSSEVerifier> verifier = completionService.take().get();
+                signaturesTried++;
+                if (verifier.isPresent()) {
+                    signaturesMatched++;
+                    recognizedVerifiers.add(verifier.get());
+                }
+                if (recognizedVerifiers.size() >= this.threshold) {
+                    isVerified = true;
+                    break;
+                }
+                if (recognizedVerifiers.size() + pending - 1 < this.threshold) {
+                    break;
+                }
+            }
+
+            DSSEMetrics.getListener().onThresholdVerification(this.threshold, signatureCount, signaturesTried,
+                                                              signaturesMatched, isVerified);
+            return isVerified;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new DSSEException("Interrupted while verifying signatures", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new DSSEException(ex.getCause().getMessage(), ex.getCause());
+        } finally {
+            verifications.forEach(verification -> verification.cancel(true));
+        }
+    }
+
+    private Optional<DSSEVerifier> verifySignatureAgainstPAE(DSSEVerificationContext context, int signatureIndex) {
 
+        SignatureVerificationEvent event = new SignatureVerificationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String keyId = context.getSignatures().get(signatureIndex).keyid();
         List<DSSEVerifier> acceptableVerifiers;
         if (this.filterPublicKeyId) {
-            String keyId = signature.keyid();
-            acceptableVerifiers = this.trustedVerifiers.stream()
-                                                       .filter(verifier -> verifier.getKeyId() != null
-                                                               && verifier.getKeyId().equals(keyId))
-                                                       .toList();
+            acceptableVerifiers = keyId != null
+                    ? this.trustedVerifiersByKeyId.getOrDefault(keyId, List.of())
+                    : List.of();
             if (acceptableVerifiers.isEmpty()) {
                 log.warn("Signature with unknown keyid '{}'", keyId);
+                DSSEMetrics.getListener().onSignatureCheck(keyId, DSSEMetricsListener.SignatureOutcome.UNKNOWN_KEY_ID,
+                                                           0, System.nanoTime() - start);
+                event.report(keyId, signatureIndex, DSSEMetricsListener.SignatureOutcome.UNKNOWN_KEY_ID, 0);
+                return Optional.empty();
             }
         } else {
-            acceptableVerifiers = List.copyOf(this.trustedVerifiers);
+            acceptableVerifiers = this.trustedVerifiers;
+        }
+
+        // The outcome stays FAILED if a verification throws
+        DSSEMetricsListener.SignatureOutcome outcome = DSSEMetricsListener.SignatureOutcome.FAILED;
+        int verifiersTried = 0;
+        try {
+            for (DSSEVerifier verifier : acceptableVerifiers) {
+                verifiersTried++;
+                if (context.verify(verifier, signatureIndex)) {
+                    outcome = DSSEMetricsListener.SignatureOutcome.MATCHED;
+                    return Optional.of(verifier);
+                }
+            }
+
+            outcome = DSSEMetricsListener.SignatureOutcome.NOT_MATCHED;
+            return Optional.empty();
+        } finally {
+            DSSEMetrics.getListener().onSignatureCheck(keyId, outcome, verifiersTried, System.nanoTime() - start);
+            event.report(keyId, signatureIndex, outcome, verifiersTried);
+        }
+    }
+
+    private static Map<String, List<DSSEVerifier>> indexByKeyId(List<DSSEVerifier> verifiers) {
+
+        Map<String, List<DSSEVerifier>> index = new HashMap<>();
+        for (DSSEVerifier verifier : verifiers) {
+            String keyId = verifier.getKeyId();
+            if (keyId != null) {
+                index.computeIfAbsent(keyId, k -> new ArrayList<>()).add(verifier);
+            }
         }
+        index.replaceAll((keyId, keyIdVerifiers) -> List.copyOf(keyIdVerifiers));
 
-        return acceptableVerifiers.stream()
-                                  .filter(verifier -> signature.verify(verifier, pae))
-                                  .findFirst();
+        return Map.copyOf(index);
     }
 }
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A JDK Flight Recorder event covering the verification of an envelope against a policy, through
+ * {@link DSSEEnvelope#verify(DSSEVerificationPolicy)}.
+ * <p>
+ * Its duration covers the whole policy, including the signature checks that {@link ThresholdVerificationPolicy}
+ * records as {@link SignatureVerificationEvent}s within it.
+ */
+@Name("io.github.aigled.dsse.Verification")
+@Label("DSSE Verification")
+@Category("DSSE")
+@Description("Verification of a DSSE envelope against a policy")
+final class VerificationEvent extends Event {
+
+    @Label("Policy")
+    String policy;
+
+    @Label("Payload Type")
+    String payloadType;
+
+    @Label("Payload Length")
+    @DataAmount
+    long payloadLength;
+
+    @Label("Signature Count")
+    int signatureCount;
+
+    @Label("Key IDs")
+    @Description("Key IDs of the signatures, comma-separated")
+    String keyIds;
+
+    @Label("Verified")
+    boolean verified;
+
+    @Label("Failure")
+    @Description("Class of the exception thrown by the policy")
+    String failure;
+
+    /**
+     * Records the outcome of the policy for the signatures the envelope held when the verification started.
+     */
+    void report(DSSEEnvelope envelope, List<DSSESignature> signatures, DSSEVerificationPolicy policy, boolean verified,
+                RuntimeException failure) {
+
+        if (this.shouldCommit()) {
+            this.policy = policy.getClass().getName();
+            this.payloadType = envelope.getPayloadType();
+            this.payloadLength = envelope.getPayloadLength();
+            this.signatureCount = signatures.size();
+            this.keyIds = signatures.stream()
+                                    .map(signature -> String.valueOf(signature.keyid()))
+                                    .collect(Collectors.joining(","));
+            this.verified = verified;
+            this.failure = failure == null ? null : failure.getClass().getName();
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEDeserializer;
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import lombok.NonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An implementation of the {@link DSSEDeserializer} interface reading DSSE envelopes written by
+ * {@link BinaryDSSESerializer}, whose documentation describes the format.
+ * <p>
+ * An envelope read from a {@link ByteBuffer} is a {@link MappedDSSEEnvelope} whose payload is a read-only view of the
+ * buffer, so that the payload, typically the largest part of an envelope, is never copied; the buffer must then not
+ * be modified while the envelope is in use. An envelope read from an array or a string gets its own copy of the
+ * payload. Signatures are raw bytes in the binary format, and are Base64-encoded again into {@link DSSESignature}
+ * objects, in the standard alphabet.
+ * <p>
+ * Thread-safety:
+ * This class is stateless and thread-safe.
+ *
+ * @see DSSEDeserializer
+ * @see BinaryDSSESerializer
+ */
+public class BinaryDSSEDeserializer implements DSSEDeserializer {
+
+    /**
+     * Deserializes the binary envelope held by the specified ISO-8859-1 string, one character per byte, as returned
+     * by {@link BinaryDSSESerializer#serialize(DSSEEnvelope)}.
+     *
+     * @param content
+     *         the binary envelope, as an ISO-8859-1 string; must not be null
+     * @return the deserialized envelope
+     * @throws DSSEException
+     *         if the content is not a valid binary envelope
+     */
+    @Override
+    public DSSEEnvelope deserialize(@NonNull String content) {
+
+        byte[] bytes = content.getBytes(StandardCharsets.ISO_8859_1);
+        return this.deserialize(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Deserializes the binary envelope held by the specified range of a byte array. The payload is copied.
+     *
+     * @param content
+     *         the array holding the binary envelope; must not be null
+     * @param offset
+     *         the index of the first byte of the envelope
+     * @param length
+     *         the number of bytes of the envelope
+     * @return the deserialized envelope
+     * @throws DSSEException
+     *         if the content is not a valid binary envelope
+     * @throws IndexOutOfBoundsException
+     *         if the range is out of the bounds of the array
+     */
+    @Override
+    public DSSEEnvelope deserialize(byte @NonNull [] content, int offset, int length) {
+
+        Objects.checkFromIndexSize(offset, length, content.length);
+        BinaryReader reader = read(ByteBuffer.wrap(content, offset, length));
+        byte[] payload = new byte[reader.payload.remaining()];
+        reader.payload.get(payload);
+        return DSSEEnvelope.of(payload, reader.payloadType, reader.signatures);
+    }
+
+    /**
+     * Deserializes the binary envelope held by the remaining bytes of the specified buffer, without copying its
+     * payload. The position of the buffer is not modified.
+     *
+     * @param content
+     *         the buffer holding the binary envelope; must not be null
+     * @return a {@link MappedDSSEEnvelope} whose payload is a read-only view of the buffer
+     * @throws DSSEException
+     *         if the content is not a valid binary envelope
+     */
+    @Override
+    public MappedDSSEEnvelope deserialize(@NonNull ByteBuffer content) {
+
+        BinaryReader reader = read(content.duplicate());
+        return MappedDSSEEnvelope.of(reader.payload, reader.payloadType, reader.signatures);
+    }
+
+    private static BinaryReader read(ByteBuffer content) {
+
+        int size = content.remaining();
+        try {
+            return new BinaryReader(content);
+        } catch (IllegalArgumentException | BufferUnderflowException ex) {
+            throw new DSSEException("Failed to deserialize binary envelope of %d bytes".formatted(size), ex);
+        }
+    }
+
+    /**
+     * Reads an envelope from the current position of a buffer up to its limit, leaving its payload as a slice of the
+     * buffer.
+     */
+    private static final class BinaryReader {
+
+        private final String payloadType;
+        private final List<DSSESignature> signatures;
+        private final ByteBuffer payload;
+
+        private BinaryReader(ByteBuffer content) {
+
+            byte version = content.get();
+            if (version != BinaryDSSESerializer.VERSION) {
+                throw new IllegalArgumentException("Unsupported binary envelope version %d".formatted(version));
+            }
+
+            this.payloadType = readString(content, Varint.readLength(content));
+
+            int signatureCount = Varint.readLength(content);
+            // Each signature takes at least two bytes, which bounds the allocation on corrupted input
+            this.signatures = new ArrayList<>(Math.min(signatureCount, content.remaining() / 2));
+            for (int i = 0; i < signatureCount; i++) {
+                int keyidLength = Varint.readLength(content);
+                String keyid = keyidLength == 0 ? null : readString(content, keyidLength - 1);
+                this.signatures.add(DSSESignature.of(keyid, readBytes(content, Varint.readLength(content))));
+            }
+
+            int payloadLength = Varint.readLength(content);
+            if (payloadLength != content.remaining()) {
+                throw new IllegalArgumentException("Payload of %d bytes does not end the %d remaining bytes"
+                                                           .formatted(payloadLength, content.remaining()));
+            }
+            this.payload = content.slice();
+        }
+
+        private static byte[] readBytes(ByteBuffer content, int length) {
+
+            if (length > content.remaining()) {
+                throw new BufferUnderflowException();
+            }
+
+            byte[] bytes = new byte[length];
+            content.get(bytes);
+            return bytes;
+        }
+
+        private static String readString(ByteBuffer content, int length) {
+
+            if (length > content.remaining()) {
+                throw new BufferUnderflowException();
+            }
+
+            if (!content.hasArray()) {
+                return new String(readBytes(content, length), StandardCharsets.UTF_8);
+            }
+
+            String value = new String(content.array(), content.arrayOffset() + content.position(), length,
+                                      StandardCharsets.UTF_8);
+            content.position(content.position() + length);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESerializer;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.DSSEUtils;
+import lombok.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * An implementation of the {@link DSSESerializer} interface writing DSSE envelopes in a compact, length-prefixed
+ * binary format, meant for storage and transport between trusted services rather than for interoperability: the
+ * payload and the signatures are written as raw bytes, without the Base64 inflation and the parsing cost of JSON.
+ * <p>
+ * The format, version 1, is the following, where {@code varint} is an unsigned LEB128 integer, as in Protocol Buffers:
+ * <pre>
+ * envelope       = version payloadType signatureCount *signature payload
+ * version        = %x01
+ * payloadType    = varint(length) UTF-8 bytes
+ * signatureCount = varint
+ * signature      = varint(keyid length + 1, or 0 without keyid) UTF-8 keyid bytes
+ *                  varint(length) raw signature bytes
+ * payload        = varint(length) raw bytes, up to the end of the envelope
+ * </pre>
+ * The payload comes last, so that it is streamed from the envelope straight into the output, and so that the header
+ * of an envelope can be read without going through its payload.
+ * <p>
+ * The byte-oriented methods are the ones to use. {@link #serialize(DSSEEnvelope)} returns the binary form as an
+ * ISO-8859-1 string, one character per byte, which {@link BinaryDSSEDeserializer#deserialize(String)} accepts back.
+ * <p>
+ * Thread-safety:
+ * This class is stateless and thread-safe.
+ *
+ * @see DSSESerializer
+ * @see BinaryDSSEDeserializer
+ */
+public class BinaryDSSESerializer implements DSSESerializer {
+
+    static final byte VERSION = 1;
+
+    private static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * Serializes the given envelope into its binary form, returned as an ISO-8859-1 string holding one character per
+     * byte. Prefer {@link #toByteArray(DSSEEnvelope)}, {@link #serialize(DSSEEnvelope, ByteBuffer)} or
+     * {@link #serialize(DSSEEnvelope, OutputStream)}.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @return the binary form of the envelope, as an ISO-8859-1 string
+     * @throws DSSEException
+     *         if an error occurs during the serialization process
+     */
+    @Override
+    public String serialize(@NonNull DSSEEnvelope envelope) throws DSSEException {
+
+        return new String(this.toByteArray(envelope), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Serializes the given envelope into the specified stream, writing its payload straight from the envelope.
+     * The stream is flushed, but not closed.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @param output
+     *         the stream receiving the binary envelope; must not be null
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the stream cannot be written
+     */
+    @Override
+    public void serialize(@NonNull DSSEEnvelope envelope, @NonNull OutputStream output) throws DSSEException {
+
+        try {
+            output.write(header(envelope));
+            try (InputStream payload = envelope.newPayloadInputStream()) {
+                payload.transferTo(output);
+            }
+            output.flush();
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+    }
+
+    /**
+     * Serializes the given envelope into the specified buffer, from its current position, which is moved past the
+     * serialized envelope. Nothing is written if the envelope does not fit in the remaining space of the buffer.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @param output
+     *         the buffer receiving the binary envelope; must not be null
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the envelope does not fit in the buffer
+     */
+    public void serialize(@NonNull DSSEEnvelope envelope, @NonNull ByteBuffer output) throws DSSEException {
+
+        try {
+            byte[] header = header(envelope);
+            long length = header.length + envelope.getPayloadLength();
+            if (length > output.remaining()) {
+                throw new DSSEException("Serialized envelope of %d bytes does not fit in the %d remaining bytes"
+                                                .formatted(length, output.remaining()), null);
+            }
+
+            output.put(header);
+            try (InputStream payload = envelope.newPayloadInputStream()) {
+                payload.transferTo(new ByteBufferOutputStream(output));
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+    }
+
+    /**
+     * Serializes the given envelope into a new, exactly-sized byte array.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @return the binary form of the envelope
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the envelope is too large for an array
+     */
+    public byte[] toByteArray(@NonNull DSSEEnvelope envelope) throws DSSEException {
+
+        try {
+            byte[] header = header(envelope);
+            long length = header.length + envelope.getPayloadLength();
+            if (length > MAX_ARRAY_LENGTH) {
+                throw new DSSEException("Serialized envelope of %d bytes is too large for an array".formatted(length), null);
+            }
+
+            byte[] output = new byte[(int) length];
+            System.arraycopy(header, 0, output, 0, header.length);
+            try (InputStream payload = envelope.newPayloadInputStream()) {
+                payload.readNBytes(output, header.length, output.length - header.length);
+            }
+            return output;
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+    }
+
+    /**
+     * Computes the exact number of bytes of the binary form of the given envelope, without reading its payload.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be measured; must not be null
+     * @return the length of the serialized envelope, in bytes
+     */
+    public long serializedLength(@NonNull DSSEEnvelope envelope) {
+
+        return header(envelope).length + envelope.getPayloadLength();
+    }
+
+    /**
+     * Returns everything that precedes the payload bytes: the version, the payload type, the signatures and the
+     * length of the payload.
+     */
+    private static byte[] header(DSSEEnvelope envelope) {
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(256);
+        header.write(VERSION);
+        writeBytes(header, envelope.getPayloadType().getBytes(StandardCharsets.UTF_8));
+
+        // A single snapshot, since signatures may be added concurrently
+        List<DSSESignature> signatures = envelope.getSignatures();
+        Varint.write(header, signatures.size());
+        for (DSSESignature signature : signatures) {
+            if (signature.keyid() == null) {
+                Varint.write(header, 0);
+            } else {
+                byte[] keyid = signature.keyid().getBytes(StandardCharsets.UTF_8);
+                Varint.write(header, keyid.length + 1L);
+                header.writeBytes(keyid);
+            }
+            writeBytes(header, DSSEUtils.base64Decode(signature.sig()));
+        }
+
+        Varint.write(header, envelope.getPayloadLength());
+        return header.toByteArray();
+    }
+
+    private static void writeBytes(ByteArrayOutputStream output, byte[] bytes) {
+
+        Varint.write(output, bytes.length);
+        output.writeBytes(bytes);
+    }
+}
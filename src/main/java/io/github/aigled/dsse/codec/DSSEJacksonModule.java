@@ -9,8 +9,16 @@
 package io.github.aigled.dsse.codec;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.github.aigled.dsse.DSSEEnvelope;
 import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.DSSEUtils;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.deser.std.StdDeserializer;
 import tools.jackson.databind.module.SimpleModule;
 
 import java.util.List;
@@ -26,10 +34,44 @@ class DSSEJacksonModule extends SimpleModule {
 
     private static class DSSEEnvelopeMixin {
 
+        // The payload is decoded by the library rather than by the parser, whose Base64 variants accept a single
+        // alphabet, so that a URL-safe payload does not require parsing the envelope again.
         @JsonCreator
-        public static DSSEEnvelope ofSignedMessage(String payload, String payloadType, List<DSSESignature> signatures) {
+        public static DSSEEnvelope of(@JsonProperty("payload") @JsonDeserialize(using = PayloadDeserializer.class)
+                                      byte[] serializedBody,
+                                      @JsonProperty("payloadType") String payloadType,
+                                      @JsonProperty("signatures") List<DSSESignature> signatures) {
 
             throw new UnsupportedOperationException();
         }
+
+        // The creator binds the serialized body to the payload property, which would otherwise conflict with
+        // getPayload().
+        @JsonIgnore
+        public byte[] getSerializedBody() {
+
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Decodes the Base64 payload, in the standard or the URL-safe alphabet, with or without padding, in a single pass.
+     */
+    private static final class PayloadDeserializer extends StdDeserializer<byte[]> {
+
+        PayloadDeserializer() {
+
+            super(byte[].class);
+        }
+
+        @Override
+        public byte[] deserialize(JsonParser parser, DeserializationContext context) {
+
+            if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+                return (byte[]) context.handleUnexpectedToken(byte[].class, parser);
+            }
+
+            return DSSEUtils.base64Decode(parser.getString());
+        }
     }
 }
@@ -11,9 +11,19 @@ package io.github.aigled.dsse.codec;
 import io.github.aigled.dsse.DSSEDeserializer;
 import io.github.aigled.dsse.DSSEEnvelope;
 import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSEMetrics;
+import io.github.aigled.dsse.DSSEMetricsListener;
+import lombok.NonNull;
+import tools.jackson.core.StreamReadFeature;
 import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 /**
  * A concrete implementation of the {@link DSSEDeserializer} interface, built to deserialize
  * encoded JSON representations of DSSE envelopes into {@link DSSEEnvelope} objects.
@@ -22,6 +32,11 @@ import tools.jackson.databind.json.JsonMapper;
  * {@link DSSEJacksonModule} to configure deserialization behavior specific to DSSE envelope
  * structures. Unknown properties found in the input during deserialization are ignored to
  * ensure compatibility with evolving data formats.
+ * <p>
+ * Byte inputs are parsed as UTF-8 without being decoded into a string first, and streams are parsed as they are read.
+ * The payload may use the standard or the URL-safe alphabet, with or without padding, and is decoded in a single pass
+ * into the serialized body of the envelope. To keep the payload in its Base64 form, for instance to route an envelope
+ * without reading its payload, see {@link SimpleJsonDSSEDeserializer}.
  *
  * @see DSSEDeserializer
  * @see DSSEEnvelope
@@ -30,23 +45,74 @@ import tools.jackson.databind.json.JsonMapper;
  */
 public class Jackson2JsonDSSEDeserializer implements DSSEDeserializer {
 
-    private final JsonMapper jsonMapper = JsonMapper.builder()
-                                                    .addModule(new DSSEJacksonModule())
-                                                    .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-                                                    .build();
+    private final ObjectReader reader;
+
+    /**
+     * Constructs a new {@code Jackson2JsonDSSEDeserializer}.
+     */
+    public Jackson2JsonDSSEDeserializer() {
+
+        JsonMapper jsonMapper = JsonMapper.builder()
+                                          .addModule(new DSSEJacksonModule())
+                                          .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                                          .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                                          .build();
+        this.reader = jsonMapper.readerFor(DSSEEnvelope.class);
+    }
 
     @Override
     public DSSEEnvelope deserialize(String content) {
 
-        return this.deserializeJsonEnvelope(content);
+        return this.deserializeJsonEnvelope(reader -> reader.readValue(content), content.length(),
+                                            () -> "Failed to deserialize JSON envelope '%s'".formatted(content));
     }
 
-    private DSSEEnvelope deserializeJsonEnvelope(String jsonEnvelope) {
+    @Override
+    public DSSEEnvelope deserialize(byte @NonNull [] content, int offset, int length) {
+
+        return this.deserializeJsonEnvelope(reader -> reader.readValue(content, offset, length), length,
+                                            () -> "Failed to deserialize JSON envelope '%s'"
+                                                    .formatted(new String(content, offset, length, StandardCharsets.UTF_8)));
+    }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The envelope is parsed as the stream is read, without buffering the stream whole. Its length is therefore not
+     * known, and reported as -1 to the flight recorder.
+     */
+    @Override
+    public DSSEEnvelope deserialize(@NonNull InputStream content) {
+
+        return this.deserializeJsonEnvelope(reader -> reader.readValue(content), -1,
+                                            () -> "Failed to deserialize JSON envelope from stream");
+    }
+
+    private DSSEEnvelope deserializeJsonEnvelope(Function<ObjectReader, DSSEEnvelope> parser, int inputLength,
+                                                 Supplier<String> failureMessage) {
+
+        JsonDeserializationEvent event = new JsonDeserializationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        DSSEEnvelope envelope;
         try {
-            return this.jsonMapper.readValue(jsonEnvelope, DSSEEnvelope.class);
+            envelope = parser.apply(this.reader);
         } catch (Exception ex) {
-            throw new DSSEException("Failed to deserialize JSON envelope '%s'".formatted(jsonEnvelope), ex);
+            DSSEException failure = new DSSEException(failureMessage.get(), ex);
+            this.report(-1, start, failure);
+            event.report(inputLength, null, ex);
+            throw failure;
         }
+
+        this.report(envelope.getPayloadLength(), start, null);
+        event.report(inputLength, envelope, null);
+        return envelope;
+    }
+
+    private void report(long payloadLength, long start, DSSEException failure) {
+
+        DSSEMetrics.getListener().onCodec(DSSEMetricsListener.CodecOperation.DESERIALIZE,
+                                          this.getClass().getSimpleName(), payloadLength, System.nanoTime() - start,
+                                          failure);
     }
 }
@@ -8,40 +8,168 @@
 
 package io.github.aigled.dsse.codec;
 
-import com.fasterxml.jackson.annotation.JsonInclude;
 import io.github.aigled.dsse.DSSEEnvelope;
 import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSEMetrics;
+import io.github.aigled.dsse.DSSEMetricsListener;
 import io.github.aigled.dsse.DSSESerializer;
-import tools.jackson.databind.MapperFeature;
-import tools.jackson.databind.SerializationFeature;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.DSSEUtils;
+import lombok.NonNull;
+import tools.jackson.core.Base64Variant;
+import tools.jackson.core.Base64Variants;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
  * A concrete implementation of the {@link DSSESerializer} interface for serializing {@link DSSEEnvelope}
- * objects into JSON format using the Jackson library. This class leverages a customized {@link JsonMapper}
- * to handle DSSEEnvelope-specific requirements during serialization.
+ * objects into JSON format using the Jackson library.
+ * <p>
+ * Envelopes are written with Jackson's streaming {@link JsonGenerator}. The serialized body is read from
+ * {@link DSSEEnvelope#newPayloadInputStream()} and Base64-encoded in chunks straight into the output, so that
+ * serializing an envelope to a stream or a channel does not require any payload-sized buffer. An envelope already
+ * holding its Base64 payload, for instance because it was deserialized by {@link SimpleJsonDSSEDeserializer}, is
+ * written without encoding it again. When serializing to a string, the exact length of the output is computed first,
+ * see {@link #serializedLength(DSSEEnvelope)}, so that the output buffer is allocated once.
  *
  * @see DSSESerializer
  * @see DSSEEnvelope
  * @see DSSEException
- * @see DSSEJacksonModule
  */
 public class Jackson2JsonDSSESerializer implements DSSESerializer {
 
+    private static final Base64Variant BASE64 = Base64Variants.MIME_NO_LINEFEEDS;
+    private static final long MAX_STRING_LENGTH = Integer.MAX_VALUE - 8;
+
     private final JsonMapper jsonMapper = JsonMapper.builder()
-                                                    .addModule(new DSSEJacksonModule())
-                                                    .changeDefaultPropertyInclusion(include -> include.withValueInclusion(JsonInclude.Include.NON_NULL))
-                                                    .enable(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS)
-                                                    .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                                                    .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
                                                     .build();
 
     @Override
-    public String serialize(DSSEEnvelope envelope) throws DSSEException {
+    public String serialize(@NonNull DSSEEnvelope envelope) throws DSSEException {
+
+        long start = System.nanoTime();
+        try {
+            String serialized = this.serializeToString(envelope);
+            this.report(envelope, start, null);
+            return serialized;
+        } catch (DSSEException ex) {
+            this.report(envelope, start, ex);
+            throw ex;
+        }
+    }
+
+    @Override
+    public void serialize(@NonNull DSSEEnvelope envelope, @NonNull OutputStream output) throws DSSEException {
+
+        long start = System.nanoTime();
+        try {
+            this.write(envelope, output, true);
+        } catch (Exception ex) {
+            DSSEException failure = new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+            this.report(envelope, start, failure);
+            throw failure;
+        }
+        this.report(envelope, start, null);
+    }
+
+    /**
+     * Computes the exact number of bytes of the JSON representation of the given envelope, without encoding its
+     * payload. This allows callers to size their buffers, or to set a {@code Content-Length}, before serializing
+     * the envelope.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be measured; must not be null
+     * @return the length of the serialized envelope, in UTF-8 bytes
+     * @throws DSSEException
+     *         if an error occurs during the serialization process
+     */
+    public long serializedLength(@NonNull DSSEEnvelope envelope) throws DSSEException {
+
+        CountingOutputStream counter = new CountingOutputStream();
+        try {
+            this.write(envelope, counter, false);
+        } catch (Exception ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+
+        return counter.count + DSSEUtils.base64EncodedLength(envelope.getPayloadLength());
+    }
+
+    private String serializeToString(DSSEEnvelope envelope) {
+
+        long length = this.serializedLength(envelope);
+        if (length > MAX_STRING_LENGTH) {
+            throw new DSSEException("Serialized envelope of %d bytes is too large for a string".formatted(length), null);
+        }
 
         try {
-            return this.jsonMapper.writeValueAsString(envelope);
+            ByteBuffer output = ByteBuffer.allocate((int) length);
+            this.write(envelope, new ByteBufferOutputStream(output), true);
+            return new String(output.array(), 0, output.position(), StandardCharsets.UTF_8);
         } catch (Exception ex) {
             throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
         }
     }
+
+    private void report(DSSEEnvelope envelope, long start, DSSEException failure) {
+
+        DSSEMetrics.getListener().onCodec(DSSEMetricsListener.CodecOperation.SERIALIZE, this.getClass().getSimpleName(),
+                                          envelope.getPayloadLength(), System.nanoTime() - start, failure);
+    }
+
+    private void write(DSSEEnvelope envelope, OutputStream output, boolean includePayload) throws IOException {
+
+        try (JsonGenerator generator = this.jsonMapper.createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeName("payload");
+            if (includePayload && envelope.hasEncodedPayload()) {
+                generator.writeString(envelope.getPayload());
+            } else if (includePayload) {
+                long payloadLength = envelope.getPayloadLength();
+                try (InputStream payload = envelope.newPayloadInputStream()) {
+                    generator.writeBinary(BASE64, payload, payloadLength <= Integer.MAX_VALUE ? (int) payloadLength : -1);
+                }
+            } else {
+                generator.writeString("");
+            }
+            generator.writeStringProperty("payloadType", envelope.getPayloadType());
+            generator.writeName("signatures");
+            generator.writeStartArray();
+            for (DSSESignature signature : envelope.getSignatures()) {
+                generator.writeStartObject();
+                if (signature.keyid() != null) {
+                    generator.writeStringProperty("keyid", signature.keyid());
+                }
+                generator.writeStringProperty("sig", signature.sig());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+
+            this.count += len;
+        }
+    }
 }
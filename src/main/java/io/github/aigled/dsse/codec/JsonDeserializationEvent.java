@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JDK Flight Recorder event covering the parsing of a JSON envelope by {@link Jackson2JsonDSSEDeserializer}.
+ * <p>
+ * A failed parse is recorded too, with the length of its input, so that malformed or oversized traffic can be told
+ * apart from slow but valid envelopes.
+ */
+@Name("io.github.aigled.dsse.JsonDeserialization")
+@Label("DSSE JSON Deserialization")
+@Category("DSSE")
+@Description("Parsing of a JSON DSSE envelope")
+final class JsonDeserializationEvent extends Event {
+
+    @Label("Input Length")
+    @Description("Length of the JSON input, in bytes, in characters for a string, or -1 for a stream")
+    long inputLength;
+
+    @Label("Payload Type")
+    String payloadType;
+
+    @Label("Payload Length")
+    @DataAmount
+    long payloadLength;
+
+    @Label("Signature Count")
+    int signatureCount;
+
+    @Label("Failure")
+    @Description("Class of the exception raised by the parser")
+    String failure;
+
+    /**
+     * Records the envelope that was parsed, or the failure of the parser, for an input of the given length.
+     */
+    void report(long inputLength, DSSEEnvelope envelope, Exception failure) {
+
+        if (this.shouldCommit()) {
+            this.inputLength = inputLength;
+            if (envelope != null) {
+                this.payloadType = envelope.getPayloadType();
+                this.payloadLength = envelope.getPayloadLength();
+                this.signatureCount = envelope.getSignatures().size();
+            }
+            this.failure = failure == null ? null : failure.getClass().getName();
+            this.commit();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEDeserializer;
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads DSSE envelopes from line-delimited JSON (NDJSON, or JSON Lines): one serialized envelope per line.
+ * <p>
+ * Files are memory-mapped rather than read, in regions of at most 1 GiB which end on a line boundary, so that a line
+ * never spans two regions. The {@link Spliterator} of envelopes splits its byte range in halves, moved to the next
+ * line boundary, so that the parallel {@link #stream()} parses distinct lines on every core of the common fork-join
+ * pool. Lines are handed to the configured {@link DSSEDeserializer}, which must therefore be thread-safe, as both
+ * codecs of this package are. Blank lines are skipped, and lines may end with {@code \r\n}.
+ * <p>
+ * The mapping outlives the channel it was created from, and is released once the reader and its envelopes are no
+ * longer reachable.
+ * <p>
+ * Thread-safety:
+ * This class is immutable and thread-safe; each call to {@link #spliterator()} or {@link #stream()} starts over from
+ * the first line.
+ *
+ * @see JsonLinesDSSEWriter
+ */
+public final class JsonLinesDSSEReader {
+
+    private static final long MAX_REGION_SIZE = 1L << 30;
+    // Below this size, a range of lines is parsed by a single worker
+    private static final long MIN_SPLIT_SIZE = 64 * 1024;
+
+    private final ByteBuffer[] regions;
+    private final long[] regionStarts;
+    private final long size;
+    private final DSSEDeserializer deserializer;
+
+    private JsonLinesDSSEReader(List<ByteBuffer> regions, List<Long> regionStarts, long size,
+                                DSSEDeserializer deserializer) {
+
+        this.regions = regions.toArray(ByteBuffer[]::new);
+        this.regionStarts = regionStarts.stream().mapToLong(Long::longValue).toArray();
+        this.size = size;
+        this.deserializer = deserializer;
+    }
+
+    /**
+     * Creates a new {@code JsonLinesDSSEReader} over the whole content of the file located at the given path.
+     * The file is mapped read-only, and the underlying channel is closed before this method returns.
+     *
+     * @param path
+     *         the path of the NDJSON file; must not be null
+     * @param deserializer
+     *         the thread-safe deserializer of each line; must not be null
+     * @return a new reader over the envelopes of the file
+     * @throws DSSEException
+     *         if the file cannot be opened or mapped, or if one of its lines is longer than 1 GiB
+     */
+    public static JsonLinesDSSEReader of(@NonNull Path path, @NonNull DSSEDeserializer deserializer) {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return of(channel, deserializer);
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to open NDJSON file '%s'".formatted(path), ex);
+        }
+    }
+
+    /**
+     * Creates a new {@code JsonLinesDSSEReader} over the whole content of the given file channel.
+     * The content is mapped read-only and remains mapped after the channel is closed.
+     *
+     * @param channel
+     *         the channel of the NDJSON file; must not be null and must be readable
+     * @param deserializer
+     *         the thread-safe deserializer of each line; must not be null
+     * @return a new reader over the envelopes of the file
+     * @throws DSSEException
+     *         if the file cannot be mapped, or if one of its lines is longer than 1 GiB
+     */
+    public static JsonLinesDSSEReader of(@NonNull FileChannel channel, @NonNull DSSEDeserializer deserializer) {
+
+        return of(channel, deserializer, MAX_REGION_SIZE);
+    }
+
+    /**
+     * Creates a new {@code JsonLinesDSSEReader} over the remaining content of the given buffer, typically a
+     * {@link java.nio.MappedByteBuffer}. The buffer content is not copied, and its position is left unchanged.
+     *
+     * @param buffer
+     *         the buffer holding the NDJSON content between its position and limit; must not be null
+     * @param deserializer
+     *         the thread-safe deserializer of each line; must not be null
+     * @return a new reader over the envelopes of the buffer
+     */
+    public static JsonLinesDSSEReader of(@NonNull ByteBuffer buffer, @NonNull DSSEDeserializer deserializer) {
+
+        ByteBuffer region = buffer.slice().asReadOnlyBuffer();
+        return new JsonLinesDSSEReader(List.of(region), List.of(0L), region.remaining(), deserializer);
+    }
+
+    static JsonLinesDSSEReader of(FileChannel channel, DSSEDeserializer deserializer, long maxRegionSize) {
+
+        try {
+            long size = channel.size();
+            List<ByteBuffer> regions = new ArrayList<>();
+            List<Long> regionStarts = new ArrayList<>();
+            long start = 0;
+            while (start < size) {
+                ByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(maxRegionSize, size - start));
+                if (start + region.limit() < size) {
+                    int lastLineEnd = lastIndexOf(region, (byte) '\n');
+                    if (lastLineEnd < 0) {
+                        throw new DSSEException("Line at offset %d is longer than %d bytes".formatted(start, maxRegionSize), null);
+                    }
+                    region = region.slice(0, lastLineEnd + 1);
+                }
+
+                regions.add(region);
+                regionStarts.add(start);
+                start += region.limit();
+            }
+
+            return new JsonLinesDSSEReader(regions, regionStarts, size, deserializer);
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to map NDJSON file", ex);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of NDJSON content, whitespace included.
+     *
+     * @return the size of the content, in bytes
+     */
+    public long size() {
+
+        return this.size;
+    }
+
+    /**
+     * Returns a new parallel stream of the envelopes, in the order of their lines. Use
+     * {@link Stream#sequential()} to parse them in the calling thread instead, and
+     * {@link Stream#forEachOrdered(Consumer)} when the order matters.
+     *
+     * @return a parallel stream of the envelopes
+     * @throws DSSEException
+     *         when consumed, if a line cannot be deserialized
+     */
+    public Stream<DSSEEnvelope> stream() {
+
+        return StreamSupport.stream(this.spliterator(), true);
+    }
+
+    /**
+     * Returns a new spliterator of the envelopes, splitting on line boundaries.
+     *
+     * @return a spliterator over all the envelopes
+     */
+    public Spliterator<DSSEEnvelope> spliterator() {
+
+        return new EnvelopeSpliterator(0, this.size);
+    }
+
+    private int regionIndexOf(long position) {
+
+        int index = Arrays.binarySearch(this.regionStarts, position);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static int indexOf(ByteBuffer buffer, byte value, int from, int to) {
+
+        for (int index = from; index < to; index++) {
+            if (buffer.get(index) == value) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private static int lastIndexOf(ByteBuffer buffer, byte value) {
+
+        for (int index = buffer.limit() - 1; index >= 0; index--) {
+            if (buffer.get(index) == value) {
+                return index;
+            }
+        }
+
+        return -1;
+    }
+
+    private static boolean isBlank(ByteBuffer buffer, int from, int to) {
+
+        for (int index = from; index < to; index++) {
+            byte b = buffer.get(index);
+            if (b != ' ' && b != '\t' && b != '\r') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * A spliterator over the lines starting in the range {@code [position, end)} of the content. Both bounds are
+     * line boundaries, or the end of a region.
+     */
+    private final class EnvelopeSpliterator implements Spliterator<DSSEEnvelope> {
+
+        private long position;
+        private final long end;
+
+        private EnvelopeSpliterator(long position, long end) {
+
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DSSEEnvelope> action) {
+
+            while (this.position < this.end) {
+                int regionIndex = JsonLinesDSSEReader.this.regionIndexOf(this.position);
+                ByteBuffer region = JsonLinesDSSEReader.this.regions[regionIndex];
+                long regionStart = JsonLinesDSSEReader.this.regionStarts[regionIndex];
+
+                int from = (int) (this.position - regionStart);
+                int limit = (int) Math.min(region.limit(), this.end - regionStart);
+                int lineEnd = indexOf(region, (byte) '\n', from, limit);
+                if (lineEnd < 0) {
+                    lineEnd = limit;
+                }
+                this.position = regionStart + Math.min(lineEnd + 1, limit);
+
+                if (!isBlank(region, from, lineEnd)) {
+                    action.accept(this.deserialize(region, from, lineEnd, regionStart));
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        @Override
+        public Spliterator<DSSEEnvelope> trySplit() {
+
+            if (this.end - this.position < 2 * MIN_SPLIT_SIZE) {
+                return null;
+            }
+
+            // Splits right after the line feed ending the line which holds the middle byte
+            long middle = this.position + (this.end - this.position) / 2;
+            int regionIndex = JsonLinesDSSEReader.this.regionIndexOf(middle);
+            ByteBuffer region = JsonLinesDSSEReader.this.regions[regionIndex];
+            long regionStart = JsonLinesDSSEReader.this.regionStarts[regionIndex];
+            int lineEnd = indexOf(region, (byte) '\n', (int) (middle - regionStart), region.limit());
+            long split = regionStart + (lineEnd < 0 ? region.limit() : lineEnd + 1);
+            if (split >= this.end) {
+                return null;
+            }
+
+            EnvelopeSpliterator prefix = new EnvelopeSpliterator(this.position, split);
+            this.position = split;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+
+            return this.end - this.position;
+        }
+
+        @Override
+        public int characteristics() {
+
+            return ORDERED | NONNULL | IMMUTABLE;
+        }
+
+        private DSSEEnvelope deserialize(ByteBuffer region, int from, int lineEnd, long regionStart) {
+
+            try {
+                return JsonLinesDSSEReader.this.deserializer.deserialize(region.slice(from, lineEnd - from));
+            } catch (RuntimeException ex) {
+                throw new DSSEException("Failed to deserialize the line at offset %d".formatted(regionStart + from), ex);
+            }
+        }
+    }
+}
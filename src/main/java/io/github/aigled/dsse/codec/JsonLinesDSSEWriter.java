@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESerializer;
+import lombok.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Writes DSSE envelopes as line-delimited JSON (NDJSON, or JSON Lines): one serialized envelope per line, each
+ * followed by a line feed. The configured {@link DSSESerializer} must write each envelope on a single line, as both
+ * codecs of this package do.
+ * <p>
+ * Envelopes are serialized into an internal buffer, which is written to the underlying stream once full, on
+ * {@link #flush()} and on {@link #close()} only: the flush that serializers issue after each envelope is not passed
+ * on. {@link #writeAll(Stream)} serializes the envelopes of a parallel stream concurrently, and writes them in their
+ * encounter order.
+ * <p>
+ * Thread-safety:
+ * This class is thread-safe; envelopes written concurrently are written on distinct lines, in no particular order.
+ *
+ * @see JsonLinesDSSEReader
+ */
+public final class JsonLinesDSSEWriter implements Closeable, Flushable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream output;
+    private final DSSESerializer serializer;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final OutputStream bufferedOutput = new OutputStream() {
+
+        @Override
+        public void write(int b) throws IOException {
+
+            JsonLinesDSSEWriter.this.writeByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+
+            JsonLinesDSSEWriter.this.writeBytes(b, off, len);
+        }
+    };
+    private int count;
+    private long flushCount;
+
+    /**
+     * Constructs a new {@code JsonLinesDSSEWriter} writing to the specified stream.
+     *
+     * @param output
+     *         the stream receiving the NDJSON content; must not be null
+     * @param serializer
+     *         the serializer of each envelope; must not be null
+     */
+    public JsonLinesDSSEWriter(@NonNull OutputStream output, @NonNull DSSESerializer serializer) {
+
+        this.output = output;
+        this.serializer = serializer;
+    }
+
+    /**
+     * Creates a new {@code JsonLinesDSSEWriter} writing to the file located at the given path, which is created if
+     * needed and truncated otherwise.
+     *
+     * @param path
+     *         the path of the NDJSON file; must not be null
+     * @param serializer
+     *         the serializer of each envelope; must not be null
+     * @return a new writer to the file, to be closed by the caller
+     * @throws DSSEException
+     *         if the file cannot be opened
+     */
+    public static JsonLinesDSSEWriter of(@NonNull Path path, @NonNull DSSESerializer serializer) {
+
+        try {
+            return new JsonLinesDSSEWriter(Files.newOutputStream(path), serializer);
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to open NDJSON file '%s'".formatted(path), ex);
+        }
+    }
+
+    /**
+     * Serializes the specified envelope on a new line. If the envelope cannot be serialized, its partial line is
+     * discarded, unless it did not fit in the buffer and was already partly written.
+     *
+     * @param envelope
+     *         the envelope to write; must not be null
+     * @throws DSSEException
+     *         if the envelope cannot be serialized or written
+     */
+    public synchronized void write(@NonNull DSSEEnvelope envelope) {
+
+        int lineStart = this.count;
+        long flushCount = this.flushCount;
+        try {
+            this.serializer.serialize(envelope, this.bufferedOutput);
+            this.writeByte((byte) '\n');
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to write NDJSON line", ex);
+        } catch (RuntimeException ex) {
+            if (this.flushCount == flushCount) {
+                this.count = lineStart;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Serializes the envelopes of the specified stream, each on a new line, in the encounter order of the stream.
+     * The envelopes of a parallel stream are serialized concurrently, and only written by the calling thread.
+     *
+     * @param envelopes
+     *         the envelopes to write; must not be null
+     * @throws DSSEException
+     *         if an envelope cannot be serialized or written
+     */
+    public void writeAll(@NonNull Stream<DSSEEnvelope> envelopes) {
+
+        if (!envelopes.isParallel()) {
+            envelopes.forEachOrdered(this::write);
+            return;
+        }
+
+        envelopes.map(this::toLine).forEachOrdered(line -> {
+            synchronized (this) {
+                try {
+                    this.writeBytes(line, 0, line.length);
+                } catch (IOException ex) {
+                    throw new DSSEException("Failed to write NDJSON line", ex);
+                }
+            }
+        });
+    }
+
+    /**
+     * Writes the buffered lines to the underlying stream, and flushes it.
+     *
+     * @throws IOException
+     *         if the underlying stream cannot be written or flushed
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+
+        this.flushBuffer();
+        this.output.flush();
+    }
+
+    /**
+     * Writes the buffered lines to the underlying stream, and closes it.
+     *
+     * @throws IOException
+     *         if the underlying stream cannot be written or closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+
+        try (this.output) {
+            this.flushBuffer();
+        }
+    }
+
+    private byte[] toLine(DSSEEnvelope envelope) {
+
+        ByteArrayOutputStream line = new ByteArrayOutputStream(1024);
+        this.serializer.serialize(envelope, line);
+        line.write('\n');
+        return line.toByteArray();
+    }
+
+    private void writeByte(byte b) throws IOException {
+
+        if (this.count == this.buffer.length) {
+            this.flushBuffer();
+        }
+        this.buffer[this.count++] = b;
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+
+        if (length > this.buffer.length - this.count) {
+            this.flushBuffer();
+            if (length > this.buffer.length) {
+                this.flushCount++;
+                this.output.write(bytes, offset, length);
+                return;
+            }
+        }
+
+        System.arraycopy(bytes, offset, this.buffer, this.count, length);
+        this.count += length;
+    }
+
+    private void flushBuffer() throws IOException {
+
+        if (this.count > 0) {
+            this.flushCount++;
+            this.output.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+}
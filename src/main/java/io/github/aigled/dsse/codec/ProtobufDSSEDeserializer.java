@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEDeserializer;
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import lombok.NonNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.github.aigled.dsse.codec.ProtobufDSSESerializer.*;
+
+/**
+ * An implementation of the {@link DSSEDeserializer} interface reading DSSE envelopes in the Protocol Buffers wire
+ * format of the {@code Envelope} message defined by the DSSE specification, without depending on a protobuf runtime.
+ * See {@link ProtobufDSSESerializer} for the message definitions.
+ * <p>
+ * As with the protobuf runtimes, fields may come in any order, the last occurrence of a non-repeated field wins,
+ * unknown fields are skipped, and missing fields take their default value: an empty payload, an empty payload type,
+ * or no signatures. A signature with an empty or missing {@code keyid} has no key ID.
+ * <p>
+ * An envelope read from a {@link ByteBuffer} is a {@link MappedDSSEEnvelope} whose payload is a read-only view of the
+ * buffer, so that the payload is never copied; the buffer must then not be modified while the envelope is in use.
+ * An envelope read from an array or a string gets its own copy of the payload. Signatures are Base64-encoded into
+ * {@link DSSESignature} objects, in the standard alphabet.
+ * <p>
+ * Thread-safety:
+ * This class is stateless and thread-safe.
+ *
+ * @see <a href="https://github.com/secure-systems-lab/dsse/blob/master/envelope.proto">envelope.proto</a>
+ * @see DSSEDeserializer
+ * @see ProtobufDSSESerializer
+ */
+public class ProtobufDSSEDeserializer implements DSSEDeserializer {
+
+    /**
+     * Deserializes the envelope held by the specified ISO-8859-1 string, one character per byte, as returned by
+     * {@link ProtobufDSSESerializer#serialize(DSSEEnvelope)}.
+     *
+     * @param content
+     *         the serialized envelope, as an ISO-8859-1 string; must not be null
+     * @return the deserialized envelope
+     * @throws DSSEException
+     *         if the content is not a valid {@code Envelope} message
+     */
+    @Override
+    public DSSEEnvelope deserialize(@NonNull String content) {
+
+        byte[] bytes = content.getBytes(StandardCharsets.ISO_8859_1);
+        return this.deserialize(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Deserializes the envelope held by the specified range of a byte array. The payload is copied.
+     *
+     * @param content
+     *         the array holding the serialized envelope; must not be null
+     * @param offset
+     *         the index of the first byte of the envelope
+     * @param length
+     *         the number of bytes of the envelope
+     * @return the deserialized envelope
+     * @throws DSSEException
+     *         if the content is not a valid {@code Envelope} message
+     * @throws IndexOutOfBoundsException
+     *         if the range is out of the bounds of the array
+     */
+    @Override
+    public DSSEEnvelope deserialize(byte @NonNull [] content, int offset, int length) {
+
+        Objects.checkFromIndexSize(offset, length, content.length);
+        EnvelopeReader reader = read(ByteBuffer.wrap(content, offset, length));
+        byte[] payload = new byte[reader.payload.remaining()];
+        reader.payload.get(payload);
+        return DSSEEnvelope.of(payload, reader.payloadType, reader.signatures);
+    }
+
+    /**
+     * Deserializes the envelope held by the remaining bytes of the specified buffer, without copying its payload.
+     * The position of the buffer is not modified.
+     *
+     * @param content
+     *         the buffer holding the serialized envelope; must not be null
+     * @return a {@link MappedDSSEEnvelope} whose payload is a read-only view of the buffer
+     * @throws DSSEException
+     *         if the content is not a valid {@code Envelope} message
+     */
+    @Override
+    public MappedDSSEEnvelope deserialize(@NonNull ByteBuffer content) {
+
+        EnvelopeReader reader = read(content.duplicate());
+        return MappedDSSEEnvelope.of(reader.payload, reader.payloadType, reader.signatures);
+    }
+
+    private static EnvelopeReader read(ByteBuffer content) {
+
+        int size = content.remaining();
+        try {
+            return new EnvelopeReader(content);
+        } catch (IllegalArgumentException | BufferUnderflowException ex) {
+            throw new DSSEException("Failed to deserialize protobuf envelope of %d bytes".formatted(size), ex);
+        }
+    }
+
+    /**
+     * Reads an {@code Envelope} message from the current position of a buffer up to its limit, leaving its payload as
+     * a slice of the buffer.
+     */
+    private static final class EnvelopeReader {
+
+        private ByteBuffer payload = ByteBuffer.allocate(0);
+        private String payloadType = "";
+        private final List<DSSESignature> signatures = new ArrayList<>();
+
+        private EnvelopeReader(ByteBuffer content) {
+
+            while (content.hasRemaining()) {
+                long tag = readTag(content);
+                int field = (int) (tag >>> 3);
+                int wireType = (int) (tag & 0x07);
+                switch (field) {
+                    case ENVELOPE_PAYLOAD -> this.payload = readLengthDelimited(content, field, wireType);
+                    case ENVELOPE_PAYLOAD_TYPE -> this.payloadType = readString(content, field, wireType);
+                    case ENVELOPE_SIGNATURES -> this.signatures.add(readSignature(readLengthDelimited(content, field, wireType)));
+                    default -> skipField(content, wireType);
+                }
+            }
+        }
+
+        private static DSSESignature readSignature(ByteBuffer content) {
+
+            ByteBuffer sig = ByteBuffer.allocate(0);
+            String keyid = "";
+            while (content.hasRemaining()) {
+                long tag = readTag(content);
+                int field = (int) (tag >>> 3);
+                int wireType = (int) (tag & 0x07);
+                switch (field) {
+                    case SIGNATURE_SIG -> sig = readLengthDelimited(content, field, wireType);
+                    case SIGNATURE_KEYID -> keyid = readString(content, field, wireType);
+                    default -> skipField(content, wireType);
+                }
+            }
+
+            byte[] sigBytes = new byte[sig.remaining()];
+            sig.get(sigBytes);
+            return DSSESignature.of(keyid.isEmpty() ? null : keyid, sigBytes);
+        }
+
+        private static long readTag(ByteBuffer content) {
+
+            long tag = Varint.read(content);
+            if (tag >>> 3 == 0 || tag >>> 3 > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Invalid field number %d".formatted(tag >>> 3));
+            }
+
+            return tag;
+        }
+
+        private static String readString(ByteBuffer content, int field, int wireType) {
+
+            ByteBuffer value = readLengthDelimited(content, field, wireType);
+            if (value.hasArray()) {
+                return new String(value.array(), value.arrayOffset() + value.position(), value.remaining(),
+                                  StandardCharsets.UTF_8);
+            }
+
+            byte[] bytes = new byte[value.remaining()];
+            value.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns a slice over the value of a length-delimited field, and moves the buffer past it.
+         */
+        private static ByteBuffer readLengthDelimited(ByteBuffer content, int field, int wireType) {
+
+            if (wireType != WIRE_TYPE_LEN) {
+                throw new IllegalArgumentException("Field %d has wire type %d instead of %d"
+                                                           .formatted(field, wireType, WIRE_TYPE_LEN));
+            }
+
+            int length = Varint.readLength(content);
+            if (length > content.remaining()) {
+                throw new BufferUnderflowException();
+            }
+
+            ByteBuffer value = content.slice(content.position(), length);
+            content.position(content.position() + length);
+            return value;
+        }
+
+        private static void skipField(ByteBuffer content, int wireType) {
+
+            int length = switch (wireType) {
+                case WIRE_TYPE_VARINT -> {
+                    Varint.read(content);
+                    yield 0;
+                }
+                case WIRE_TYPE_I64 -> 8;
+                case WIRE_TYPE_LEN -> Varint.readLength(content);
+                case WIRE_TYPE_I32 -> 4;
+                default -> throw new IllegalArgumentException("Unsupported wire type %d".formatted(wireType));
+            };
+
+            if (length > content.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            content.position(content.position() + length);
+        }
+    }
+}
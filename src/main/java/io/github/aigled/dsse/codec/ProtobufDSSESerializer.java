@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESerializer;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.DSSEUtils;
+import lombok.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * An implementation of the {@link DSSESerializer} interface writing DSSE envelopes in the Protocol Buffers wire format
+ * of the {@code Envelope} message defined by the DSSE specification, without depending on a protobuf runtime:
+ * <pre>
+ * message Envelope {
+ *   bytes payload = 1;
+ *   string payload_type = 2;
+ *   repeated Signature signatures = 3;
+ * }
+ *
+ * message Signature {
+ *   bytes sig = 1;
+ *   string keyid = 2;
+ * }
+ * </pre>
+ * Fields are written in field number order, and fields holding their default value are omitted, as the protobuf
+ * runtimes do, so that the output is byte-for-byte the one of other DSSE implementations. A signature without key ID
+ * is written without its {@code keyid} field. The payload is streamed from the envelope straight into the output.
+ * <p>
+ * The byte-oriented methods are the ones to use. {@link #serialize(DSSEEnvelope)} returns the wire format as an
+ * ISO-8859-1 string, one character per byte, which {@link ProtobufDSSEDeserializer#deserialize(String)} accepts back.
+ * <p>
+ * Thread-safety:
+ * This class is stateless and thread-safe.
+ *
+ * @see <a href="https://github.com/secure-systems-lab/dsse/blob/master/envelope.proto">envelope.proto</a>
+ * @see DSSESerializer
+ * @see ProtobufDSSEDeserializer
+ */
+public class ProtobufDSSESerializer implements DSSESerializer {
+
+    static final int ENVELOPE_PAYLOAD = 1;
+    static final int ENVELOPE_PAYLOAD_TYPE = 2;
+    static final int ENVELOPE_SIGNATURES = 3;
+    static final int SIGNATURE_SIG = 1;
+    static final int SIGNATURE_KEYID = 2;
+    static final int WIRE_TYPE_VARINT = 0;
+    static final int WIRE_TYPE_I64 = 1;
+    static final int WIRE_TYPE_LEN = 2;
+    static final int WIRE_TYPE_I32 = 5;
+
+    private static final long MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+    private static final int CHUNK_SIZE = 8 * 1024;
+
+    /**
+     * Serializes the given envelope into its wire format, returned as an ISO-8859-1 string holding one character per
+     * byte. Prefer {@link #toByteArray(DSSEEnvelope)}, {@link #serialize(DSSEEnvelope, ByteBuffer)} or
+     * {@link #serialize(DSSEEnvelope, OutputStream)}.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @return the wire format of the envelope, as an ISO-8859-1 string
+     * @throws DSSEException
+     *         if an error occurs during the serialization process
+     */
+    @Override
+    public String serialize(@NonNull DSSEEnvelope envelope) throws DSSEException {
+
+        return new String(this.toByteArray(envelope), StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Serializes the given envelope into the specified stream, writing its payload straight from the envelope.
+     * The stream is flushed, but not closed.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @param output
+     *         the stream receiving the serialized envelope; must not be null
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the stream cannot be written
+     */
+    @Override
+    public void serialize(@NonNull DSSEEnvelope envelope, @NonNull OutputStream output) throws DSSEException {
+
+        try {
+            output.write(payloadPrefix(envelope));
+            try (InputStream payload = envelope.newPayloadInputStream()) {
+                payload.transferTo(output);
+            }
+            output.write(payloadSuffix(envelope));
+            output.flush();
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+    }
+
+    /**
+     * Serializes the given envelope into the specified buffer, from its current position, which is moved past the
+     * serialized envelope. Nothing is written if the envelope does not fit in the remaining space of the buffer.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @param output
+     *         the buffer receiving the serialized envelope; must not be null
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the envelope does not fit in the buffer
+     */
+    public void serialize(@NonNull DSSEEnvelope envelope, @NonNull ByteBuffer output) throws DSSEException {
+
+        byte[] suffix = serializedSuffix(envelope);
+        long length = payloadPrefix(envelope).length + envelope.getPayloadLength() + suffix.length;
+        if (length > output.remaining()) {
+            throw new DSSEException("Serialized envelope of %d bytes does not fit in the %d remaining bytes"
+                                            .formatted(length, output.remaining()), null);
+        }
+
+        write(envelope, suffix, output);
+    }
+
+    /**
+     * Serializes the given envelope into a new, exactly-sized byte array.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be serialized; must not be null
+     * @return the wire format of the envelope
+     * @throws DSSEException
+     *         if an error occurs during the serialization process, or if the envelope is too large for an array
+     */
+    public byte[] toByteArray(@NonNull DSSEEnvelope envelope) throws DSSEException {
+
+        // The array is sized and filled from the same signatures, which may be added to concurrently
+        byte[] suffix = serializedSuffix(envelope);
+        long length = payloadPrefix(envelope).length + envelope.getPayloadLength() + suffix.length;
+        if (length > MAX_ARRAY_LENGTH) {
+            throw new DSSEException("Serialized envelope of %d bytes is too large for an array".formatted(length), null);
+        }
+
+        ByteBuffer output = ByteBuffer.allocate((int) length);
+        write(envelope, suffix, output);
+        return output.array();
+    }
+
+    /**
+     * Computes the exact number of bytes of the wire format of the given envelope, without reading its payload.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be measured; must not be null
+     * @return the length of the serialized envelope, in bytes
+     */
+    public long serializedLength(@NonNull DSSEEnvelope envelope) {
+
+        return payloadPrefix(envelope).length + envelope.getPayloadLength() + payloadSuffix(envelope).length;
+    }
+
+    /**
+     * Writes the envelope, followed by the given suffix, into a buffer known to be large enough.
+     */
+    private static void write(DSSEEnvelope envelope, byte[] suffix, ByteBuffer output) {
+
+        try {
+            output.put(payloadPrefix(envelope));
+            try (InputStream payload = envelope.newPayloadInputStream()) {
+                readPayload(payload, output, (int) envelope.getPayloadLength());
+            }
+            output.put(suffix);
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+    }
+
+    private static byte[] serializedSuffix(DSSEEnvelope envelope) {
+
+        try {
+            return payloadSuffix(envelope);
+        } catch (IllegalArgumentException ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+    }
+
+    /**
+     * Returns the key and the length of the payload field, or nothing for an empty payload.
+     */
+    private static byte[] payloadPrefix(DSSEEnvelope envelope) {
+
+        long payloadLength = envelope.getPayloadLength();
+        ByteArrayOutputStream prefix = new ByteArrayOutputStream(11);
+        if (payloadLength > 0) {
+            writeTag(prefix, ENVELOPE_PAYLOAD, WIRE_TYPE_LEN);
+            Varint.write(prefix, payloadLength);
+        }
+        return prefix.toByteArray();
+    }
+
+    /**
+     * Returns the fields following the payload: the payload type and the signatures.
+     */
+    private static byte[] payloadSuffix(DSSEEnvelope envelope) {
+
+        ByteArrayOutputStream suffix = new ByteArrayOutputStream(256);
+        writeBytes(suffix, ENVELOPE_PAYLOAD_TYPE, envelope.getPayloadType().getBytes(StandardCharsets.UTF_8));
+
+        for (DSSESignature signature : envelope.getSignatures()) {
+            byte[] sig = DSSEUtils.base64Decode(signature.sig());
+            byte[] keyid = signature.keyid() == null ? new byte[0] : signature.keyid().getBytes(StandardCharsets.UTF_8);
+
+            // An empty message is still written, as an element of the repeated field
+            writeTag(suffix, ENVELOPE_SIGNATURES, WIRE_TYPE_LEN);
+            Varint.write(suffix, fieldSize(SIGNATURE_SIG, sig.length) + fieldSize(SIGNATURE_KEYID, keyid.length));
+            writeBytes(suffix, SIGNATURE_SIG, sig);
+            writeBytes(suffix, SIGNATURE_KEYID, keyid);
+        }
+
+        return suffix.toByteArray();
+    }
+
+    /**
+     * Returns the number of bytes of a length-delimited field, which is omitted when empty.
+     */
+    private static int fieldSize(int field, int length) {
+
+        return length == 0 ? 0 : Varint.size((long) field << 3 | WIRE_TYPE_LEN) + Varint.size(length) + length;
+    }
+
+    private static void writeBytes(ByteArrayOutputStream output, int field, byte[] bytes) {
+
+        if (bytes.length > 0) {
+            writeTag(output, field, WIRE_TYPE_LEN);
+            Varint.write(output, bytes.length);
+            output.writeBytes(bytes);
+        }
+    }
+
+    private static void writeTag(ByteArrayOutputStream output, int field, int wireType) {
+
+        Varint.write(output, (long) field << 3 | wireType);
+    }
+
+    private static void readPayload(InputStream payload, ByteBuffer output, int length) throws IOException {
+
+        if (output.hasArray()) {
+            int read = payload.readNBytes(output.array(), output.arrayOffset() + output.position(), length);
+            output.position(output.position() + read);
+            return;
+        }
+
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, length)];
+        int read;
+        while ((read = payload.read(chunk)) > 0) {
+            output.put(chunk, 0, read);
+        }
+    }
+}
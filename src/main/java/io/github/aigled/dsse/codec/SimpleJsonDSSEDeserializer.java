@@ -0,0 +1,669 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEDeserializer;
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEEnvelopeHeader;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSEHeaderFilter;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.DSSEUtils;
+import lombok.NonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * A dependency-free implementation of the {@link DSSEDeserializer} interface, parsing the JSON representation of
+ * DSSE envelopes with a hand-written tokenizer dedicated to the envelope schema.
+ * <p>
+ * The UTF-8 input is parsed in place: the Base64 payload is decoded straight from the input bytes into the serialized
+ * body of the envelope, and only the final objects are allocated. The payload may use the standard or the URL-safe
+ * alphabet, with or without padding. As with {@link Jackson2JsonDSSEDeserializer}, unknown properties are ignored,
+ * whereas a missing payload, payload type or signature list is an error.
+ * <p>
+ * An envelope that is routed or serialized again without its payload being read does not need it decoded: a
+ * deserializer {@linkplain #SimpleJsonDSSEDeserializer(boolean) keeping the encoded payload} hands it over to
+ * {@link DSSEEnvelope#ofSignedMessage(String, String, List)} instead, so that an envelope in the standard, padded form
+ * keeps its payload as is, and is written back without encoding it again.
+ * <p>
+ * The header of an envelope, its payload type, key IDs and payload location, can also be parsed alone, see
+ * {@link #deserializeHeader(byte[], int, int, DSSEHeaderFilter)}, optionally stopping as soon as a
+ * {@link DSSEHeaderFilter} rejects the envelope.
+ * <p>
+ * Thread-safety:
+ * This class is immutable and thread-safe.
+ *
+ * @see DSSEDeserializer
+ * @see SimpleJsonDSSESerializer
+ */
+public class SimpleJsonDSSEDeserializer implements DSSEDeserializer {
+
+    private static final int MAX_NESTING_DEPTH = 1000;
+    private static final DSSEHeaderFilter ACCEPT_ALL = new DSSEHeaderFilter() {
+    };
+
+    private final boolean keepEncodedPayload;
+
+    /**
+     * Constructs a new {@code SimpleJsonDSSEDeserializer} decoding payloads as envelopes are parsed.
+     */
+    public SimpleJsonDSSEDeserializer() {
+
+        this(false);
+    }
+
+    /**
+     * Constructs a new {@code SimpleJsonDSSEDeserializer}.
+     *
+     * @param keepEncodedPayload
+     *         {@code true} to keep payloads in their Base64 form until their serialized body is needed, for envelopes
+     *         that are routed or serialized again; {@code false} to decode them as envelopes are parsed, which
+     *         allocates less when the payload is read
+     */
+    public SimpleJsonDSSEDeserializer(boolean keepEncodedPayload) {
+
+        this.keepEncodedPayload = keepEncodedPayload;
+    }
+
+    @Override
+    public DSSEEnvelope deserialize(@NonNull String content) {
+
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return this.deserialize(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public DSSEEnvelope deserialize(byte @NonNull [] content, int offset, int length) {
+
+        Objects.checkFromIndexSize(offset, length, content.length);
+        try {
+            return new JsonReader(content, offset, offset + length).readEnvelope(this.keepEncodedPayload);
+        } catch (RuntimeException ex) {
+            throw invalidEnvelope(content, offset, length, ex);
+        }
+    }
+
+    /**
+     * Parses the header of the JSON envelope held by the specified range of bytes, without decoding its payload or
+     * its signatures: the payload is only scanned for its closing quote, and signature values are skipped.
+     *
+     * @param content
+     *         the array holding the UTF-8 JSON envelope; must not be null
+     * @param offset
+     *         the index of the first byte of the envelope
+     * @param length
+     *         the number of bytes of the envelope
+     * @return the header of the envelope, whose payload range is relative to the start of the array
+     * @throws DSSEException
+     *         if the content is not a valid JSON envelope
+     */
+    public DSSEEnvelopeHeader deserializeHeader(byte @NonNull [] content, int offset, int length) {
+
+        return this.deserializeHeader(content, offset, length, ACCEPT_ALL).orElseThrow();
+    }
+
+    /**
+     * Parses the header of the JSON envelope held by the specified range of bytes, as
+     * {@link #deserializeHeader(byte[], int, int)} does, and stops as soon as the specified filter rejects the payload
+     * type or the key IDs of the signatures. The rest of a rejected envelope is neither parsed nor validated.
+     * <p>
+     * When the payload contains escape sequences, which Base64 never requires, its range covers the escaped JSON
+     * string.
+     *
+     * @param content
+     *         the array holding the UTF-8 JSON envelope; must not be null
+     * @param offset
+     *         the index of the first byte of the envelope
+     * @param length
+     *         the number of bytes of the envelope
+     * @param filter
+     *         the filter deciding whether the envelope can be accepted; must not be null
+     * @return the header of the envelope, or an empty {@code Optional} if the filter rejected it
+     * @throws DSSEException
+     *         if the content, up to where the envelope was rejected, is not a valid JSON envelope
+     */
+    public Optional<DSSEEnvelopeHeader> deserializeHeader(byte @NonNull [] content, int offset, int length,
+                                                          @NonNull DSSEHeaderFilter filter) {
+
+        Objects.checkFromIndexSize(offset, length, content.length);
+        try {
+            return Optional.ofNullable(new JsonReader(content, offset, offset + length).readHeader(filter));
+        } catch (RuntimeException ex) {
+            throw invalidEnvelope(content, offset, length, ex);
+        }
+    }
+
+    private static DSSEException invalidEnvelope(byte[] content, int offset, int length, RuntimeException cause) {
+
+        String jsonEnvelope = new String(content, offset, length, StandardCharsets.UTF_8);
+        return new DSSEException("Failed to deserialize JSON envelope '%s'".formatted(jsonEnvelope), cause);
+    }
+
+    private static final class JsonReader {
+
+        private final byte[] buffer;
+        private final int limit;
+        private int position;
+
+        private JsonReader(byte[] buffer, int position, int limit) {
+
+            this.buffer = buffer;
+            this.position = position;
+            this.limit = limit;
+        }
+
+        private DSSEEnvelope readEnvelope(boolean keepEncodedPayload) {
+
+            Object payload = null;
+            String payloadType = null;
+            List<DSSESignature> signatures = null;
+
+            this.expect('{');
+            if (!this.consume('}')) {
+                do {
+                    String name = this.readString();
+                    this.expect(':');
+                    switch (name) {
+                        case "payload" -> payload = this.consumeNull()
+                                ? null
+                                : keepEncodedPayload ? this.readPayload() : this.readBase64();
+                        case "payloadType" -> payloadType = this.consumeNull() ? null : this.readString();
+                        case "signatures" -> signatures = this.consumeNull() ? null : this.readSignatures();
+                        default -> this.skipValue(0);
+                    }
+                } while (this.consume(','));
+                this.expect('}');
+            }
+
+            this.skipWhitespace();
+            if (this.position != this.limit) {
+                throw this.unexpected("end of input");
+            }
+
+            Objects.requireNonNull(payload, "payload is required");
+            Objects.requireNonNull(payloadType, "payloadType is required");
+            Objects.requireNonNull(signatures, "signatures are required");
+            return payload instanceof String encodedPayload
+                    ? DSSEEnvelope.ofSignedMessage(encodedPayload, payloadType, signatures)
+                    : DSSEEnvelope.of((byte[]) payload, payloadType, signatures);
+        }
+
+        /**
+         * Reads the header of the envelope, or returns {@code null} as soon as the filter rejects it.
+         */
+        private DSSEEnvelopeHeader readHeader(DSSEHeaderFilter filter) {
+
+            int payloadStart = -1;
+            int payloadEnd = -1;
+            String payloadType = null;
+            List<String> keyids = null;
+
+            this.expect('{');
+            if (!this.consume('}')) {
+                do {
+                    String name = this.readString();
+                    this.expect(':');
+                    switch (name) {
+                        case "payload" -> {
+                            payloadStart = -1;
+                            if (!this.consumeNull()) {
+                                payloadStart = this.position + 1;
+                                this.skipString();
+                                payloadEnd = this.position - 1;
+                            }
+                        }
+                        case "payloadType" -> {
+                            payloadType = this.consumeNull() ? null : this.readString();
+                            if (payloadType != null && !filter.acceptsPayloadType(payloadType)) {
+                                return null;
+                            }
+                        }
+                        case "signatures" -> {
+                            keyids = this.consumeNull() ? null : this.readKeyIds();
+                            if (keyids != null && !filter.acceptsKeyIds(keyids)) {
+                                return null;
+                            }
+                        }
+                        default -> this.skipValue(0);
+                    }
+                } while (this.consume(','));
+                this.expect('}');
+            }
+
+            this.skipWhitespace();
+            if (this.position != this.limit) {
+                throw this.unexpected("end of input");
+            }
+            if (payloadStart < 0) {
+                throw new IllegalArgumentException("payload is required");
+            }
+
+            return new DSSEEnvelopeHeader(Objects.requireNonNull(payloadType, "payloadType is required"),
+                                          Objects.requireNonNull(keyids, "signatures are required"),
+                                          payloadStart, payloadEnd - payloadStart);
+        }
+
+        private List<String> readKeyIds() {
+
+            List<String> keyids = new ArrayList<>();
+            this.expect('[');
+            if (!this.consume(']')) {
+                do {
+                    keyids.add(this.readKeyId());
+                } while (this.consume(','));
+                this.expect(']');
+            }
+
+            return keyids;
+        }
+
+        private String readKeyId() {
+
+            String keyid = null;
+            boolean hasSig = false;
+
+            this.expect('{');
+            if (!this.consume('}')) {
+                do {
+                    String name = this.readString();
+                    this.expect(':');
+                    switch (name) {
+                        case "keyid" -> keyid = this.consumeNull() ? null : this.readString();
+                        case "sig" -> {
+                            hasSig = !this.consumeNull();
+                            if (hasSig) {
+                                this.skipString();
+                            }
+                        }
+                        default -> this.skipValue(0);
+                    }
+                } while (this.consume(','));
+                this.expect('}');
+            }
+
+            if (!hasSig) {
+                throw new IllegalArgumentException("sig is required");
+            }
+
+            return keyid;
+        }
+
+        private List<DSSESignature> readSignatures() {
+
+            List<DSSESignature> signatures = new ArrayList<>();
+            this.expect('[');
+            if (!this.consume(']')) {
+                do {
+                    signatures.add(this.readSignature());
+                } while (this.consume(','));
+                this.expect(']');
+            }
+
+            return signatures;
+        }
+
+        private DSSESignature readSignature() {
+
+            String keyid = null;
+            String sig = null;
+
+            this.expect('{');
+            if (!this.consume('}')) {
+                do {
+                    String name = this.readString();
+                    this.expect(':');
+                    switch (name) {
+                        case "keyid" -> keyid = this.consumeNull() ? null : this.readString();
+                        case "sig" -> sig = this.consumeNull() ? null : this.readString();
+                        default -> this.skipValue(0);
+                    }
+                } while (this.consume(','));
+                this.expect('}');
+            }
+
+            return new DSSESignature(keyid, Objects.requireNonNull(sig, "sig is required"));
+        }
+
+        /**
+         * Decodes a Base64 string straight from the input, unless it contains escape sequences.
+         */
+        private byte[] readBase64() {
+
+            this.expect('"');
+            int start = this.position;
+            int end = this.findStringEnd();
+            if (end < 0) {
+                this.position = start - 1;
+                return DSSEUtils.base64Decode(this.readString());
+            }
+
+            this.position = end + 1;
+            return DSSEUtils.base64Decode(this.buffer, start, end - start);
+        }
+
+        /**
+         * Reads the Base64 payload, copying it as Latin-1 unless it contains escape sequences: valid Base64 is ASCII,
+         * and any other byte is rejected when the payload is decoded.
+         */
+        private String readPayload() {
+
+            this.expect('"');
+            int start = this.position;
+            int end = this.findStringEnd();
+            if (end < 0) {
+                this.position = start - 1;
+                return this.readString();
+            }
+
+            this.position = end + 1;
+            return new String(this.buffer, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        private void skipString() {
+
+            this.expect('"');
+            int start = this.position;
+            int end = this.findStringEnd();
+            if (end < 0) {
+                this.position = start - 1;
+                this.readString();
+            } else {
+                this.position = end + 1;
+            }
+        }
+
+        private String readString() {
+
+            this.expect('"');
+            int start = this.position;
+            int end = this.findStringEnd();
+            if (end >= 0) {
+                this.position = end + 1;
+                return this.decode(start, end);
+            }
+
+            StringBuilder builder = new StringBuilder();
+            int runStart = start;
+            while (true) {
+                if (this.position >= this.limit) {
+                    throw this.unexpected("'\"'");
+                }
+
+                byte b = this.buffer[this.position];
+                if (b == '"') {
+                    builder.append(this.decode(runStart, this.position));
+                    this.position++;
+                    return builder.toString();
+                }
+                if (b == '\\') {
+                    builder.append(this.decode(runStart, this.position));
+                    this.position++;
+                    builder.append(this.readEscapedChar());
+                    runStart = this.position;
+                } else if ((b & 0xff) < 0x20) {
+                    throw this.unexpected("a non-control character");
+                } else {
+                    this.position++;
+                }
+            }
+        }
+
+        /**
+         * Decodes the UTF-8 bytes of the input between the specified indexes, rejecting malformed sequences as
+         * Jackson does rather than replacing them.
+         */
+        private String decode(int start, int end) {
+
+            for (int index = start; index < end; index++) {
+                if (this.buffer[index] < 0) {
+                    try {
+                        return StandardCharsets.UTF_8.newDecoder()
+                                                     .onMalformedInput(CodingErrorAction.REPORT)
+                                                     .onUnmappableCharacter(CodingErrorAction.REPORT)
+                                                     .decode(ByteBuffer.wrap(this.buffer, start, end - start))
+                                                     .toString();
+                    } catch (CharacterCodingException ex) {
+                        throw new IllegalArgumentException("Invalid UTF-8 string at offset %d".formatted(start), ex);
+                    }
+                }
+            }
+
+            // Plain ASCII, whose Latin-1 decoding is the same and never fails
+            return new String(this.buffer, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+
+        /**
+         * Returns the index of the closing quote of the string starting at the current position, or -1 if the string
+         * contains escape sequences and must be unescaped.
+         */
+        private int findStringEnd() {
+
+            for (int index = this.position; index < this.limit; index++) {
+                byte b = this.buffer[index];
+                if (b == '"') {
+                    return index;
+                }
+                if (b == '\\') {
+                    return -1;
+                }
+                if ((b & 0xff) < 0x20) {
+                    this.position = index;
+                    throw this.unexpected("a non-control character");
+                }
+            }
+
+            this.position = this.limit;
+            throw this.unexpected("'\"'");
+        }
+
+        private char readEscapedChar() {
+
+            if (this.position >= this.limit) {
+                throw this.unexpected("an escape sequence");
+            }
+
+            byte b = this.buffer[this.position++];
+            return switch (b) {
+                case '"', '\\', '/' -> (char) b;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> this.readHexChar();
+                default -> {
+                    this.position--;
+                    throw this.unexpected("an escape sequence");
+                }
+            };
+        }
+
+        private char readHexChar() {
+
+            if (this.limit - this.position < 4) {
+                throw this.unexpected("4 hexadecimal digits");
+            }
+
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                int digit = Character.digit(this.buffer[this.position], 16);
+                if (digit < 0) {
+                    throw this.unexpected("a hexadecimal digit");
+                }
+                value = (value << 4) | digit;
+                this.position++;
+            }
+
+            return (char) value;
+        }
+
+        private void skipValue(int depth) {
+
+            if (depth > MAX_NESTING_DEPTH) {
+                throw new IllegalArgumentException("Maximum nesting depth of %d exceeded".formatted(MAX_NESTING_DEPTH));
+            }
+
+            this.skipWhitespace();
+            if (this.position >= this.limit) {
+                throw this.unexpected("a value");
+            }
+
+            switch (this.buffer[this.position]) {
+                case '"' -> this.readString();
+                case '{' -> {
+                    this.position++;
+                    if (!this.consume('}')) {
+                        do {
+                            this.readString();
+                            this.expect(':');
+                            this.skipValue(depth + 1);
+                        } while (this.consume(','));
+                        this.expect('}');
+                    }
+                }
+                case '[' -> {
+                    this.position++;
+                    if (!this.consume(']')) {
+                        do {
+                            this.skipValue(depth + 1);
+                        } while (this.consume(','));
+                        this.expect(']');
+                    }
+                }
+                case 't' -> this.expectLiteral("true");
+                case 'f' -> this.expectLiteral("false");
+                case 'n' -> this.expectLiteral("null");
+                default -> this.skipNumber();
+            }
+        }
+
+        /**
+         * Skips a number following the JSON grammar, {@code -? (0 | [1-9][0-9]*) (. [0-9]+)? ([eE] [+-]? [0-9]+)?},
+         * which Jackson enforces too.
+         */
+        private void skipNumber() {
+
+            boolean negative = this.consumeByte('-');
+            if (!this.consumeByte('0')) {
+                if (this.position >= this.limit || this.buffer[this.position] < '1' || this.buffer[this.position] > '9') {
+                    throw this.unexpected(negative ? "a digit" : "a value");
+                }
+                this.skipDigits();
+            }
+            if (this.consumeByte('.')) {
+                this.expectDigits();
+            }
+            if (this.consumeByte('e') || this.consumeByte('E')) {
+                if (!this.consumeByte('+')) {
+                    this.consumeByte('-');
+                }
+                this.expectDigits();
+            }
+        }
+
+        private void expectDigits() {
+
+            if (this.position >= this.limit || !isDigit(this.buffer[this.position])) {
+                throw this.unexpected("a digit");
+            }
+            this.skipDigits();
+        }
+
+        private void skipDigits() {
+
+            while (this.position < this.limit && isDigit(this.buffer[this.position])) {
+                this.position++;
+            }
+        }
+
+        /**
+         * Consumes the specified byte if it is the next one, without skipping whitespace.
+         */
+        private boolean consumeByte(char expected) {
+
+            if (this.position < this.limit && this.buffer[this.position] == expected) {
+                this.position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean consumeNull() {
+
+            this.skipWhitespace();
+            if (this.position < this.limit && this.buffer[this.position] == 'n') {
+                this.expectLiteral("null");
+                return true;
+            }
+
+            return false;
+        }
+
+        private void expectLiteral(String literal) {
+
+            for (int i = 0; i < literal.length(); i++) {
+                if (this.position >= this.limit || this.buffer[this.position] != literal.charAt(i)) {
+                    throw this.unexpected("'%s'".formatted(literal));
+                }
+                this.position++;
+            }
+        }
+
+        private void expect(char expected) {
+
+            if (!this.consume(expected)) {
+                throw this.unexpected("'%c'".formatted(expected));
+            }
+        }
+
+        private boolean consume(char expected) {
+
+            this.skipWhitespace();
+            if (this.position < this.limit && this.buffer[this.position] == expected) {
+                this.position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private void skipWhitespace() {
+
+            while (this.position < this.limit) {
+                byte b = this.buffer[this.position];
+                if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    return;
+                }
+                this.position++;
+            }
+        }
+
+        private IllegalArgumentException unexpected(String expected) {
+
+            String found = this.position < this.limit
+                    ? "'%c'".formatted((char) (this.buffer[this.position] & 0xff))
+                    : "end of input";
+            return new IllegalArgumentException("Expected %s but found %s at offset %d".formatted(expected, found, this.position));
+        }
+
+        private static boolean isDigit(byte b) {
+
+            return b >= '0' && b <= '9';
+        }
+    }
+}
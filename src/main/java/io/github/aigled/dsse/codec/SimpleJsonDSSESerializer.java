@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESerializer;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.DSSEUtils;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * A dependency-free implementation of the {@link DSSESerializer} interface, writing the JSON representation of
+ * DSSE envelopes without going through a general-purpose JSON library.
+ * <p>
+ * The output is the same compact JSON as the one produced by {@link Jackson2JsonDSSESerializer}. The serialized body
+ * is Base64-encoded in chunks straight into the output, unless the envelope already holds its Base64 payload, which is
+ * then written as is. The exact length of the output is computed arithmetically, see
+ * {@link #serializedLength(DSSEEnvelope)}, so that serializing to a string allocates its buffer once.
+ * <p>
+ * Thread-safety:
+ * This class is stateless and thread-safe.
+ *
+ * @see DSSESerializer
+ * @see SimpleJsonDSSEDeserializer
+ */
+public class SimpleJsonDSSESerializer implements DSSESerializer {
+
+    private static final long MAX_STRING_LENGTH = Integer.MAX_VALUE - 8;
+    // A multiple of 3, so that only the last chunk of the payload is padded
+    private static final int PAYLOAD_CHUNK_SIZE = 48 * 1024;
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private static final byte[] PAYLOAD_NAME = ascii("{\"payload\":\"");
+    private static final byte[] PAYLOAD_TYPE_NAME = ascii("\",\"payloadType\":\"");
+    private static final byte[] SIGNATURES_NAME = ascii("\",\"signatures\":[");
+    private static final byte[] KEYID_NAME = ascii("{\"keyid\":\"");
+    private static final byte[] SIG_NAME_AFTER_KEYID = ascii("\",\"sig\":\"");
+    private static final byte[] SIG_NAME = ascii("{\"sig\":\"");
+    private static final byte[] SIGNATURE_END = ascii("\"}");
+    private static final byte[] ENVELOPE_END = ascii("]}");
+
+    @Override
+    public String serialize(@NonNull DSSEEnvelope envelope) throws DSSEException {
+
+        long length = this.serializedLength(envelope);
+        if (length > MAX_STRING_LENGTH) {
+            throw new DSSEException("Serialized envelope of %d bytes is too large for a string".formatted(length), null);
+        }
+
+        ByteBuffer output = ByteBuffer.allocate((int) length);
+        this.serialize(envelope, new ByteBufferOutputStream(output));
+        return new String(output.array(), 0, output.position(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void serialize(@NonNull DSSEEnvelope envelope, @NonNull OutputStream output) throws DSSEException {
+
+        try {
+            new JsonWriter(output, envelope.getPayloadLength()).writeEnvelope(envelope);
+        } catch (Exception ex) {
+            throw new DSSEException("Failed to serialize DSSE envelope '%s'".formatted(envelope), ex);
+        }
+    }
+
+    /**
+     * Computes the exact number of bytes of the JSON representation of the given envelope, without encoding its
+     * payload. This allows callers to size their buffers, or to set a {@code Content-Length}, before serializing
+     * the envelope.
+     *
+     * @param envelope
+     *         the {@link DSSEEnvelope} object to be measured; must not be null
+     * @return the length of the serialized envelope, in UTF-8 bytes
+     */
+    public long serializedLength(@NonNull DSSEEnvelope envelope) {
+
+        long length = PAYLOAD_NAME.length + DSSEUtils.base64EncodedLength(envelope.getPayloadLength())
+                + PAYLOAD_TYPE_NAME.length + escape(envelope.getPayloadType()).length
+                + SIGNATURES_NAME.length + ENVELOPE_END.length;
+
+        List<DSSESignature> signatures = envelope.getSignatures();
+        for (DSSESignature signature : signatures) {
+            length += signature.keyid() != null
+                    ? KEYID_NAME.length + escape(signature.keyid()).length + SIG_NAME_AFTER_KEYID.length
+                    : SIG_NAME.length;
+            length += escape(signature.sig()).length + SIGNATURE_END.length;
+        }
+
+        return length + Math.max(0, signatures.size() - 1);
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the specified string, with the characters that must be escaped in a JSON string
+     * escaped.
+     */
+    private static byte[] escape(String value) {
+
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String replacement = switch (c) {
+                case '"' -> "\\\"";
+                case '\\' -> "\\\\";
+                case '\b' -> "\\b";
+                case '\f' -> "\\f";
+                case '\n' -> "\\n";
+                case '\r' -> "\\r";
+                case '\t' -> "\\t";
+                default -> c < 0x20 ? "\\u%04X".formatted((int) c) : null;
+            };
+
+            if (replacement != null && escaped == null) {
+                escaped = new StringBuilder(value.length() + 8).append(value, 0, i);
+            }
+            if (escaped != null) {
+                if (replacement != null) {
+                    escaped.append(replacement);
+                } else {
+                    escaped.append(c);
+                }
+            }
+        }
+
+        return (escaped != null ? escaped.toString() : value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] ascii(String value) {
+
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static final class JsonWriter {
+
+        private final OutputStream output;
+        private final byte[] buffer;
+        private final int payloadChunkSize;
+        private int count;
+
+        // Small envelopes, which are the most frequent, only get buffers of their size
+        private JsonWriter(OutputStream output, long payloadLength) {
+
+            this.output = output;
+            this.payloadChunkSize = (int) Math.min(PAYLOAD_CHUNK_SIZE, (payloadLength + 2) / 3 * 3);
+            this.buffer = new byte[(int) Math.min(BUFFER_SIZE, DSSEUtils.base64EncodedLength(payloadLength) + 512)];
+        }
+
+        private void writeEnvelope(DSSEEnvelope envelope) throws IOException {
+
+            this.write(PAYLOAD_NAME);
+            if (envelope.hasEncodedPayload()) {
+                this.writeAscii(envelope.getPayload());
+            } else {
+                try (InputStream payload = envelope.newPayloadInputStream()) {
+                    this.writeBase64(payload);
+                }
+            }
+            this.write(PAYLOAD_TYPE_NAME);
+            this.write(escape(envelope.getPayloadType()));
+            this.write(SIGNATURES_NAME);
+
+            boolean first = true;
+            for (DSSESignature signature : envelope.getSignatures()) {
+                if (!first) {
+                    this.write((byte) ',');
+                }
+                first = false;
+
+                if (signature.keyid() != null) {
+                    this.write(KEYID_NAME);
+                    this.write(escape(signature.keyid()));
+                    this.write(SIG_NAME_AFTER_KEYID);
+                } else {
+                    this.write(SIG_NAME);
+                }
+                this.write(escape(signature.sig()));
+                this.write(SIGNATURE_END);
+            }
+
+            this.write(ENVELOPE_END);
+            this.flush();
+        }
+
+        private void writeBase64(InputStream payload) throws IOException {
+
+            byte[] chunk = new byte[this.payloadChunkSize];
+            byte[] encodedChunk = new byte[this.payloadChunkSize / 3 * 4];
+
+            int read;
+            while ((read = payload.readNBytes(chunk, 0, chunk.length)) > 0) {
+                int encoded = DSSEUtils.base64Encode(chunk, 0, read, encodedChunk, 0);
+                this.write(encodedChunk, encoded);
+            }
+        }
+
+        private void writeAscii(String value) throws IOException {
+
+            int index = 0;
+            while (index < value.length()) {
+                if (this.count == this.buffer.length) {
+                    this.flushBuffer();
+                }
+                int end = Math.min(value.length(), index + this.buffer.length - this.count);
+                while (index < end) {
+                    this.buffer[this.count++] = (byte) value.charAt(index++);
+                }
+            }
+        }
+
+        private void write(byte b) throws IOException {
+
+            if (this.count == this.buffer.length) {
+                this.flushBuffer();
+            }
+            this.buffer[this.count++] = b;
+        }
+
+        private void write(byte[] bytes) throws IOException {
+
+            this.write(bytes, bytes.length);
+        }
+
+        private void write(byte[] bytes, int length) throws IOException {
+
+            if (length > this.buffer.length - this.count) {
+                this.flushBuffer();
+                if (length > this.buffer.length) {
+                    this.output.write(bytes, 0, length);
+                    return;
+                }
+            }
+
+            System.arraycopy(bytes, 0, this.buffer, this.count, length);
+            this.count += length;
+        }
+
+        private void flushBuffer() throws IOException {
+
+            this.output.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+
+        private void flush() throws IOException {
+
+            this.flushBuffer();
+            this.output.flush();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Unsigned LEB128 integers, as used by the binary and the Protocol Buffers codecs.
+ */
+final class Varint {
+
+    private Varint() {
+
+    }
+
+    /**
+     * Returns the number of bytes of the given value once encoded.
+     */
+    static int size(long value) {
+
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    static void write(ByteArrayOutputStream output, long value) {
+
+        while ((value & ~0x7FL) != 0) {
+            output.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write((int) value);
+    }
+
+    static void write(ByteBuffer output, long value) {
+
+        while ((value & ~0x7FL) != 0) {
+            output.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.put((byte) value);
+    }
+
+    /**
+     * Reads a value of at most 64 bits from the current position of the buffer.
+     *
+     * @throws IllegalArgumentException
+     *         if the value is longer than 10 bytes
+     * @throws BufferUnderflowException
+     *         if the buffer ends within the value
+     */
+    static long read(ByteBuffer content) {
+
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = content.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    /**
+     * Reads a length, which must fit in an int since envelopes are read from a single buffer.
+     *
+     * @throws IllegalArgumentException
+     *         if the length is malformed or too large
+     * @throws BufferUnderflowException
+     *         if the buffer ends within the length
+     */
+    static int readLength(ByteBuffer content) {
+
+        long value = read(content);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Length %d is too large".formatted(value));
+        }
+
+        return (int) value;
+    }
+}
@@ -12,7 +12,12 @@ import io.github.aigled.dsse.DSSEException;
 import io.github.aigled.dsse.DSSESigner;
 import lombok.NonNull;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.security.*;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -23,12 +28,17 @@ import java.util.Objects;
  * The {@code ECDSASigner} class is initialized with a specific signing algorithm and a private key.
  * It validates that the provided private key is of the EC (Elliptic Curve) type. The signing process
  * is performed using the specified algorithm and the private key.
+ * <p>
+ * The streaming {@code sign} variants feed their input to the signature engine in chunks, so that the signing
+ * input never has to be held in a single array.
+ * <p>
+ * Initialized signature engines are pooled per signer and reused across calls, so that the signing hot path only
+ * feeds the input and computes the signature. Instances are thread-safe.
  */
 public class ECDSASigner implements DSSESigner {
 
     private final String keyId;
-    private final String algorithm;
-    private final PrivateKey privateKey;
+    private final SignaturePool signatures;
 
     /**
      * Constructs a new {@code ECDSASigner} instance with the specified keyid, signing algorithm,
@@ -51,8 +61,7 @@ public class ECDSASigner implements DSSESigner {
         }
 
         this.keyId = keyId;
-        this.algorithm = algorithm;
-        this.privateKey = privateKey;
+        this.signatures = new SignaturePool(algorithm, sig -> sig.initSign(privateKey));
     }
 
     /**
@@ -82,13 +91,39 @@ public class ECDSASigner implements DSSESigner {
     public byte[] sign(byte[] signingInput) {
 
         Objects.requireNonNull(signingInput, "signingInput must not be null");
+        return this.sign(SignatureInput.of(signingInput));
+    }
+
+    @Override
+    public byte[] sign(InputStream signingInput) {
+
+        Objects.requireNonNull(signingInput, "signingInput must not be null");
+        return this.sign(SignatureInput.of(signingInput));
+    }
+
+    @Override
+    public byte[] sign(ReadableByteChannel signingInput) {
+
+        Objects.requireNonNull(signingInput, "signingInput must not be null");
+        return this.sign(SignatureInput.of(signingInput));
+    }
+
+    @Override
+    public byte[] sign(List<ByteBuffer> signingInput) {
+
+        Objects.requireNonNull(signingInput, "signingInput must not be null");
+        return this.sign(SignatureInput.of(signingInput));
+    }
+
+    private byte[] sign(SignatureInput signingInput) {
 
         try {
-            Signature sig = Signature.getInstance(this.algorithm);
-            sig.initSign(this.privateKey);
-            sig.update(signingInput);
-            return sig.sign();
-        } catch (SignatureException | NoSuchAlgorithmException | InvalidKeyException ex) {
+            Signature sig = this.signatures.acquire();
+            signingInput.update(sig);
+            byte[] signature = sig.sign();
+            this.signatures.release(sig);
+            return signature;
+        } catch (SignatureException | NoSuchAlgorithmException | InvalidKeyException | IOException ex) {
             throw new DSSEException(ex.getMessage(), ex);
         }
     }
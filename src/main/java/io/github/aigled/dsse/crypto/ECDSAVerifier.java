@@ -9,10 +9,16 @@
 package io.github.aigled.dsse.crypto;
 
 import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSEMetrics;
 import io.github.aigled.dsse.DSSEVerifier;
 import lombok.NonNull;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.security.*;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -24,12 +30,17 @@ import java.util.Objects;
  * It validates that the provided public key is of the EC (Elliptic Curve) type.
  * The verification process checks if the provided signature matches the content when processed
  * with the specified algorithm and the public key.
+ * <p>
+ * The streaming {@code verify} variants feed their input to the signature engine in chunks, so that the signed
+ * content never has to be held in a single array.
+ * <p>
+ * Initialized signature engines are pooled per verifier and reused across calls, so that the verification hot path
+ * only feeds the content and checks the signature. Instances are thread-safe.
  */
 public class ECDSAVerifier implements DSSEVerifier {
 
     private final String keyId;
-    private final String algorithm;
-    private final PublicKey publicKey;
+    private final SignaturePool signatures;
 
     /**
      * Constructs a new {@code ECDSAVerifier} instance with the specified keyid, verification algorithm,
@@ -52,8 +63,7 @@ public class ECDSAVerifier implements DSSEVerifier {
         }
 
         this.keyId = keyId;
-        this.algorithm = algorithm;
-        this.publicKey = publicKey;
+        this.signatures = new SignaturePool(algorithm, sig -> sig.initVerify(publicKey));
     }
 
     /**
@@ -83,15 +93,42 @@ public class ECDSAVerifier implements DSSEVerifier {
     public boolean verify(byte[] data, byte[] signature) {
 
         Objects.requireNonNull(data, "data must not be null");
+        return this.verify(SignatureInput.of(data), signature);
+    }
+
+    @Override
+    public boolean verify(InputStream data, byte[] signature) {
+
+        Objects.requireNonNull(data, "data must not be null");
+        return this.verify(SignatureInput.of(data), signature);
+    }
+
+    @Override
+    public boolean verify(ReadableByteChannel data, byte[] signature) {
+
+        Objects.requireNonNull(data, "data must not be null");
+        return this.verify(SignatureInput.of(data), signature);
+    }
+
+    @Override
+    public boolean verify(List<ByteBuffer> data, byte[] signature) {
+
+        Objects.requireNonNull(data, "data must not be null");
+        return this.verify(SignatureInput.of(data), signature);
+    }
+
+    private boolean verify(SignatureInput data, byte[] signature) {
 
         try {
-            Signature sig = Signature.getInstance(this.algorithm);
-            sig.initVerify(this.publicKey);
-            sig.update(data);
-            return sig.verify(signature);
+            Signature sig = this.signatures.acquire();
+            data.update(sig);
+            boolean verified = sig.verify(signature);
+            this.signatures.release(sig);
+            return verified;
         } catch (SignatureException ex) {
+            DSSEMetrics.getListener().onMalformedSignature(this.keyId, ex);
             return false;
-        } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+        } catch (NoSuchAlgorithmException | InvalidKeyException | IOException ex) {
             throw new DSSEException(ex.getMessage(), ex);
         }
     }
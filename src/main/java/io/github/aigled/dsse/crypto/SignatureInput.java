@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.crypto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.Signature;
+import java.security.SignatureException;
+import java.util.List;
+
+/**
+ * A source of data fed incrementally to an initialized {@link Signature} engine, so that signing and verification
+ * never require the whole input to be held in a single array.
+ */
+@FunctionalInterface
+interface SignatureInput {
+
+    int BUFFER_SIZE = 64 * 1024;
+
+    void update(Signature signature) throws SignatureException, IOException;
+
+    static SignatureInput of(byte[] data) {
+
+        return signature -> signature.update(data);
+    }
+
+    static SignatureInput of(InputStream data) {
+
+        return signature -> {
+            byte[] chunk = new byte[BUFFER_SIZE];
+            int count;
+            while ((count = data.read(chunk)) != -1) {
+                signature.update(chunk, 0, count);
+            }
+        };
+    }
+
+    static SignatureInput of(ReadableByteChannel data) {
+
+        return signature -> {
+            ByteBuffer chunk = ByteBuffer.allocate(BUFFER_SIZE);
+            while (data.read(chunk) != -1) {
+                signature.update(chunk.array(), 0, chunk.position());
+                chunk.clear();
+            }
+        };
+    }
+
+    static SignatureInput of(List<ByteBuffer> data) {
+
+        return signature -> {
+            for (ByteBuffer buffer : data) {
+                signature.update(buffer.duplicate());
+            }
+        };
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.crypto;
+
+import java.security.GeneralSecurityException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.Signature;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of initialized {@link Signature} engines sharing the same algorithm and key.
+ * <p>
+ * A {@code Signature} engine returns to its initialized state after each {@code sign} or {@code verify} call, so that
+ * pooled engines can be reused without any provider lookup or key parsing. The provider is resolved once, when the
+ * pool is created. Engines are pooled rather than bound to threads, so that the number of live engines depends on the
+ * actual concurrency and not on the number of threads, which matters with virtual threads.
+ * <p>
+ * Callers must only release engines that completed their operation normally: an engine that failed in the middle of
+ * an operation may hold partial state and must be dropped.
+ */
+final class SignaturePool {
+
+    static final int DEFAULT_CAPACITY = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private final String algorithm;
+    private final Initializer initializer;
+    private final BlockingQueue<Signature> idle;
+    private final Provider provider;
+
+    SignaturePool(String algorithm, Initializer initializer) {
+
+        this(algorithm, initializer, DEFAULT_CAPACITY);
+    }
+
+    SignaturePool(String algorithm, Initializer initializer, int capacity) {
+
+        this.algorithm = algorithm;
+        this.initializer = initializer;
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.provider = this.resolveProvider();
+    }
+
+    /**
+     * Takes an idle engine from the pool, or creates and initializes a new one if the pool is empty.
+     */
+    Signature acquire() throws NoSuchAlgorithmException, InvalidKeyException {
+
+        Signature signature = this.idle.poll();
+        if (signature == null) {
+            signature = this.provider != null
+                    ? Signature.getInstance(this.algorithm, this.provider)
+                    : Signature.getInstance(this.algorithm);
+            this.initializer.initialize(signature);
+        }
+
+        return signature;
+    }
+
+    /**
+     * Returns an engine to the pool. The engine is dropped if the pool is full.
+     */
+    void release(Signature signature) {
+
+        this.idle.offer(signature);
+    }
+
+    int idleCount() {
+
+        return this.idle.size();
+    }
+
+    /**
+     * Creates a first engine to resolve the provider actually selected for the key, and keeps it in the pool.
+     * Failures are deferred to {@link #acquire()}, so that they surface on the first operation.
+     */
+    private Provider resolveProvider() {
+
+        try {
+            Signature signature = Signature.getInstance(this.algorithm);
+            this.initializer.initialize(signature);
+            this.idle.offer(signature);
+            return signature.getProvider();
+        } catch (GeneralSecurityException ex) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    interface Initializer {
+
+        void initialize(Signature signature) throws InvalidKeyException;
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.store;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import io.github.aigled.dsse.codec.BinaryDSSEDeserializer;
+import io.github.aigled.dsse.codec.BinaryDSSESerializer;
+import lombok.NonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * An embedded, append-only store of DSSE envelopes, addressed by digest.
+ * <p>
+ * Envelopes are appended in their binary form (see {@link BinaryDSSESerializer}) to segment files of a directory,
+ * named {@code 00000000.seg}, {@code 00000001.seg}, and so on; a new segment is started once the current one is full.
+ * Each envelope is identified by its {@linkplain #digest(DSSEEnvelope) digest}: the SHA-256 hash of its binary form,
+ * which covers its payload, payload type and signatures. Appending an envelope already in the store does nothing.
+ * <p>
+ * Segments are memory-mapped: appends write into the mapping of the current segment, and reads return
+ * {@link MappedDSSEEnvelope} objects whose payload is a view of the mapping, so that payloads are never copied onto
+ * the heap. An index from digest to record location, holding 16 bytes per envelope, is rebuilt from the record
+ * headers when the store is opened. Records are checksummed, so that a record torn by a crash is detected, and
+ * dropped, when the store is reopened. Appended envelopes are written to the storage device on {@link #flush()} and
+ * {@link #close()}, and by the operating system in the meantime.
+ * <p>
+ * {@link #stream()} scans the envelopes in the order they were appended, for instance to verify them all again with
+ * a {@link io.github.aigled.dsse.DSSEBatchVerifier}.
+ * <p>
+ * The directory is locked while the store is open, so that a single store appends to it. The mappings outlive the
+ * store: envelopes read from it remain usable after it is closed, and the mappings are released once they are no
+ * longer reachable.
+ * <p>
+ * Thread-safety:
+ * This class is thread-safe. Appends are serialized, and reads do not wait for them, except for the short update of
+ * the index.
+ *
+ * @see BinaryDSSESerializer
+ */
+public final class DSSEEnvelopeStore implements Closeable, Flushable {
+
+    /**
+     * The default maximum size of a segment, 256 MiB. Envelopes larger than a segment get a segment of their own.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 256 * 1024 * 1024;
+
+    private static final int MIN_SEGMENT_SIZE = 4096;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("\\d{8}\\.seg");
+    private static final BinaryDSSESerializer SERIALIZER = new BinaryDSSESerializer();
+    private static final BinaryDSSEDeserializer DESERIALIZER = new BinaryDSSEDeserializer();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final FileChannel lockChannel;
+    private final MessageDigest sha256 = newSha256();
+    private final ReadWriteLock indexLock = new ReentrantReadWriteLock();
+    private final DigestIndex index;
+    private volatile List<Segment> segments;
+    private volatile boolean closed;
+
+    private DSSEEnvelopeStore(Path directory, int segmentSize, FileChannel lockChannel) {
+
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.lockChannel = lockChannel;
+
+        List<Path> paths = listSegments(directory);
+        List<Segment> segments = new ArrayList<>(paths.size() + 1);
+        for (int segmentIndex = 0; segmentIndex < paths.size(); segmentIndex++) {
+            segments.add(Segment.open(paths.get(segmentIndex), segmentSize, segmentIndex == paths.size() - 1));
+        }
+        if (segments.isEmpty()) {
+            segments.add(Segment.create(directory.resolve(segmentName(0)), segmentSize));
+        }
+
+        this.index = new DigestIndex(0);
+        for (int segmentIndex = 0; segmentIndex < segments.size(); segmentIndex++) {
+            Segment segment = segments.get(segmentIndex);
+            long segmentBits = (long) segmentIndex << 32;
+            segment.offsets(segment.end())
+                   .forEach(offset -> this.index.put(segment.digestKey(offset), segmentBits | offset));
+        }
+        this.segments = List.copyOf(segments);
+    }
+
+    /**
+     * Opens the store held by the given directory, with segments of {@link #DEFAULT_SEGMENT_SIZE} bytes. The
+     * directory is created if needed.
+     *
+     * @param directory
+     *         the directory of the segment files; must not be null
+     * @return the opened store
+     * @throws DSSEException
+     *         if the directory cannot be created or locked, or if a segment cannot be opened or is corrupted
+     */
+    public static DSSEEnvelopeStore open(@NonNull Path directory) {
+
+        return open(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the store held by the given directory. The directory is created if needed.
+     *
+     * @param directory
+     *         the directory of the segment files; must not be null
+     * @param segmentSize
+     *         the maximum size of a segment file, in bytes, from 4 KiB to 2 GiB; the file of the current segment is
+     *         allocated at this size, sparsely on most file systems
+     * @return the opened store
+     * @throws IllegalArgumentException
+     *         if the segment size is out of range
+     * @throws DSSEException
+     *         if the directory cannot be created or locked, or if a segment cannot be opened or is corrupted
+     */
+    public static DSSEEnvelopeStore open(@NonNull Path directory, int segmentSize) {
+
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be at least %d bytes".formatted(MIN_SEGMENT_SIZE));
+        }
+
+        FileChannel lockChannel = lock(directory);
+        try {
+            return new DSSEEnvelopeStore(directory, segmentSize, lockChannel);
+        } catch (RuntimeException ex) {
+            try {
+                lockChannel.close();
+            } catch (IOException closeException) {
+                ex.addSuppressed(closeException);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Computes the digest identifying the given envelope in a store: the SHA-256 hash of its binary form. The payload
+     * is streamed through the hash function rather than copied.
+     *
+     * @param envelope
+     *         the envelope; must not be null
+     * @return the 32 bytes of the digest
+     * @throws DSSEException
+     *         if the envelope cannot be serialized
+     */
+    public static byte[] digest(@NonNull DSSEEnvelope envelope) {
+
+        MessageDigest sha256 = newSha256();
+        SERIALIZER.serialize(envelope, new DigestOutputStream(OutputStream.nullOutputStream(), sha256));
+        return sha256.digest();
+    }
+
+    /**
+     * Appends the given envelope to the store, unless it is already there.
+     *
+     * @param envelope
+     *         the envelope to be appended; must not be null
+     * @return the digest of the envelope, by which it can be read back
+     * @throws DSSEException
+     *         if the envelope cannot be serialized, if it is too large for a segment, or if a new segment cannot be
+     *         created
+     * @throws IllegalStateException
+     *         if the store is closed
+     */
+    public synchronized byte[] append(@NonNull DSSEEnvelope envelope) {
+
+        this.checkOpen();
+        long bodyLength = SERIALIZER.serializedLength(envelope);
+        Segment segment = this.segments.get(this.segments.size() - 1);
+        if (!segment.fits(bodyLength)) {
+            // Looked up first, so that a duplicate does not start a new segment
+            byte[] digest = digest(envelope);
+            if (this.find(digest) != DigestIndex.NOT_FOUND) {
+                return digest;
+            }
+            segment = this.startSegment(bodyLength);
+        }
+
+        // The envelope is serialized in place, and only committed if it is not in the store yet. The record is as
+        // long as what was written, in case a signature was added since its length was computed.
+        ByteBuffer body = segment.nextBody();
+        SERIALIZER.serialize(envelope, body);
+        int writtenLength = body.position();
+        this.sha256.update(body.flip());
+        byte[] digest = this.sha256.digest();
+        if (this.find(digest) != DigestIndex.NOT_FOUND) {
+            return digest;
+        }
+
+        long location = (long) (this.segments.size() - 1) << 32 | segment.commit(writtenLength, digest);
+        this.indexLock.writeLock().lock();
+        try {
+            this.index.put(segment.digestKey((int) location), location);
+        } finally {
+            this.indexLock.writeLock().unlock();
+        }
+        return digest;
+    }
+
+    /**
+     * Reads the envelope of the given digest. Its payload is a view of the mapped segment, and is not copied.
+     *
+     * @param digest
+     *         the digest of the envelope, as returned by {@link #append(DSSEEnvelope)}; must not be null
+     * @return the envelope, or an empty {@code Optional} if the store does not hold it
+     * @throws IllegalStateException
+     *         if the store is closed
+     */
+    public Optional<MappedDSSEEnvelope> get(byte @NonNull [] digest) {
+
+        this.checkOpen();
+        if (digest.length != Segment.DIGEST_LENGTH) {
+            return Optional.empty();
+        }
+
+        long location;
+        this.indexLock.readLock().lock();
+        try {
+            location = this.find(digest);
+        } finally {
+            this.indexLock.readLock().unlock();
+        }
+
+        return location == DigestIndex.NOT_FOUND
+                ? Optional.empty()
+                : Optional.of(this.read(this.segments.get((int) (location >>> 32)), (int) location));
+    }
+
+    /**
+     * Returns whether the store holds the envelope of the given digest.
+     *
+     * @param digest
+     *         the digest of the envelope; must not be null
+     * @return {@code true} if the store holds the envelope
+     * @throws IllegalStateException
+     *         if the store is closed
+     */
+    public boolean contains(byte @NonNull [] digest) {
+
+        this.checkOpen();
+        if (digest.length != Segment.DIGEST_LENGTH) {
+            return false;
+        }
+
+        this.indexLock.readLock().lock();
+        try {
+            return this.find(digest) != DigestIndex.NOT_FOUND;
+        } finally {
+            this.indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of envelopes held by the store.
+     *
+     * @return the number of envelopes
+     */
+    public int size() {
+
+        this.indexLock.readLock().lock();
+        try {
+            return this.index.size();
+        } finally {
+            this.indexLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a sequential stream of the envelopes held by the store when this method is called, in the order they
+     * were appended. Envelopes are read lazily, as the stream is consumed, and their payloads are not copied.
+     *
+     * @return a stream of the envelopes
+     * @throws IllegalStateException
+     *         if the store is closed
+     */
+    public Stream<MappedDSSEEnvelope> stream() {
+
+        this.checkOpen();
+        List<Segment> segments = this.segments;
+        int[] ends = segments.stream().mapToInt(Segment::end).toArray();
+        return Stream.iterate(0, segmentIndex -> segmentIndex < segments.size(), segmentIndex -> segmentIndex + 1)
+                     .flatMap(segmentIndex -> {
+                         Segment segment = segments.get(segmentIndex);
+                         return segment.offsets(ends[segmentIndex]).mapToObj(offset -> this.read(segment, offset));
+                     });
+    }
+
+    /**
+     * Writes the appended envelopes to the storage device.
+     *
+     * @throws IllegalStateException
+     *         if the store is closed
+     */
+    @Override
+    public synchronized void flush() {
+
+        this.checkOpen();
+        this.segments.get(this.segments.size() - 1).force();
+    }
+
+    /**
+     * Writes the appended envelopes to the storage device, and unlocks the directory. Does nothing if the store is
+     * already closed.
+     *
+     * @throws IOException
+     *         if the directory cannot be unlocked
+     */
+    @Override
+    public synchronized void close() throws IOException {
+
+        if (this.closed) {
+            return;
+        }
+
+        this.closed = true;
+        try {
+            this.segments.get(this.segments.size() - 1).force();
+        } finally {
+            this.lockChannel.close();
+        }
+    }
+
+    /**
+     * Starts a new segment, to hold a record that does not fit in the current one.
+     */
+    private Segment startSegment(long bodyLength) {
+
+        Segment segment = this.segments.get(this.segments.size() - 1);
+        long recordLength = Segment.HEADER_LENGTH + Segment.RECORD_HEADER_LENGTH + bodyLength;
+        if (recordLength > Integer.MAX_VALUE) {
+            throw new DSSEException("Envelope of %d bytes is too large for a segment".formatted(bodyLength), null);
+        }
+
+        // The full segment is written to the device before the next one exists, so that it is never torn
+        segment.force();
+        List<Segment> segments = new ArrayList<>(this.segments);
+        Path path = this.directory.resolve(segmentName(segmentNumber(segment.path()) + 1));
+        segments.add(Segment.create(path, (int) Math.max(this.segmentSize, recordLength)));
+        this.segments = List.copyOf(segments);
+        return segments.get(segments.size() - 1);
+    }
+
+    /**
+     * Returns the location of the record of the given digest, or {@link DigestIndex#NOT_FOUND}. The caller must hold
+     * the read lock of the index, or be the appending thread.
+     */
+    private long find(byte[] digest) {
+
+        List<Segment> segments = this.segments;
+        return this.index.find(ByteBuffer.wrap(digest).getLong(), location ->
+                segments.get((int) (location >>> 32)).hasDigest((int) location, digest));
+    }
+
+    private MappedDSSEEnvelope read(Segment segment, int offset) {
+
+        try {
+            return DESERIALIZER.deserialize(segment.body(offset));
+        } catch (DSSEException ex) {
+            throw new DSSEException("Failed to read the record at offset %d of segment '%s'"
+                                            .formatted(offset, segment.path()), ex);
+        }
+    }
+
+    private void checkOpen() {
+
+        if (this.closed) {
+            throw new IllegalStateException("The envelope store '%s' is closed".formatted(this.directory));
+        }
+    }
+
+    private static FileChannel lock(Path directory) {
+
+        FileChannel channel = null;
+        try {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(directory.resolve("store.lock"), StandardOpenOption.CREATE,
+                                       StandardOpenOption.WRITE);
+            FileLock lock = channel.tryLock();
+            if (lock == null) {
+                throw new DSSEException("The envelope store '%s' is open in another process".formatted(directory), null);
+            }
+            return channel;
+        } catch (IOException | OverlappingFileLockException ex) {
+            closeQuietly(channel);
+            throw new DSSEException("Failed to lock the envelope store '%s'".formatted(directory), ex);
+        } catch (DSSEException ex) {
+            closeQuietly(channel);
+            throw ex;
+        }
+    }
+
+    private static List<Path> listSegments(Path directory) {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> SEGMENT_NAME.matcher(file.getFileName().toString()).matches())
+                        .sorted()
+                        .toList();
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to list the segments of '%s'".formatted(directory), ex);
+        }
+    }
+
+    private static String segmentName(int segmentNumber) {
+
+        return "%08d.seg".formatted(segmentNumber);
+    }
+
+    private static int segmentNumber(Path segment) {
+
+        return Integer.parseInt(segment.getFileName().toString().substring(0, 8));
+    }
+
+    private static MessageDigest newSha256() {
+
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new DSSEException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // The original failure is reported
+            }
+        }
+    }
+}
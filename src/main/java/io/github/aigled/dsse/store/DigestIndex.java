@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.store;
+
+import io.github.aigled.dsse.DSSEException;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/**
+ * An open-addressing hash table from the first 8 bytes of an envelope digest to the location of its record, holding
+ * 16 bytes per slot in two primitive arrays. The full digest is kept in the record header only: keys sharing their
+ * first 8 bytes are all probed, and told apart by the caller.
+ * <p>
+ * Thread-safety:
+ * This class is not thread-safe; {@link DSSEEnvelopeStore} guards it with a read-write lock.
+ */
+final class DigestIndex {
+
+    static final long NOT_FOUND = -1;
+
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private long[] keys;
+    private long[] locations;
+    private int size;
+
+    DigestIndex(int expectedSize) {
+
+        int capacity = MIN_CAPACITY;
+        while (capacity < MAX_CAPACITY && capacity < 2L * expectedSize) {
+            capacity <<= 1;
+        }
+        this.keys = new long[capacity];
+        this.locations = newLocations(capacity);
+    }
+
+    int size() {
+
+        return this.size;
+    }
+
+    /**
+     * Returns the location of the first entry whose key is the given one and whose location is accepted by the
+     * predicate, or {@link #NOT_FOUND}.
+     */
+    long find(long key, LongPredicate matches) {
+
+        int mask = this.keys.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            long location = this.locations[slot];
+            if (location == NOT_FOUND) {
+                return NOT_FOUND;
+            }
+            if (this.keys[slot] == key && matches.test(location)) {
+                return location;
+            }
+        }
+    }
+
+    /**
+     * Adds an entry, which must not be in the index yet.
+     */
+    void put(long key, long location) {
+
+        // At most half full, so that probe sequences stay short
+        if (2 * (this.size + 1) > this.keys.length) {
+            this.grow();
+        }
+
+        insert(this.keys, this.locations, key, location);
+        this.size++;
+    }
+
+    private void grow() {
+
+        if (this.keys.length == MAX_CAPACITY) {
+            throw new DSSEException("The index is full with %d envelopes".formatted(this.size), null);
+        }
+
+        long[] keys = new long[this.keys.length << 1];
+        long[] locations = newLocations(keys.length);
+        for (int slot = 0; slot < this.keys.length; slot++) {
+            if (this.locations[slot] != NOT_FOUND) {
+                insert(keys, locations, this.keys[slot], this.locations[slot]);
+            }
+        }
+        this.keys = keys;
+        this.locations = locations;
+    }
+
+    private static void insert(long[] keys, long[] locations, long key, long location) {
+
+        int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (locations[slot] != NOT_FOUND) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        locations[slot] = location;
+    }
+
+    private static int slot(long key, int mask) {
+
+        return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    private static long[] newLocations(int capacity) {
+
+        long[] locations = new long[capacity];
+        Arrays.fill(locations, NOT_FOUND);
+        return locations;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.store;
+
+import io.github.aigled.dsse.DSSEException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32C;
+
+/**
+ * A segment file of a {@link DSSEEnvelopeStore}, mapped in memory as a whole.
+ * <p>
+ * A segment starts with a magic number and a version, followed by records, each made of a header and a body:
+ * <pre>
+ * record = int32(body length) int32(CRC32C of the body) 32 bytes(SHA-256 of the body) body
+ * </pre>
+ * Integers are big-endian, and the body is a binary envelope. The file of the active segment is mapped read-write at
+ * its full capacity, so that records are written in place and read back without remapping; the zeroed space after
+ * the last record reads as a record of length 0, which ends the segment.
+ * <p>
+ * Thread-safety:
+ * Only one thread may write a segment at a time. Records below {@link #end()} are never modified, and are read with
+ * absolute accesses only, so that any number of threads may read them concurrently.
+ */
+final class Segment {
+
+    static final int HEADER_LENGTH = 8;
+    static final int RECORD_HEADER_LENGTH = 40;
+    static final int DIGEST_LENGTH = 32;
+
+    private static final int MAGIC = 0x44535345;
+    private static final int VERSION = 1;
+
+    private final Path path;
+    private final MappedByteBuffer mapping;
+    private volatile int end;
+
+    private Segment(Path path, MappedByteBuffer mapping, int end) {
+
+        this.path = path;
+        this.mapping = mapping;
+        this.end = end;
+    }
+
+    /**
+     * Creates a new, empty, writable segment file of the given capacity.
+     */
+    static Segment create(Path path, int capacity) {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            mapping.putInt(0, MAGIC).putInt(4, VERSION);
+            // Written to the device before any record, so that a crash never leaves a segment without a header
+            mapping.force(0, HEADER_LENGTH);
+            return new Segment(path, mapping, HEADER_LENGTH);
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to create segment '%s'".formatted(path), ex);
+        }
+    }
+
+    /**
+     * Opens an existing segment file.
+     * <p>
+     * A writable segment is the last one of its store, whose last record may have been torn by a crash: the checksum
+     * of each record is checked, and the segment ends before the first one that does not match. Its file is extended
+     * to the given capacity if smaller, and its header is written if the segment was created just before a crash. A
+     * read-only segment was completely written before the next one was created, and any inconsistency is reported as
+     * a corruption.
+     */
+    static Segment open(Path path, int capacity, boolean writable) {
+
+        StandardOpenOption[] options = writable
+                ? new StandardOpenOption[]{StandardOpenOption.READ, StandardOpenOption.WRITE}
+                : new StandardOpenOption[]{StandardOpenOption.READ};
+        try (FileChannel channel = FileChannel.open(path, options)) {
+            long size = channel.size();
+            if ((size < HEADER_LENGTH && !writable) || size > Integer.MAX_VALUE) {
+                throw new DSSEException("Segment '%s' has an invalid size of %d bytes".formatted(path, size), null);
+            }
+
+            MappedByteBuffer mapping = writable
+                    ? channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, capacity))
+                    : channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (writable && mapping.getInt(0) == 0 && mapping.getInt(4) == 0) {
+                // A crash followed the creation of the segment, before its header reached the device
+                mapping.putInt(0, MAGIC).putInt(4, VERSION);
+                mapping.force(0, HEADER_LENGTH);
+            }
+            if (mapping.getInt(0) != MAGIC || mapping.getInt(4) != VERSION) {
+                throw new DSSEException("Segment '%s' is not a version %d segment".formatted(path, VERSION), null);
+            }
+
+            Segment segment = new Segment(path, mapping, HEADER_LENGTH);
+            segment.recover(writable);
+            return segment;
+        } catch (IOException ex) {
+            throw new DSSEException("Failed to open segment '%s'".formatted(path), ex);
+        }
+    }
+
+    private void recover(boolean writable) {
+
+        int offset = HEADER_LENGTH;
+        while (offset <= this.capacity() - RECORD_HEADER_LENGTH) {
+            int length = this.mapping.getInt(offset);
+            if (length == 0) {
+                break;
+            }
+
+            boolean complete = length > 0 && length <= this.capacity() - offset - RECORD_HEADER_LENGTH;
+            if (complete && writable) {
+                complete = this.mapping.getInt(offset + 4) == checksum(this.body(offset));
+            }
+            if (!complete) {
+                if (!writable) {
+                    throw new DSSEException("Segment '%s' is corrupted at offset %d".formatted(this.path, offset), null);
+                }
+
+                // Clears the torn record, so that records appended over it are not followed by its remains
+                byte[] zeros = new byte[64 * 1024];
+                for (int position = offset; position < this.capacity(); position += zeros.length) {
+                    this.mapping.put(position, zeros, 0, Math.min(zeros.length, this.capacity() - position));
+                }
+                this.mapping.force();
+                break;
+            }
+
+            offset += RECORD_HEADER_LENGTH + length;
+        }
+
+        this.end = offset;
+    }
+
+    Path path() {
+
+        return this.path;
+    }
+
+    int capacity() {
+
+        return this.mapping.capacity();
+    }
+
+    /**
+     * Returns the offset following the last record.
+     */
+    int end() {
+
+        return this.end;
+    }
+
+    /**
+     * Returns whether a record with a body of the given length fits after the last record.
+     */
+    boolean fits(long bodyLength) {
+
+        return this.end + RECORD_HEADER_LENGTH + bodyLength <= this.capacity();
+    }
+
+    /**
+     * Returns a writable view of the space available for the body of the next record, up to the end of the segment.
+     */
+    ByteBuffer nextBody() {
+
+        int start = this.end + RECORD_HEADER_LENGTH;
+        return this.mapping.slice(start, Math.max(0, this.capacity() - start));
+    }
+
+    /**
+     * Writes the header of the next record, whose body has been written, and makes it visible to readers.
+     * <p>
+     * The space after the record may hold the body of a record that was written but not committed, whose bytes would
+     * be read as a record header: the length following the record is therefore cleared first.
+     *
+     * @return the offset of the record
+     */
+    int commit(int bodyLength, byte[] digest) {
+
+        int offset = this.end;
+        int next = offset + RECORD_HEADER_LENGTH + bodyLength;
+        if (next <= this.capacity() - Integer.BYTES) {
+            this.mapping.putInt(next, 0);
+        }
+        this.mapping.put(offset + 8, digest);
+        this.mapping.putInt(offset + 4, checksum(this.mapping.slice(offset + RECORD_HEADER_LENGTH, bodyLength)));
+        this.mapping.putInt(offset, bodyLength);
+        this.end = next;
+        return offset;
+    }
+
+    /**
+     * Returns a read-only view of the body of the record at the given offset.
+     */
+    ByteBuffer body(int offset) {
+
+        return this.mapping.slice(offset + RECORD_HEADER_LENGTH, this.mapping.getInt(offset)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the first 8 bytes of the digest of the record at the given offset, as a big-endian long.
+     */
+    long digestKey(int offset) {
+
+        return this.mapping.getLong(offset + 8);
+    }
+
+    boolean hasDigest(int offset, byte[] digest) {
+
+        return this.mapping.slice(offset + 8, DIGEST_LENGTH).equals(ByteBuffer.wrap(digest));
+    }
+
+    /**
+     * Returns the offsets of the records below the given end, in order.
+     */
+    IntStream offsets(int end) {
+
+        return IntStream.iterate(HEADER_LENGTH, offset -> offset < end,
+                                 offset -> offset + RECORD_HEADER_LENGTH + this.mapping.getInt(offset));
+    }
+
+    /**
+     * Writes the mapped content to the storage device.
+     */
+    void force() {
+
+        this.mapping.force();
+    }
+
+    private static int checksum(ByteBuffer body) {
+
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+        return (int) crc.getValue();
+    }
+}
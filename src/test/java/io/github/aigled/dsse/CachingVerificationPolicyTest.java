@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingVerificationPolicyTest {
+
+    private static final String PAYLOAD = Base64.getEncoder().encodeToString("payload".getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private DSSEVerificationPolicy delegate;
+
+    @Test
+    void verify_shouldDelegateOnce_WhenSameEnvelopeIsVerifiedTwice() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10);
+
+        // Act
+        boolean first = policy.verify(envelope("payload", "sig"));
+        boolean second = policy.verify(envelope("payload", "sig"));
+
+        // Assert
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(this.delegate, times(1)).verify(any(DSSEVerificationContext.class));
+        assertThat(policy.getMissCount()).isEqualTo(1);
+        assertThat(policy.getHitCount()).isEqualTo(1);
+        assertThat(policy.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_shouldCacheNegativeResults() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(false);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10);
+
+        // Act
+        policy.verify(envelope("payload", "sig"));
+        boolean second = policy.verify(envelope("payload", "sig"));
+
+        // Assert
+        assertThat(second).isFalse();
+        verify(this.delegate, times(1)).verify(any(DSSEVerificationContext.class));
+    }
+
+    @Test
+    void verify_shouldDelegateAgain_WhenSignaturesOrPayloadDiffer() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10);
+
+        // Act
+        policy.verify(envelope("payload", "sig"));
+        policy.verify(envelope("payload", "other-sig"));
+        policy.verify(envelope("other-payload", "sig"));
+
+        // Assert
+        verify(this.delegate, times(3)).verify(any(DSSEVerificationContext.class));
+        assertThat(policy.getMissCount()).isEqualTo(3);
+        assertThat(policy.getHitCount()).isZero();
+    }
+
+    @Test
+    void verify_shouldDelegateAgain_WhenResultExpired() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        AtomicLong clock = new AtomicLong();
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10, Duration.ofSeconds(1),
+                                                                         clock::get);
+
+        // Act
+        policy.verify(envelope("payload", "sig"));
+        clock.addAndGet(Duration.ofMillis(999).toNanos());
+        policy.verify(envelope("payload", "sig"));
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        policy.verify(envelope("payload", "sig"));
+
+        // Assert
+        verify(this.delegate, times(2)).verify(any(DSSEVerificationContext.class));
+        assertThat(policy.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_shouldHitCache_WhenClockIsNegative() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        AtomicLong clock = new AtomicLong(Long.MIN_VALUE + 10);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10, Duration.ofSeconds(1),
+                                                                         clock::get);
+
+        // Act
+        policy.verify(envelope("payload", "sig"));
+        clock.addAndGet(Duration.ofMillis(999).toNanos());
+        policy.verify(envelope("payload", "sig"));
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        policy.verify(envelope("payload", "sig"));
+
+        // Assert
+        assertThat(policy.getHitCount()).isEqualTo(1);
+        assertThat(policy.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    void verify_shouldNeverExpireResults_WhenTimeToLiveIsNotSet() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        AtomicLong clock = new AtomicLong(-1);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10, null, clock::get);
+
+        // Act
+        policy.verify(envelope("payload", "sig"));
+        clock.set(Long.MAX_VALUE);
+        policy.verify(envelope("payload", "sig"));
+
+        // Assert
+        verify(this.delegate, times(1)).verify(any(DSSEVerificationContext.class));
+    }
+
+    @Test
+    void getSize_shouldReachMaximumSize_WhenItIsNotAMultipleOfTheSegmentCount() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 100);
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            policy.verify(envelope("payload", "sig-" + i));
+        }
+
+        // Assert
+        assertThat(policy.getSize()).isEqualTo(100);
+    }
+
+    @Test
+    void verify_shouldEvictLeastRecentlyUsedResult_WhenMaximumSizeIsReached() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 1);
+
+        // Act
+        policy.verify(envelope("payload", "sig"));
+        policy.verify(envelope("other-payload", "sig"));
+        policy.verify(envelope("payload", "sig"));
+
+        // Assert
+        verify(this.delegate, times(3)).verify(any(DSSEVerificationContext.class));
+        assertThat(policy.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void verify_shouldNotCacheExceptions() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class)))
+                .thenThrow(new DSSEException("boom", null))
+                .thenReturn(true);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10);
+
+        // Act & Assert
+        assertThatThrownBy(() -> policy.verify(envelope("payload", "sig"))).isInstanceOf(DSSEException.class);
+        assertThat(policy.verify(envelope("payload", "sig"))).isTrue();
+        assertThat(policy.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidateAll_shouldRemoveCachedResults() {
+
+        // Arrange
+        when(this.delegate.verify(any(DSSEVerificationContext.class))).thenReturn(true);
+        CachingVerificationPolicy policy = new CachingVerificationPolicy(this.delegate, 10);
+        policy.verify(envelope("payload", "sig"));
+
+        // Act
+        policy.invalidateAll();
+        policy.verify(envelope("payload", "sig"));
+
+        // Assert
+        verify(this.delegate, times(2)).verify(any(DSSEVerificationContext.class));
+    }
+
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_WhenMaximumSizeIsNotPositive() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> new CachingVerificationPolicy(this.delegate, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maximumSize must be > 0");
+    }
+
+    private static DSSEEnvelope envelope(String payload, String signature) {
+
+        String encodedPayload = Base64.getEncoder().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return DSSEEnvelope.ofSignedMessage(encodedPayload, "application/json",
+                                            List.of(DSSESignature.of("keyid", signature.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DSSEBatchVerifierTest {
+
+    @Test
+    void constructor_shouldThrowIllegalArgumentException_whenMaxConcurrencyNonPositive() {
+
+        assertThatThrownBy(() -> new DSSEBatchVerifier(envelope -> true, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("maxConcurrency must be > 0");
+    }
+
+    @Test
+    void verifyAll_shouldReturnResultsInInputOrder_whenVerifiedConcurrently() {
+
+        // Arrange
+        List<DSSEEnvelope> envelopes = IntStream.range(0, 50).mapToObj(DSSEBatchVerifierTest::signedEnvelope).toList();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        DSSEVerificationPolicy policy = envelope -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            return new String(envelope.getSerializedBody(), StandardCharsets.UTF_8).hashCode() % 2 == 0;
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        DSSEBatchVerifier batchVerifier = new DSSEBatchVerifier(policy, 4, executor);
+
+        // Act
+        DSSEBatchVerificationResult result;
+        try {
+            result = batchVerifier.verifyAll(envelopes);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(result.results()).hasSize(50);
+        assertThat(result.results()).extracting(DSSEBatchVerificationResult.EnvelopeResult::index)
+                                    .containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+        assertThat(result.results()).extracting(DSSEBatchVerificationResult.EnvelopeResult::envelope)
+                                    .containsExactlyElementsOf(envelopes);
+        assertThat(result.results()).allSatisfy(envelopeResult -> assertThat(envelopeResult.verified())
+                .isEqualTo(new String(envelopeResult.envelope().getSerializedBody(), StandardCharsets.UTF_8).hashCode() % 2 == 0));
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(4);
+        assertThat(result.elapsed()).isPositive();
+    }
+
+    @Test
+    void verifyAll_shouldReportFailuresPerEnvelope_whenDeserializationOrVerificationFails() {
+
+        // Arrange
+        DSSEEnvelope valid = signedEnvelope(1);
+        DSSEEnvelope unsigned = new DSSEEnvelope("content".getBytes(StandardCharsets.UTF_8), "application/json");
+        DSSEDeserializer deserializer = content -> {
+            if (content.equals("valid")) {
+                return valid;
+            } else if (content.equals("unsigned")) {
+                return unsigned;
+            }
+            throw new DSSEException("Failed to deserialize", null);
+        };
+        DSSEBatchVerifier batchVerifier = new DSSEBatchVerifier(envelope -> true, 2);
+
+        // Act
+        DSSEBatchVerificationResult result = batchVerifier.verifyAll(Stream.of("valid", "invalid", "unsigned"),
+                                                                     deserializer);
+
+        // Assert
+        assertThat(result.verifiedCount()).isEqualTo(1);
+        assertThat(result.allVerified()).isFalse();
+        assertThat(result.results().get(0).verified()).isTrue();
+        assertThat(result.results().get(0).error()).isNull();
+        assertThat(result.results().get(1).envelope()).isNull();
+        assertThat(result.results().get(1).error()).isInstanceOf(DSSEException.class);
+        assertThat(result.results().get(2).envelope()).isSameAs(unsigned);
+        assertThat(result.results().get(2).error()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void verifyAll_shouldNotReportAllVerified_whenBatchIsEmpty() {
+
+        // Arrange
+        DSSEBatchVerifier batchVerifier = new DSSEBatchVerifier(envelope -> true, 2);
+
+        // Act
+        DSSEBatchVerificationResult result = batchVerifier.verifyAll(List.of());
+
+        // Assert
+        assertThat(result.results()).isEmpty();
+        assertThat(result.verifiedCount()).isZero();
+        assertThat(result.allVerified()).isFalse();
+    }
+
+    @Test
+    void verifyEach_shouldDeliverResultsInInputOrder_WithoutConsumingTheStreamAhead() {
+
+        // Arrange
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<DSSEEnvelope> envelopes = IntStream.range(0, 100)
+                                                  .peek(index -> pulled.incrementAndGet())
+                                                  .mapToObj(DSSEBatchVerifierTest::signedEnvelope);
+        DSSEBatchVerifier batchVerifier = new DSSEBatchVerifier(envelope -> true, 4);
+        List<Integer> indexes = new ArrayList<>();
+        AtomicInteger maxAhead = new AtomicInteger();
+
+        // Act
+        batchVerifier.verifyEach(envelopes, envelopeResult -> {
+            maxAhead.accumulateAndGet(pulled.get() - envelopeResult.index(), Math::max);
+            indexes.add(envelopeResult.index());
+        });
+
+        // Assert
+        assertThat(indexes).containsExactlyElementsOf(IntStream.range(0, 100).boxed().toList());
+        // The pending verifications, and the next envelope, pulled by the iterator to know whether there is one
+        assertThat(maxAhead.get()).isLessThanOrEqualTo(4 + 1);
+    }
+
+    private static DSSEEnvelope signedEnvelope(int index) {
+
+        String payload = Base64.getEncoder().encodeToString(("payload-" + index).getBytes(StandardCharsets.UTF_8));
+        return DSSEEnvelope.ofSignedMessage(payload, "application/json",
+                                            List.of(DSSESignature.of("keyid", new byte[]{(byte) index})));
+    }
+}
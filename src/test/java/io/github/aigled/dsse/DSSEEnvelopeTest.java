@@ -14,8 +14,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,7 +46,7 @@ class DSSEEnvelopeTest {
         DSSEEnvelope envelope = new DSSEEnvelope("content".getBytes(), "application/json");
 
         when(this.signer.getKeyId()).thenReturn(null, "keyid");
-        when(this.signer.sign(any())).thenReturn("signature1".getBytes(), "signature2".getBytes());
+        when(this.signer.sign(any(byte[].class))).thenReturn("signature1".getBytes(), "signature2".getBytes());
 
         // Act
         envelope.sign(this.signer);
@@ -99,4 +107,336 @@ class DSSEEnvelopeTest {
         assertThat(result).isFalse();
         assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
     }
+
+    @Test
+    void ofSignedMessage_shouldKeepPayload_WhenPayloadIsCanonical() {
+
+        // Arrange
+        String payload = Base64.getEncoder().encodeToString("test!".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(payload, "application/json", List.of());
+
+        // Assert
+        assertThat(envelope.hasEncodedPayload()).isTrue();
+        assertThat(envelope.getPayload()).isSameAs(payload);
+        assertThat(envelope.getPayloadLength()).isEqualTo(5);
+        assertThat(envelope.getSerializedBody()).isEqualTo("test!".getBytes(StandardCharsets.UTF_8))
+                                                .isSameAs(envelope.getSerializedBody());
+    }
+
+    @Test
+    void ofSignedMessage_shouldDecodePayload_WhenPayloadIsNotCanonical() {
+
+        // Act
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage("-_8", "application/json", List.of());
+
+        // Assert
+        assertThat(envelope.hasEncodedPayload()).isFalse();
+        assertThat(envelope.getSerializedBody()).containsExactly(0xfb, 0xff);
+        assertThat(envelope.getPayload()).isEqualTo("+/8=");
+    }
+
+    @Test
+    void ofSignedMessage_shouldThrowIllegalArgumentException_WhenPayloadIsInvalid() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> DSSEEnvelope.ofSignedMessage("not base64!", "application/json", List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getPayload_shouldEncodeOnce_WhenEnvelopeHoldsSerializedBody() {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope("content".getBytes(StandardCharsets.UTF_8), "application/json");
+
+        // Act
+        String payload = envelope.getPayload();
+
+        // Assert
+        assertThat(payload).isEqualTo(Base64.getEncoder().encodeToString("content".getBytes(StandardCharsets.UTF_8)));
+        assertThat(envelope.getPayload()).isSameAs(payload);
+        assertThat(envelope.hasEncodedPayload()).isTrue();
+    }
+
+    @Test
+    void equals_shouldCompareContent_WhateverTheRepresentation() {
+
+        // Arrange
+        byte[] body = "content".getBytes(StandardCharsets.UTF_8);
+        DSSESignature signature = DSSESignature.of("keyid", "signature".getBytes());
+        DSSEEnvelope decoded = DSSEEnvelope.of(body, "application/json", List.of(signature));
+        DSSEEnvelope encoded = DSSEEnvelope.ofSignedMessage(Base64.getEncoder().encodeToString(body),
+                                                            "application/json", List.of(signature));
+        DSSEEnvelope other = DSSEEnvelope.ofSignedMessage(Base64.getEncoder().encodeToString("contenu".getBytes()),
+                                                          "application/json", List.of(signature));
+
+        // Act & Assert
+        assertThat(decoded).isEqualTo(encoded)
+                           .hasSameHashCodeAs(encoded)
+                           .isNotEqualTo(other);
+        assertThat(encoded).isEqualTo(decoded)
+                           .isNotEqualTo(other);
+    }
+
+    @Test
+    void sign_shouldKeepEverySignature_WhenSignedConcurrently() throws Exception {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope("content".getBytes(), "application/json");
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                String keyId = "keyid-" + thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 50; i++) {
+                        envelope.sign(fixedSigner(keyId));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+        assertThat(envelope.getSignatures()).hasSize(400);
+        for (int thread = 0; thread < 8; thread++) {
+            String keyId = "keyid-" + thread;
+            assertThat(envelope.getSignatures()).filteredOn(signature -> keyId.equals(signature.keyid())).hasSize(50);
+        }
+    }
+
+    @Test
+    void verify_shouldNotSerializeVerifications_WhenEnvelopeIsShared() throws Exception {
+
+        // Arrange
+        DSSESignature signature = DSSESignature.of("keyid", "signature".getBytes());
+        DSSEEnvelope envelope = DSSEEnvelope.of("content".getBytes(), "application/json", List.of(signature));
+        CountDownLatch inPolicy = new CountDownLatch(4);
+        // Each verification only completes once all of them are running, which a lock on the envelope would prevent
+        DSSEVerificationPolicy policy = verified -> {
+            inPolicy.countDown();
+            try {
+                return inPolicy.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        List<Boolean> results = new ArrayList<>();
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> envelope.verify(policy)));
+            }
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(results).containsOnly(true);
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.VERIFIED);
+    }
+
+    @Test
+    void verify_shouldLeaveEnvelopeSigned_WhenSignatureAddedDuringVerification() {
+
+        // Arrange
+        DSSESignature signature = DSSESignature.of("keyid", "signature".getBytes());
+        DSSEEnvelope envelope = DSSEEnvelope.of("content".getBytes(), "application/json", List.of(signature));
+        DSSEVerificationPolicy policy = verified -> {
+            verified.sign(fixedSigner("other-keyid"));
+            return true;
+        };
+
+        // Act
+        boolean result = envelope.verify(policy);
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+        assertThat(envelope.getSignatures()).hasSize(2);
+    }
+
+    @Test
+    void verify_shouldOnlyReachVerified_WhenEverySignatureWasSeenByThePolicy() throws Exception {
+
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act & Assert
+        try {
+            for (int round = 0; round < 500; round++) {
+                DSSESignature signature = DSSESignature.of("keyid", "signature".getBytes());
+                DSSEEnvelope envelope = DSSEEnvelope.of("content".getBytes(), "application/json", List.of(signature));
+                AtomicInteger seenSignatures = new AtomicInteger();
+                DSSEVerificationPolicy policy = verified -> {
+                    seenSignatures.set(verified.getSignatures().size());
+                    return true;
+                };
+                CountDownLatch start = new CountDownLatch(1);
+
+                Future<?> signing = executor.submit(() -> {
+                    start.await();
+                    envelope.sign(fixedSigner("other-keyid"));
+                    return null;
+                });
+                Future<Boolean> verification = executor.submit(() -> {
+                    start.await();
+                    return envelope.verify(policy);
+                });
+                start.countDown();
+                signing.get(10, TimeUnit.SECONDS);
+                assertThat(verification.get(10, TimeUnit.SECONDS)).isTrue();
+
+                assertThat(envelope.getState().get()).isNotEqualTo(DSSEEnvelope.State.UNSIGNED);
+                if (envelope.getState().get() == DSSEEnvelope.State.VERIFIED) {
+                    assertThat(seenSignatures.get()).isEqualTo(2);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void signAll_shouldAddSignaturesInSignerOrder_WhenSignersCompleteOutOfOrder() throws Exception {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope("content".getBytes(), "application/json");
+        CountDownLatch lastSigned = new CountDownLatch(1);
+        List<byte[]> signingInputs = Collections.synchronizedList(new ArrayList<>());
+        DSSESigner first = new DSSESigner() {
+
+            @Override
+            public String getKeyId() {
+
+                return "first";
+            }
+
+            @Override
+            public byte[] sign(byte[] signingInput) {
+
+                try {
+                    lastSigned.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                signingInputs.add(signingInput);
+                return "first".getBytes(StandardCharsets.UTF_8);
+            }
+        };
+        DSSESigner last = new DSSESigner() {
+
+            @Override
+            public String getKeyId() {
+
+                return "last";
+            }
+
+            @Override
+            public byte[] sign(byte[] signingInput) {
+
+                signingInputs.add(signingInput);
+                lastSigned.countDown();
+                return "last".getBytes(StandardCharsets.UTF_8);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // Act
+        DSSESigningResult result;
+        try {
+            result = envelope.signAll(List.of(first, last), executor);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertThat(result.allSigned()).isTrue();
+        assertThat(result.results()).extracting(DSSESigningResult.SignerResult::index).containsExactly(0, 1);
+        assertThat(envelope.getSignatures()).extracting("keyid").containsExactly("first", "last");
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+        assertThat(signingInputs).hasSize(2);
+        assertThat(signingInputs.get(0)).isSameAs(signingInputs.get(1));
+    }
+
+    @Test
+    void signAll_shouldReportFailure_WhenOneSignerFails() {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope("content".getBytes(), "application/json");
+        IllegalStateException failure = new IllegalStateException("HSM unavailable");
+
+        when(this.signer.getKeyId()).thenReturn("failing");
+        when(this.signer.sign(any(byte[].class))).thenThrow(failure);
+
+        // Act
+        DSSESigningResult result = envelope.signAll(List.of(fixedSigner("one"), this.signer, fixedSigner("two")));
+
+        // Assert
+        assertThat(result.allSigned()).isFalse();
+        assertThat(result.signedCount()).isEqualTo(2);
+        assertThat(result.results().get(1).signer()).isSameAs(this.signer);
+        assertThat(result.results().get(1).signature()).isNull();
+        assertThat(result.results().get(1).error()).isSameAs(failure);
+        assertThat(envelope.getSignatures()).extracting("keyid").containsExactly("one", "two");
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+    }
+
+    @Test
+    void signAll_shouldLeaveEnvelopeUnsigned_WhenEverySignerFails() {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope("content".getBytes(), "application/json");
+
+        when(this.signer.sign(any(byte[].class))).thenThrow(new IllegalStateException("HSM unavailable"));
+
+        // Act
+        DSSESigningResult result = envelope.signAll(List.of(this.signer));
+
+        // Assert
+        assertThat(result.signedCount()).isZero();
+        assertThat(result.results()).singleElement()
+                                    .extracting(DSSESigningResult.SignerResult::error)
+                                    .isInstanceOf(IllegalStateException.class);
+        assertThat(envelope.getSignatures()).isEmpty();
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.UNSIGNED);
+    }
+
+    private static DSSESigner fixedSigner(String keyId) {
+
+        return new DSSESigner() {
+
+            @Override
+            public String getKeyId() {
+
+                return keyId;
+            }
+
+            @Override
+            public byte[] sign(byte[] signingInput) {
+
+                return keyId.getBytes(StandardCharsets.UTF_8);
+            }
+        };
+    }
 }
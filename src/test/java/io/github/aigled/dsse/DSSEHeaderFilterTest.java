@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DSSEHeaderFilterTest {
+
+    @Test
+    void trustedKeyIds_shouldThrowIllegalArgumentException_WhenThresholdNonPositive() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> DSSEHeaderFilter.trustedKeyIds(0, Set.of("key1")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("threshold must be > 0");
+    }
+
+    @Test
+    void trustedKeyIds_shouldCountDistinctTrustedKeyIds() {
+
+        // Arrange
+        DSSEHeaderFilter filter = DSSEHeaderFilter.trustedKeyIds(2, Set.of("key1", "key2"));
+
+        // Act & Assert
+        assertThat(filter.acceptsPayloadType("application/json")).isTrue();
+        assertThat(filter.acceptsKeyIds(Arrays.asList(null, "key2", "key9", "key1"))).isTrue();
+        assertThat(filter.acceptsKeyIds(List.of("key1", "key1", "key9"))).isFalse();
+        assertThat(filter.acceptsKeyIds(List.of())).isFalse();
+    }
+
+    @Test
+    void withPayloadTypes_shouldAlsoCheckPayloadType() {
+
+        // Arrange
+        DSSEHeaderFilter filter = DSSEHeaderFilter.trustedKeyIds(1, Set.of("key1"))
+                                                  .withPayloadTypes(Set.of("application/json"));
+
+        // Act & Assert
+        assertThat(filter.acceptsPayloadType("application/json")).isTrue();
+        assertThat(filter.acceptsPayloadType("text/plain")).isFalse();
+        assertThat(filter.acceptsKeyIds(List.of("key1"))).isTrue();
+        assertThat(filter.acceptsKeyIds(List.of("key2"))).isFalse();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import io.github.aigled.dsse.DSSEMetricsListener.CodecOperation;
+import io.github.aigled.dsse.DSSEMetricsListener.SignatureOutcome;
+import io.github.aigled.dsse.codec.Jackson2JsonDSSEDeserializer;
+import io.github.aigled.dsse.codec.Jackson2JsonDSSESerializer;
+import io.github.aigled.dsse.crypto.ECDSAVerifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.SignatureException;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DSSEMetricsTest {
+
+    private static final byte[] PAYLOAD = "payload".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private DSSEMetricsListener listener;
+
+    @Mock
+    private DSSESigner signer;
+
+    @Mock
+    private DSSEVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+
+        DSSEMetrics.setListener(this.listener);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        DSSEMetrics.setListener(DSSEMetricsListener.NOOP);
+    }
+
+    @Test
+    void sign_shouldReportSigning() {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope(PAYLOAD, "application/json");
+        when(this.signer.getKeyId()).thenReturn("keyid-1");
+        when(this.signer.sign(any(byte[].class))).thenReturn(new byte[]{1});
+
+        // Act
+        envelope.sign(this.signer);
+
+        // Assert
+        verify(this.listener).onSign(eq("keyid-1"), eq(7L), anyLong(), isNull());
+    }
+
+    @Test
+    void sign_shouldReportFailure_WhenSignerThrows() {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope(PAYLOAD, "application/json");
+        DSSEException failure = new DSSEException("HSM unavailable", null);
+        when(this.signer.getKeyId()).thenReturn("keyid-1");
+        when(this.signer.sign(any(byte[].class))).thenThrow(failure);
+
+        // Act
+        DSSESigningResult result = envelope.signAll(List.of(this.signer), Runnable::run);
+        assertThatThrownBy(() -> envelope.sign(this.signer)).isSameAs(failure);
+
+        // Assert
+        assertThat(result.allSigned()).isFalse();
+        verify(this.listener, times(2)).onSign(eq("keyid-1"), eq(7L), anyLong(), eq(failure));
+    }
+
+    @Test
+    void verify_shouldReportEachSignatureAndTheThresholdDecision() {
+
+        // Arrange
+        byte[] matching = {1};
+        DSSEEnvelope envelope = DSSEEnvelope.of(PAYLOAD, "application/json", List.of(
+                DSSESignature.of("unknown", new byte[]{9}),
+                DSSESignature.of("keyid-1", matching),
+                DSSESignature.of("keyid-1", new byte[]{2})
+        ));
+        when(this.verifier.getKeyId()).thenReturn("keyid-1");
+        when(this.verifier.verify(any(byte[].class), any(byte[].class)))
+                .thenAnswer(invocation -> invocation.getArgument(1, byte[].class)[0] == matching[0]);
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(2, true, Set.of(this.verifier));
+
+        // Act
+        boolean result = envelope.verify(policy);
+
+        // Assert
+        assertThat(result).isFalse();
+        InOrder events = inOrder(this.listener);
+        events.verify(this.listener).onSignatureCheck(eq("unknown"), eq(SignatureOutcome.UNKNOWN_KEY_ID), eq(0), anyLong());
+        events.verify(this.listener).onSignatureCheck(eq("keyid-1"), eq(SignatureOutcome.MATCHED), eq(1), anyLong());
+        events.verify(this.listener).onSignatureCheck(eq("keyid-1"), eq(SignatureOutcome.NOT_MATCHED), eq(1), anyLong());
+        events.verify(this.listener).onThresholdVerification(2, 3, 3, 1, false);
+        events.verify(this.listener).onVerify(eq(7L), eq(3), eq(false), anyLong(), isNull());
+    }
+
+    @Test
+    void verify_shouldReportFailedCheck_WhenSignatureIsNotBase64() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of(PAYLOAD, "application/json",
+                                                List.of(new DSSESignature("keyid-1", "not base64!")));
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, false, Set.of(this.verifier));
+
+        // Act & Assert
+        assertThatThrownBy(() -> envelope.verify(policy)).isInstanceOf(DSSEException.class);
+        verify(this.listener).onSignatureCheck(eq("keyid-1"), eq(SignatureOutcome.FAILED), eq(1), anyLong());
+        verify(this.listener).onVerify(eq(7L), eq(1), eq(false), anyLong(), isA(DSSEException.class));
+    }
+
+    @Test
+    void verify_shouldReportMalformedSignature_WhenEcdsaSignatureCannotBeParsed() throws Exception {
+
+        // Arrange
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(256);
+        ECDSAVerifier ecdsaVerifier = new ECDSAVerifier("keyid-1", "SHA256withECDSA",
+                                                        generator.generateKeyPair().getPublic());
+
+        // Act
+        boolean result = ecdsaVerifier.verify(PAYLOAD, new byte[]{1, 2, 3});
+
+        // Assert
+        assertThat(result).isFalse();
+        verify(this.listener).onMalformedSignature(eq("keyid-1"), isA(SignatureException.class));
+    }
+
+    @Test
+    void jacksonCodecs_shouldReportSerializationAndDeserialization() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of(PAYLOAD, "application/json", List.of(DSSESignature.of("k", new byte[]{1})));
+        Jackson2JsonDSSEDeserializer deserializer = new Jackson2JsonDSSEDeserializer();
+
+        // Act
+        String json = new Jackson2JsonDSSESerializer().serialize(envelope);
+        deserializer.deserialize(json);
+        assertThatThrownBy(() -> deserializer.deserialize("{")).isInstanceOf(DSSEException.class);
+
+        // Assert
+        verify(this.listener).onCodec(eq(CodecOperation.SERIALIZE), eq("Jackson2JsonDSSESerializer"), eq(7L),
+                                      anyLong(), isNull());
+        verify(this.listener).onCodec(eq(CodecOperation.DESERIALIZE), eq("Jackson2JsonDSSEDeserializer"), eq(7L),
+                                      anyLong(), isNull());
+        verify(this.listener).onCodec(eq(CodecOperation.DESERIALIZE), eq("Jackson2JsonDSSEDeserializer"), eq(-1L),
+                                      anyLong(), isA(DSSEException.class));
+    }
+
+    @Test
+    void setListener_shouldRejectNull() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> DSSEMetrics.setListener(null)).isInstanceOf(NullPointerException.class);
+        assertThat(DSSEMetrics.getListener()).isSameAs(this.listener);
+    }
+}
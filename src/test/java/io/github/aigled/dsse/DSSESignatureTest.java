@@ -25,20 +25,6 @@ class DSSESignatureTest {
     @Mock
     private DSSEVerifier verifier;
 
-    @Test
-    void createPreAuthenticationEncoding_shouldFormatCorrectly() {
-
-        // Arrange
-        String payloadType = "application/json";
-        byte[] payload = "test".getBytes();
-
-        // Act
-        String pae = DSSESignature.createPreAuthenticationEncoding(payloadType, payload);
-
-        // Assert
-        assertThat(pae).isEqualTo("DSSEv1 16 application/json 4 test");
-    }
-
     @Test
     void verify_shouldCallVerifierWithCorrectParameters() {
 
@@ -46,16 +32,16 @@ class DSSESignatureTest {
         byte[] originalSig = "signature".getBytes();
         String encodedSig = Base64.getEncoder().encodeToString(originalSig);
         DSSESignature signature = new DSSESignature("keyid", encodedSig);
-        String pae = "DSSEv1 16 application/json 4 test";
+        byte[] pae = "DSSEv1 16 application/json 4 test".getBytes();
 
-        when(this.verifier.verify(pae.getBytes(), originalSig)).thenReturn(true);
+        when(this.verifier.verify(pae, originalSig)).thenReturn(true);
 
         // Act
-        boolean result = signature.verify(this.verifier, pae);
+        boolean result = signature.verify(this.verifier, SigningInput.of(pae));
 
         // Assert
         assertThat(result).isTrue();
-        verify(this.verifier).verify(pae.getBytes(), originalSig);
+        verify(this.verifier).verify(pae, originalSig);
     }
 
     @Test
@@ -64,10 +50,10 @@ class DSSESignatureTest {
         // Arrange
         String invalidBase64 = "not-valid-base64!!!";
         DSSESignature signature = new DSSESignature("keyid", invalidBase64);
-        String pae = "DSSEv1 16 application/json 4 test";
+        byte[] pae = "DSSEv1 16 application/json 4 test".getBytes();
 
         // Act & Assert
-        assertThatThrownBy(() -> signature.verify(this.verifier, pae))
+        assertThatThrownBy(() -> signature.verify(this.verifier, SigningInput.of(pae)))
                 .isInstanceOf(DSSEException.class)
                 .hasMessage("Unable to Base64 decode signature 'not-valid-base64!!!'");
     }
@@ -79,11 +65,11 @@ class DSSESignatureTest {
         byte[] originalSig = "signature".getBytes();
         String encodedSig = Base64.getEncoder().encodeToString(originalSig);
         DSSESignature signature = new DSSESignature("keyid", encodedSig);
-        String pae = "DSSEv1 16 application/json 4 test";
+        byte[] pae = "DSSEv1 16 application/json 4 test".getBytes();
 
-        when(this.verifier.verify(pae.getBytes(), originalSig)).thenReturn(true);
+        when(this.verifier.verify(pae, originalSig)).thenReturn(true);
 
         // Act & Assert
-        assertThatNoException().isThrownBy(() -> signature.verify(this.verifier, pae));
+        assertThatNoException().isThrownBy(() -> signature.verify(this.verifier, SigningInput.of(pae)));
     }
 }
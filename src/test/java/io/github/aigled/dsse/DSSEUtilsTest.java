@@ -10,8 +10,13 @@ package io.github.aigled.dsse;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -78,4 +83,162 @@ class DSSEUtilsTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Illegal base64 character 23");
     }
+
+    @Test
+    void base64Decode_shouldDecodePaddedAndUnpaddedInputInBothAlphabets() {
+
+        // Arrange
+        byte[] expected = {(byte) 0xfb, (byte) 0xff, 0x3e, 0x01};
+
+        // Act & Assert
+        assertThat(DSSEUtils.base64Decode("+/8+AQ==")).isEqualTo(expected);
+        assertThat(DSSEUtils.base64Decode("+/8+AQ")).isEqualTo(expected);
+        assertThat(DSSEUtils.base64Decode("-_8-AQ==")).isEqualTo(expected);
+        assertThat(DSSEUtils.base64Decode("-_8-AQ")).isEqualTo(expected);
+        assertThat(DSSEUtils.base64Decode("")).isEmpty();
+    }
+
+    @Test
+    void base64Decode_shouldThrowIllegalArgumentException_WhenAlphabetsAreMixed() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> DSSEUtils.base64Decode("+_8-AQ=="))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Input mixes the standard and URL-safe base64 alphabets");
+    }
+
+    @Test
+    void base64Decode_shouldThrowIllegalArgumentException_WhenLengthOrPaddingIsInvalid() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> DSSEUtils.base64Decode("QUJDR"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Last unit does not have enough valid bits");
+        assertThatThrownBy(() -> DSSEUtils.base64Decode("QUI=="))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Input byte array has incorrect ending byte at 3");
+        assertThatThrownBy(() -> DSSEUtils.base64Decode("QU=I"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Illegal base64 character 3d");
+    }
+
+    @Test
+    void base64Decode_shouldThrowIllegalArgumentException_WhenStringHasNonLatin1Character() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> DSSEUtils.base64Decode("QUJ\u20ac"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Illegal base64 character 20ac");
+    }
+
+    @Test
+    void base64Decode_shouldDecodeRangeIntoCallerArray() {
+
+        // Arrange
+        byte[] src = "##VGVzdFN0cmluZw##".getBytes(StandardCharsets.US_ASCII);
+        int decodedLength = DSSEUtils.base64DecodedLength(src, 2, 14);
+        byte[] dst = new byte[decodedLength + 3];
+
+        // Act
+        int written = DSSEUtils.base64Decode(src, 2, 14, dst, 3);
+
+        // Assert
+        assertThat(decodedLength).isEqualTo(10);
+        assertThat(written).isEqualTo(10);
+        assertThat(new String(dst, 3, written, StandardCharsets.UTF_8)).isEqualTo("TestString");
+    }
+
+    @Test
+    void base64Decode_shouldDecodeDirectBuffer_WithoutMovingIt() {
+
+        // Arrange
+        byte[] encoded = "VGVzdFN0cmluZw==".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(encoded.length).put(encoded).flip();
+
+        // Act
+        byte[] decoded = DSSEUtils.base64Decode(buffer);
+
+        // Assert
+        assertThat(new String(decoded, StandardCharsets.UTF_8)).isEqualTo("TestString");
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void base64Encode_shouldEncodeRanges_AsTheJdkEncoder() {
+
+        // Arrange
+        byte[] input = new byte[256];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = (byte) i;
+        }
+
+        for (int length = 0; length <= 6; length++) {
+            byte[] range = Arrays.copyOfRange(input, 200, 200 + length);
+            byte[] dst = new byte[2 + (int) DSSEUtils.base64EncodedLength(length)];
+
+            // Act
+            String encoded = DSSEUtils.base64Encode(input, 200, length);
+            int written = DSSEUtils.base64Encode(input, 200, length, dst, 2);
+
+            // Assert
+            String expected = Base64.getEncoder().encodeToString(range);
+            assertThat(encoded).isEqualTo(expected);
+            assertThat(new String(dst, 2, written, StandardCharsets.US_ASCII)).isEqualTo(expected);
+            assertThat(DSSEUtils.base64Decode(encoded)).isEqualTo(range);
+        }
+    }
+
+    @Test
+    void isCanonicalBase64_shouldOnlyAcceptWhatTheEncoderProduces() {
+
+        // Act & Assert
+        assertThat(DSSEUtils.isCanonicalBase64("")).isTrue();
+        assertThat(DSSEUtils.isCanonicalBase64("+/8+AQ==")).isTrue();
+        assertThat(DSSEUtils.isCanonicalBase64("+/8=")).isTrue();
+        assertThat(DSSEUtils.isCanonicalBase64("+/8+AQ")).isFalse();
+        assertThat(DSSEUtils.isCanonicalBase64("-_8-AQ==")).isFalse();
+        assertThat(DSSEUtils.isCanonicalBase64("+/9=")).isFalse();
+        assertThat(DSSEUtils.isCanonicalBase64("QR==")).isFalse();
+        assertThat(DSSEUtils.isCanonicalBase64("====")).isFalse();
+        assertThat(DSSEUtils.isCanonicalBase64("QUJ\u00e9")).isFalse();
+    }
+
+    @Test
+    void newInputStream_shouldReadBuffersInOrder_WithoutMovingThem() throws IOException {
+
+        // Arrange
+        ByteBuffer first = ByteBuffer.wrap("Test".getBytes(StandardCharsets.UTF_8));
+        ByteBuffer empty = ByteBuffer.allocate(0);
+        ByteBuffer second = ByteBuffer.wrap("String".getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        byte[] content;
+        try (InputStream stream = DSSEUtils.newInputStream(List.of(first, empty, second))) {
+            content = stream.readAllBytes();
+        }
+
+        // Assert
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("TestString");
+        assertThat(first.position()).isZero();
+        assertThat(second.position()).isZero();
+    }
+
+    @Test
+    void contentEquals_shouldCompareBytes_RegardlessOfHowTheyAreSplit() {
+
+        // Arrange
+        List<ByteBuffer> whole = List.of(ByteBuffer.wrap("TestString".getBytes(StandardCharsets.UTF_8)));
+        List<ByteBuffer> split = List.of(ByteBuffer.wrap("Tes".getBytes(StandardCharsets.UTF_8)),
+                                         ByteBuffer.allocate(0),
+                                         ByteBuffer.allocateDirect(7).put("tString".getBytes(StandardCharsets.UTF_8)).flip());
+        List<ByteBuffer> prefix = List.of(ByteBuffer.wrap("Test".getBytes(StandardCharsets.UTF_8)));
+
+        // Act & Assert
+        assertThat(DSSEUtils.contentEquals(whole, split)).isTrue();
+        assertThat(DSSEUtils.contentEquals(split, whole)).isTrue();
+        assertThat(DSSEUtils.contentEquals(whole, prefix)).isFalse();
+        assertThat(DSSEUtils.contentEquals(prefix, whole)).isFalse();
+        assertThat(DSSEUtils.contentHash(split)).isEqualTo(Arrays.hashCode("TestString".getBytes(StandardCharsets.UTF_8)));
+        assertThat(split.get(2).position()).isZero();
+    }
 }
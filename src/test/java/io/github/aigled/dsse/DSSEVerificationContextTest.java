@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DSSEVerificationContextTest {
+
+    private static final String PAYLOAD = Base64.getEncoder().encodeToString("payload".getBytes(StandardCharsets.UTF_8));
+
+    @Mock
+    private DSSEVerifier verifierOne;
+
+    @Mock
+    private DSSEVerifier verifierTwo;
+
+    @Test
+    void verify_shouldComputePAEAndDecodedSignatureOnce_WhenSeveralVerifiersAreTried() {
+
+        // Arrange
+        byte[] signatureBytes = "sig".getBytes(StandardCharsets.UTF_8);
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(PAYLOAD, "application/json",
+                                                             List.of(DSSESignature.of("keyid", signatureBytes)));
+        DSSEVerificationContext context = DSSEVerificationContext.of(envelope);
+
+        // Act
+        context.verify(this.verifierOne, 0);
+        context.verify(this.verifierTwo, 0);
+
+        // Assert
+        ArgumentCaptor<byte[]> paeOne = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> signatureOne = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> paeTwo = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> signatureTwo = ArgumentCaptor.forClass(byte[].class);
+        verify(this.verifierOne).verify(paeOne.capture(), signatureOne.capture());
+        verify(this.verifierTwo).verify(paeTwo.capture(), signatureTwo.capture());
+        assertThat(paeOne.getValue()).isSameAs(paeTwo.getValue())
+                                     .isEqualTo("DSSEv1 16 application/json 7 payload".getBytes(StandardCharsets.UTF_8));
+        assertThat(signatureOne.getValue()).isSameAs(signatureTwo.getValue())
+                                           .isEqualTo(signatureBytes);
+    }
+
+    @Test
+    void getters_shouldReturnReadOnlyViews_OfTheCachedValues() {
+
+        // Arrange
+        byte[] signatureBytes = "sig".getBytes(StandardCharsets.UTF_8);
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(PAYLOAD, "application/json",
+                                                             List.of(DSSESignature.of("keyid", signatureBytes)));
+        DSSEVerificationContext context = DSSEVerificationContext.of(envelope);
+
+        // Act
+        ByteBuffer pae = context.getPreAuthenticationEncoding();
+        ByteBuffer signature = context.getDecodedSignature(0);
+
+        // Assert
+        assertThat(pae.isReadOnly()).isTrue();
+        assertThat(signature.isReadOnly()).isTrue();
+        assertThat(pae).isEqualTo(ByteBuffer.wrap("DSSEv1 16 application/json 7 payload".getBytes(StandardCharsets.UTF_8)));
+        assertThat(signature).isEqualTo(ByteBuffer.wrap(signatureBytes));
+        assertThatThrownBy(() -> pae.put(0, (byte) 'X')).isInstanceOf(ReadOnlyBufferException.class);
+    }
+
+    @Test
+    void getPreAuthenticationEncoding_shouldCopyMappedPayloadOnce() {
+
+        // Arrange
+        byte[] payload = "payload".getBytes(StandardCharsets.UTF_8);
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(ByteBuffer.wrap(payload), "application/json",
+                                                            List.of(DSSESignature.of("keyid", new byte[]{1})));
+        DSSEVerificationContext context = DSSEVerificationContext.of(envelope);
+        ByteBuffer first = context.getPreAuthenticationEncoding();
+
+        // Act
+        payload[0] = 'X';
+        ByteBuffer second = context.getPreAuthenticationEncoding();
+
+        // Assert
+        ByteBuffer expected = ByteBuffer.wrap("DSSEv1 16 application/json 7 payload".getBytes(StandardCharsets.UTF_8));
+        assertThat(first).isEqualTo(expected);
+        assertThat(second).isEqualTo(expected);
+    }
+
+    @Test
+    void getDecodedSignature_shouldThrowDSSEException_WhenInvalidBase64() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(PAYLOAD, "application/json",
+                                                             List.of(new DSSESignature("keyid", "not-valid-base64!!!")));
+        DSSEVerificationContext context = DSSEVerificationContext.of(envelope);
+
+        // Act & Assert
+        assertThatThrownBy(() -> context.verify(this.verifierOne, 0))
+                .isInstanceOf(DSSEException.class)
+                .hasMessage("Unable to Base64 decode signature 'not-valid-base64!!!'");
+        verify(this.verifierOne, never()).verify(any(byte[].class), any(byte[].class));
+    }
+
+    @Test
+    void defaultPolicyVerify_shouldDelegateToEnvelopeVerification() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(PAYLOAD, "application/json",
+                                                             List.of(DSSESignature.of("keyid", new byte[]{1})));
+        DSSEVerificationPolicy policy = candidate -> candidate == envelope;
+
+        // Act
+        boolean result = policy.verify(DSSEVerificationContext.of(envelope));
+
+        // Assert
+        assertThat(result).isTrue();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import io.github.aigled.dsse.codec.Jackson2JsonDSSEDeserializer;
+import io.github.aigled.dsse.codec.Jackson2JsonDSSESerializer;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FlightRecorderEventsTest {
+
+    private static final byte[] PAYLOAD = "payload".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private DSSESigner signer;
+
+    @Mock
+    private DSSEVerifier verifier;
+
+    @Test
+    void signAndVerify_shouldRecordEvents() throws IOException {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope(PAYLOAD, "application/vnd.jfr-test");
+        when(this.signer.getKeyId()).thenReturn("jfr-key");
+        when(this.signer.sign(any(byte[].class))).thenReturn(new byte[]{1});
+        when(this.verifier.getKeyId()).thenReturn("jfr-key");
+        when(this.verifier.verify(any(byte[].class), any(byte[].class))).thenReturn(true);
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, true, Set.of(this.verifier));
+
+        // Act
+        List<RecordedEvent> events = this.record(() -> {
+            envelope.sign(this.signer);
+            envelope.verify(policy);
+        });
+
+        // Assert
+        assertThat(events).extracting(event -> event.getEventType().getName())
+                          .containsExactly("io.github.aigled.dsse.Signing",
+                                           "io.github.aigled.dsse.SignatureVerification",
+                                           "io.github.aigled.dsse.Verification");
+        assertThat(events.get(0)).extracting(event -> event.getString("keyId"),
+                                             event -> event.getLong("payloadLength"),
+                                             event -> event.getInt("signatureCount"),
+                                             event -> event.getBoolean("succeeded"))
+                                 .containsExactly("jfr-key", 7L, 0, true);
+        assertThat(events.get(1)).extracting(event -> event.getString("keyId"),
+                                             event -> event.getInt("signatureIndex"),
+                                             event -> event.getString("outcome"),
+                                             event -> event.getInt("verifiersTried"))
+                                 .containsExactly("jfr-key", 0, "MATCHED", 1);
+        assertThat(events.get(2)).extracting(event -> event.getString("policy"),
+                                             event -> event.getString("keyIds"),
+                                             event -> event.getInt("signatureCount"),
+                                             event -> event.getBoolean("verified"))
+                                 .containsExactly(ThresholdVerificationPolicy.class.getName(), "jfr-key", 1, true);
+    }
+
+    @Test
+    void sign_shouldRecordFailure_WhenSignerThrows() throws IOException {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope(PAYLOAD, "application/vnd.jfr-test");
+        when(this.signer.getKeyId()).thenReturn("jfr-key");
+        when(this.signer.sign(any(byte[].class))).thenThrow(new DSSEException("HSM unavailable", null));
+
+        // Act
+        List<RecordedEvent> events = this.record(
+                () -> assertThatThrownBy(() -> envelope.sign(this.signer)).isInstanceOf(DSSEException.class));
+
+        // Assert
+        assertThat(events).extracting(event -> event.getBoolean("succeeded"), event -> event.getString("failure"))
+                          .containsExactly(tuple(false, DSSEException.class.getName()));
+    }
+
+    @Test
+    void jacksonDeserializer_shouldRecordParsing() throws IOException {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of(PAYLOAD, "application/vnd.jfr-test",
+                                                List.of(DSSESignature.of("jfr-key", new byte[]{1})));
+        String json = new Jackson2JsonDSSESerializer().serialize(envelope);
+        Jackson2JsonDSSEDeserializer deserializer = new Jackson2JsonDSSEDeserializer();
+
+        // Act
+        List<RecordedEvent> events = this.record(() -> {
+            deserializer.deserialize(json);
+            assertThatThrownBy(() -> deserializer.deserialize("{")).isInstanceOf(DSSEException.class);
+        });
+
+        // Assert
+        assertThat(events).extracting(event -> event.getEventType().getName(),
+                                      event -> event.getLong("inputLength"),
+                                      event -> event.getString("payloadType"),
+                                      event -> event.getInt("signatureCount"))
+                          .containsExactly(tuple("io.github.aigled.dsse.JsonDeserialization", (long) json.length(),
+                                                 "application/vnd.jfr-test", 1),
+                                           tuple("io.github.aigled.dsse.JsonDeserialization", 1L, null, 0));
+        assertThat(events.get(1).getString("failure")).startsWith("tools.jackson.");
+    }
+
+    /**
+     * Runs the action within a recording, and returns the events of this library recorded by the current thread, in
+     * order.
+     */
+    private List<RecordedEvent> record(Runnable action) throws IOException {
+
+        Path file = this.directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.github.aigled.dsse.Signing");
+            recording.enable("io.github.aigled.dsse.Verification");
+            recording.enable("io.github.aigled.dsse.SignatureVerification");
+            recording.enable("io.github.aigled.dsse.JsonDeserialization");
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        String thread = Thread.currentThread().getName();
+        return RecordingFile.readAllEvents(file).stream()
+                            .filter(event -> event.getEventType().getName().startsWith("io.github.aigled.dsse."))
+                            .filter(event -> event.getThread() != null
+                                    && thread.equals(event.getThread().getJavaName()))
+                            .sorted((a, b) -> a.getEndTime().compareTo(b.getEndTime()))
+                            .toList();
+    }
+}
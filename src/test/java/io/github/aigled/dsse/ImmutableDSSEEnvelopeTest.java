@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import io.github.aigled.dsse.crypto.ECDSASigner;
+import io.github.aigled.dsse.crypto.ECDSAVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImmutableDSSEEnvelopeTest {
+
+    private static final byte[] CONTENT = "{\"data\":\"test\"}".getBytes(StandardCharsets.UTF_8);
+
+    private ECDSASigner signer;
+    private ECDSAVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(256);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        this.signer = new ECDSASigner("keyid", "SHA256withECDSA", keyPair.getPrivate());
+        this.verifier = new ECDSAVerifier("keyid", "SHA256withECDSA", keyPair.getPublic());
+    }
+
+    @Test
+    void build_shouldNotShareThePayload_WithTheCaller() {
+
+        // Arrange
+        byte[] content = CONTENT.clone();
+
+        // Act
+        ImmutableDSSEEnvelope envelope = ImmutableDSSEEnvelope.builder()
+                                                              .payload(content)
+                                                              .payloadType("application/json")
+                                                              .build();
+        content[0] = 'X';
+        envelope.getSerializedBody()[0] = 'Y';
+
+        // Assert
+        assertThat(envelope.getSerializedBody()).isEqualTo(CONTENT);
+        assertThat(envelope.toEnvelope().getState().get()).isEqualTo(DSSEEnvelope.State.UNSIGNED);
+    }
+
+    @Test
+    void getPayloadBuffer_shouldReturnIndependentReadOnlyViews() {
+
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.wrap(CONTENT);
+        ImmutableDSSEEnvelope envelope = ImmutableDSSEEnvelope.builder()
+                                                              .payload(buffer)
+                                                              .payloadType("application/json")
+                                                              .build();
+
+        // Act
+        ByteBuffer first = envelope.getPayloadBuffer();
+        first.get(new byte[4]);
+        ByteBuffer second = envelope.getPayloadBuffer();
+
+        // Assert
+        assertThat(first.isReadOnly()).isTrue();
+        assertThat(second.position()).isZero();
+        assertThat(second).isEqualTo(ByteBuffer.wrap(CONTENT));
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void build_shouldKeepEncodedPayload_WhenPayloadIsCanonical() {
+
+        // Arrange
+        String payload = DSSEUtils.base64Encode(CONTENT);
+        DSSESignature signature = DSSESignature.of("keyid", "signature".getBytes());
+
+        // Act
+        ImmutableDSSEEnvelope envelope = ImmutableDSSEEnvelope.builder()
+                                                              .encodedPayload(payload)
+                                                              .payloadType("application/json")
+                                                              .signature(signature)
+                                                              .build();
+
+        // Assert
+        assertThat(envelope.hasEncodedPayload()).isTrue();
+        assertThat(envelope.getPayload()).isSameAs(payload);
+        assertThat(envelope.getPayloadBuffer()).isEqualTo(ByteBuffer.wrap(CONTENT));
+        assertThat(envelope.getSignatures()).containsExactly(signature)
+                                            .isSameAs(envelope.getSignatures());
+        assertThat(envelope.toEnvelope().getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+    }
+
+    @Test
+    void build_shouldThrowIllegalStateException_WhenPayloadIsMissing() {
+
+        // Arrange
+        ImmutableDSSEEnvelope.Builder builder = ImmutableDSSEEnvelope.builder().payloadType("application/json");
+
+        // Act & Assert
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("payload is required");
+    }
+
+    @Test
+    void copyOf_shouldBeVerifiable_WhenEnvelopeWasSigned() {
+
+        // Arrange
+        DSSEEnvelope envelope = new DSSEEnvelope(CONTENT.clone(), "application/json");
+        envelope.sign(this.signer);
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, true, Set.of(this.verifier));
+
+        // Act
+        ImmutableDSSEEnvelope copy = ImmutableDSSEEnvelope.copyOf(envelope);
+        envelope.getSerializedBody()[0] = 'X';
+
+        // Assert
+        assertThat(copy.verify(policy)).isTrue();
+        assertThat(copy.getSerializedBody()).isEqualTo(CONTENT);
+        assertThat(ImmutableDSSEEnvelope.copyOf(copy.toEnvelope())).isEqualTo(copy)
+                                                                   .hasSameHashCodeAs(copy);
+    }
+
+    @Test
+    void sign_shouldReturnSignedCopy_WithoutChangingTheEnvelope() {
+
+        // Arrange
+        ImmutableDSSEEnvelope envelope = ImmutableDSSEEnvelope.builder()
+                                                              .payload(CONTENT)
+                                                              .payloadType("application/json")
+                                                              .build();
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, true, Set.of(this.verifier));
+
+        // Act
+        ImmutableDSSEEnvelope signed = envelope.sign(this.signer);
+
+        // Assert
+        assertThat(envelope.getSignatures()).isEmpty();
+        assertThat(signed.getSignatures()).hasSize(1);
+        assertThat(signed.getPayloadBuffer()).isEqualTo(envelope.getPayloadBuffer());
+        assertThat(signed.verify(policy)).isTrue();
+        assertThatThrownBy(() -> envelope.verify(policy))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void toEnvelope_shouldNotExposeThePayload_NorShareTheSignatures() {
+
+        // Arrange
+        ImmutableDSSEEnvelope envelope = ImmutableDSSEEnvelope.builder()
+                                                              .payload(CONTENT)
+                                                              .payloadType("application/json")
+                                                              .build();
+
+        // Act
+        DSSEEnvelope mutable = envelope.toEnvelope();
+        mutable.getSerializedBody()[0] = 'X';
+        mutable.sign(this.signer);
+
+        // Assert
+        assertThat(envelope.getSerializedBody()).isEqualTo(CONTENT);
+        assertThat(envelope.getSignatures()).isEmpty();
+        assertThat(mutable.getSignatures()).hasSize(1);
+        assertThat(ImmutableDSSEEnvelope.copyOf(mutable).getSignatures()).isEqualTo(mutable.getSignatures());
+    }
+
+    @Test
+    void toBuilder_shouldAddSignatures_WithoutChangingTheEnvelope() {
+
+        // Arrange
+        DSSESignature first = DSSESignature.of("first", "signature1".getBytes());
+        DSSESignature second = DSSESignature.of("second", "signature2".getBytes());
+        ImmutableDSSEEnvelope envelope = ImmutableDSSEEnvelope.builder()
+                                                              .payload(CONTENT)
+                                                              .payloadType("application/json")
+                                                              .signature(first)
+                                                              .build();
+
+        // Act
+        ImmutableDSSEEnvelope cosigned = envelope.toBuilder().signature(second).build();
+
+        // Assert
+        assertThat(envelope.getSignatures()).containsExactly(first);
+        assertThat(cosigned.getSignatures()).containsExactly(first, second);
+        assertThat(cosigned.getPayloadBuffer()).isEqualTo(envelope.getPayloadBuffer());
+        assertThat(cosigned).isNotEqualTo(envelope);
+        assertThat(cosigned.toEnvelope()).isEqualTo(DSSEEnvelope.of(CONTENT, "application/json", List.of(first, second)));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import io.github.aigled.dsse.crypto.ECDSASigner;
+import io.github.aigled.dsse.crypto.ECDSAVerifier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedDSSEEnvelopeTest {
+
+    private static final byte[] CONTENT = "{\"data\":\"test\"}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    private Path tempDir;
+
+    private ECDSASigner signer;
+    private ECDSAVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(256);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        this.signer = new ECDSASigner("keyid", "SHA256withECDSA", keyPair.getPrivate());
+        this.verifier = new ECDSAVerifier("keyid", "SHA256withECDSA", keyPair.getPublic());
+    }
+
+    @Test
+    void sign_shouldProduceSignatureVerifiableOnHeapEnvelope_WhenBackedByFile() throws IOException {
+
+        // Arrange
+        Path file = Files.write(this.tempDir.resolve("payload.json"), CONTENT);
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(file, "application/json");
+
+        // Act
+        envelope.sign(this.signer);
+
+        // Assert
+        DSSEEnvelope heapEnvelope = DSSEEnvelope.ofSignedMessage(envelope.getPayload(),
+                                                                 envelope.getPayloadType(),
+                                                                 envelope.getSignatures());
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, true, Set.of(this.verifier));
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+        assertThat(heapEnvelope.verify(policy)).isTrue();
+    }
+
+    @Test
+    void verify_shouldReturnTrue_WhenSignedAndBackedByBuffer() {
+
+        // Arrange
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(ByteBuffer.wrap(CONTENT), "application/json");
+        envelope.sign(this.signer);
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, true, Set.of(this.verifier));
+
+        // Act
+        boolean verified = envelope.verify(policy);
+
+        // Assert
+        assertThat(verified).isTrue();
+        assertThat(envelope.getState().get()).isEqualTo(DSSEEnvelope.State.VERIFIED);
+    }
+
+    @Test
+    void getters_shouldExposePayloadWithoutChangingBuffers() {
+
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.wrap(CONTENT);
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(buffer, "application/json");
+
+        // Act & Assert
+        assertThat(envelope.getPayloadLength()).isEqualTo(CONTENT.length);
+        assertThat(envelope.getSerializedBody()).isEqualTo(CONTENT);
+        assertThat(envelope.getPayload()).isEqualTo(DSSEUtils.base64Encode(CONTENT));
+        assertThat(envelope.getPayloadBuffers()).singleElement()
+                                                .satisfies(payload -> assertThat(payload.isReadOnly()).isTrue());
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void equals_shouldCompareWithHeapEnvelope_ByContent() {
+
+        // Arrange
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(ByteBuffer.allocateDirect(CONTENT.length).put(CONTENT).flip(),
+                                                            "application/json");
+        DSSEEnvelope heapEnvelope = new DSSEEnvelope(CONTENT.clone(), "application/json");
+        byte[] otherContent = CONTENT.clone();
+        otherContent[otherContent.length - 1] ^= 1;
+
+        // Act & Assert
+        assertThat(envelope).isEqualTo(heapEnvelope).hasSameHashCodeAs(heapEnvelope);
+        assertThat(heapEnvelope).isEqualTo(envelope);
+        assertThat(envelope).isNotEqualTo(MappedDSSEEnvelope.of(ByteBuffer.wrap(otherContent), "application/json"));
+    }
+
+    @Test
+    void of_shouldThrowDSSEException_WhenFileDoesNotExist() {
+
+        // Arrange
+        Path file = this.tempDir.resolve("missing.json");
+
+        // Act & Assert
+        assertThatThrownBy(() -> MappedDSSEEnvelope.of(file, "application/json"))
+                .isInstanceOf(DSSEException.class)
+                .hasMessageStartingWith("Failed to open payload file");
+    }
+}
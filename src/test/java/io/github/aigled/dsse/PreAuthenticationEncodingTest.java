@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PreAuthenticationEncodingTest {
+
+    @Test
+    void encode_shouldFormatCorrectly() {
+
+        // Arrange
+        String payloadType = "application/json";
+        byte[] payload = "test".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        byte[] pae = PreAuthenticationEncoding.encode(payloadType, payload);
+
+        // Assert
+        assertThat(pae).isEqualTo("DSSEv1 16 application/json 4 test".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void encode_shouldUseByteLengthsAndPreserveBinaryPayload() {
+
+        // Arrange
+        String payloadType = "application/é";
+        byte[] payload = {(byte) 0xff, 0x00, (byte) 0xc3};
+
+        // Act
+        byte[] pae = PreAuthenticationEncoding.encode(payloadType, payload);
+
+        // Assert
+        byte[] header = "DSSEv1 14 application/é 3 ".getBytes(StandardCharsets.UTF_8);
+        assertThat(pae).hasSize(header.length + payload.length)
+                       .startsWith(header)
+                       .endsWith(payload);
+    }
+
+    @Test
+    void encode_shouldMatchByteArrayEncoding_WhenGivenByteBuffer() {
+
+        // Arrange
+        byte[] payload = "test".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+
+        // Act
+        ByteBuffer pae = PreAuthenticationEncoding.encode("application/json", buffer);
+
+        // Assert
+        byte[] actual = new byte[pae.remaining()];
+        pae.get(actual);
+        assertThat(actual).isEqualTo(PreAuthenticationEncoding.encode("application/json", payload));
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void stream_shouldProduceHeaderFollowedByPayload() throws IOException {
+
+        // Arrange
+        byte[] payload = "test".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        byte[] actual;
+        try (InputStream pae = PreAuthenticationEncoding.stream("application/json", payload.length,
+                                                                new ByteArrayInputStream(payload))) {
+            actual = pae.readAllBytes();
+        }
+
+        // Assert
+        assertThat(actual).isEqualTo(PreAuthenticationEncoding.encode("application/json", payload));
+    }
+
+    @Test
+    void channel_shouldProduceHeaderFollowedByPayload() throws IOException {
+
+        // Arrange
+        byte[] payload = "test".getBytes(StandardCharsets.UTF_8);
+        ReadableByteChannel payloadChannel = Channels.newChannel(new ByteArrayInputStream(payload));
+
+        // Act
+        byte[] actual;
+        try (ReadableByteChannel pae = PreAuthenticationEncoding.channel("application/json", payload.length, payloadChannel)) {
+            actual = Channels.newInputStream(pae).readAllBytes();
+        }
+
+        // Assert
+        assertThat(actual).isEqualTo(PreAuthenticationEncoding.encode("application/json", payload));
+        assertThat(payloadChannel.isOpen()).isFalse();
+    }
+
+    @Test
+    void buffers_shouldPrependHeaderWithoutCopyingPayload() {
+
+        // Arrange
+        byte[] payload = "test".getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> payloadBuffers = List.of(ByteBuffer.wrap(payload, 0, 2), ByteBuffer.wrap(payload, 2, 2));
+
+        // Act
+        List<ByteBuffer> pae = PreAuthenticationEncoding.buffers("application/json", payloadBuffers);
+
+        // Assert
+        assertThat(pae).hasSize(3);
+        assertThat(pae.get(1).array()).isSameAs(payload);
+        assertThat(DSSEUtils.concat(pae)).isEqualTo(PreAuthenticationEncoding.encode("application/json", payload));
+    }
+
+    @Test
+    void header_shouldThrowIllegalArgumentException_WhenPayloadLengthIsNegative() {
+
+        // Act & Assert
+        assertThatThrownBy(() -> PreAuthenticationEncoding.header("application/json", -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("payloadLength must be >= 0");
+    }
+}
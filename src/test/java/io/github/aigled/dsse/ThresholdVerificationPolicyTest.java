@@ -15,9 +15,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -124,6 +129,33 @@ class ThresholdVerificationPolicyTest {
         verify(this.mockVerifierTwo).getKeyId();
     }
 
+    @Test
+    void verify_shouldOnlyTryIndexedVerifiers_whenKeyIdFilteringEnabled() {
+
+        // Arrange
+        byte[] signatureBytes = "sig".getBytes(StandardCharsets.UTF_8);
+        DSSESignature signature = DSSESignature.of("keyid-2", signatureBytes);
+        DSSESignature anonymousSignature = DSSESignature.of(null, signatureBytes);
+        String payload = Base64.getEncoder().encodeToString("payload".getBytes(StandardCharsets.UTF_8));
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(payload, "application/json",
+                                                             List.of(anonymousSignature, signature));
+
+        when(this.mockVerifierOne.getKeyId()).thenReturn("keyid-1");
+        when(this.mockVerifierTwo.getKeyId()).thenReturn("keyid-2");
+        when(this.mockVerifierTwo.verify(any(byte[].class), eq(signatureBytes))).thenReturn(true);
+
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, true, this.trustedVerifiers);
+
+        // Act
+        boolean result = policy.verify(envelope);
+
+        // Assert
+        assertThat(result).isTrue();
+        verify(this.mockVerifierOne, never()).verify(any(byte[].class), any(byte[].class));
+        verify(this.mockVerifierOne).getKeyId();
+        verify(this.mockVerifierTwo).getKeyId();
+    }
+
     @Test
     void verify_shouldReturnTrue_whenFilteringDisabledAndVerifierAcceptsSignature() {
 
@@ -145,4 +177,116 @@ class ThresholdVerificationPolicyTest {
         verify(this.mockVerifierOne, never()).getKeyId();
         verify(this.mockVerifierTwo, never()).getKeyId();
     }
+
+    @Test
+    void verify_shouldReturnTrue_whenThresholdMetInParallel() {
+
+        // Arrange
+        byte[] signatureOne = "sig-1".getBytes(StandardCharsets.UTF_8);
+        byte[] signatureTwo = "sig-2".getBytes(StandardCharsets.UTF_8);
+        String payload = Base64.getEncoder().encodeToString("payload".getBytes(StandardCharsets.UTF_8));
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(payload,
+                                                             "application/json",
+                                                             List.of(DSSESignature.of("keyid-1", signatureOne),
+                                                                     DSSESignature.of("keyid-2", signatureTwo)));
+
+        when(this.mockVerifierOne.getKeyId()).thenReturn("keyid-1");
+        when(this.mockVerifierOne.verify(any(byte[].class), eq(signatureOne))).thenReturn(true);
+        when(this.mockVerifierTwo.getKeyId()).thenReturn("keyid-2");
+        when(this.mockVerifierTwo.verify(any(byte[].class), eq(signatureTwo))).thenReturn(true);
+
+        ThresholdVerificationPolicy policy = ThresholdVerificationPolicy.parallel(2, true, this.trustedVerifiers);
+
+        // Act
+        boolean result = policy.verify(envelope);
+
+        // Assert
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void verify_shouldCountVerifierOnlyOnce_whenVerifyingInParallel() {
+
+        // Arrange
+        byte[] signatureOne = "sig-1".getBytes(StandardCharsets.UTF_8);
+        byte[] signatureTwo = "sig-2".getBytes(StandardCharsets.UTF_8);
+        String payload = Base64.getEncoder().encodeToString("payload".getBytes(StandardCharsets.UTF_8));
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(payload,
+                                                             "application/json",
+                                                             List.of(DSSESignature.of("keyid-1", signatureOne),
+                                                                     DSSESignature.of("keyid-1", signatureTwo)));
+
+        when(this.mockVerifierOne.getKeyId()).thenReturn("keyid-1");
+        when(this.mockVerifierOne.verify(any(byte[].class), any(byte[].class))).thenReturn(true);
+        when(this.mockVerifierTwo.getKeyId()).thenReturn("keyid-2");
+
+        ThresholdVerificationPolicy policy = ThresholdVerificationPolicy.parallel(2, true, this.trustedVerifiers);
+
+        // Act
+        boolean result = policy.verify(envelope);
+
+        // Assert
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void verify_shouldCancelOutstandingVerifications_whenThresholdReachedInParallel() throws InterruptedException {
+
+        // Arrange
+        byte[] signatureOne = "sig-1".getBytes(StandardCharsets.UTF_8);
+        byte[] signatureTwo = "sig-2".getBytes(StandardCharsets.UTF_8);
+        String payload = Base64.getEncoder().encodeToString("payload".getBytes(StandardCharsets.UTF_8));
+        DSSEEnvelope envelope = DSSEEnvelope.ofSignedMessage(payload,
+                                                             "application/json",
+                                                             List.of(DSSESignature.of("keyid-1", signatureOne),
+                                                                     DSSESignature.of("keyid-2", signatureTwo)));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        when(this.mockVerifierOne.getKeyId()).thenReturn("keyid-1");
+        when(this.mockVerifierOne.verify(any(byte[].class), eq(signatureOne))).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return false;
+        });
+        when(this.mockVerifierTwo.getKeyId()).thenReturn("keyid-2");
+        when(this.mockVerifierTwo.verify(any(byte[].class), eq(signatureTwo))).thenAnswer(invocation -> started.await(5, TimeUnit.SECONDS));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        ThresholdVerificationPolicy policy = new ThresholdVerificationPolicy(1, true, this.trustedVerifiers, executor);
+
+        // Act
+        boolean result;
+        try {
+            result = policy.verify(envelope);
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(result).isTrue();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void toHeaderFilter_shouldRejectKeyIds_WhenThresholdCannotBeReached() {
+
+        // Arrange
+        when(this.mockVerifierOne.getKeyId()).thenReturn("key1");
+        when(this.mockVerifierTwo.getKeyId()).thenReturn("key2");
+        DSSEHeaderFilter filter = new ThresholdVerificationPolicy(2, true, this.trustedVerifiers).toHeaderFilter();
+        DSSEHeaderFilter unfilteredFilter = new ThresholdVerificationPolicy(2, false, this.trustedVerifiers).toHeaderFilter();
+
+        // Act & Assert
+        assertThat(filter.acceptsPayloadType("application/json")).isTrue();
+        assertThat(filter.acceptsKeyIds(Arrays.asList("key1", null, "key2"))).isTrue();
+        assertThat(filter.acceptsKeyIds(List.of("key1", "key1"))).isFalse();
+        assertThat(filter.acceptsKeyIds(List.of("key1", "key9"))).isFalse();
+        assertThat(unfilteredFilter.acceptsKeyIds(Arrays.asList(null, null))).isTrue();
+        assertThat(unfilteredFilter.acceptsKeyIds(List.of("key1"))).isFalse();
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryDSSEDeserializerTest {
+
+    private final BinaryDSSEDeserializer deserializer = new BinaryDSSEDeserializer();
+    private final BinaryDSSESerializer serializer = new BinaryDSSESerializer();
+
+    @Test
+    void deserialize_shouldRoundTrip_WhenReadFromArrayOrString() {
+
+        // Arrange
+        byte[] payload = new byte[1000];
+        new Random(42).nextBytes(payload);
+        DSSEEnvelope envelope = DSSEEnvelope.of(payload, "application/vnd.in-toto+json ✓", List.of(
+                DSSESignature.of(null, new byte[]{1, 2, 3}),
+                DSSESignature.of("clé", new byte[64])
+        ));
+        byte[] binary = this.serializer.toByteArray(envelope);
+        byte[] padded = new byte[binary.length + 10];
+        System.arraycopy(binary, 0, padded, 5, binary.length);
+
+        // Act
+        DSSEEnvelope fromArray = this.deserializer.deserialize(padded, 5, binary.length);
+        DSSEEnvelope fromString = this.deserializer.deserialize(this.serializer.serialize(envelope));
+
+        // Assert
+        assertThat(fromArray).isEqualTo(envelope);
+        assertThat(fromString).isEqualTo(envelope);
+        assertThat(fromArray.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+    }
+
+    @Test
+    void deserialize_shouldNotCopyPayload_WhenReadFromBuffer() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of("payload".getBytes(StandardCharsets.UTF_8), "application/json",
+                                                List.of(DSSESignature.of("keyid", new byte[]{9})));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        buffer.put(this.serializer.toByteArray(envelope)).flip();
+
+        // Act
+        MappedDSSEEnvelope result = this.deserializer.deserialize(buffer);
+        buffer.put(buffer.limit() - 1, (byte) '!');
+
+        // Assert
+        assertThat(buffer.position()).isZero();
+        assertThat(result.getPayloadType()).isEqualTo("application/json");
+        assertThat(result.getSignatures()).isEqualTo(envelope.getSignatures());
+        assertThat(result.getPayloadBuffers()).singleElement()
+                                              .satisfies(payload -> assertThat(payload.isReadOnly()).isTrue());
+        assertThat(new String(result.getSerializedBody(), StandardCharsets.UTF_8)).isEqualTo("payloa!");
+    }
+
+    @Test
+    void deserialize_shouldThrowDSSEException_WhenVersionIsUnknown() {
+
+        // Arrange
+        byte[] binary = this.serializer.toByteArray(DSSEEnvelope.of(new byte[0], "t", List.of()));
+        binary[0] = 2;
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(binary, 0, binary.length))
+                .isInstanceOf(DSSEException.class)
+                .hasMessage("Failed to deserialize binary envelope of %d bytes".formatted(binary.length))
+                .cause()
+                .hasMessage("Unsupported binary envelope version 2");
+    }
+
+    @Test
+    void deserialize_shouldThrowDSSEException_WhenEnvelopeIsTruncatedOrExtended() {
+
+        // Arrange
+        byte[] binary = this.serializer.toByteArray(DSSEEnvelope.of("payload".getBytes(), "t", List.of(
+                DSSESignature.of("keyid", new byte[32])
+        )));
+        byte[] extended = Arrays.copyOf(binary, binary.length + 1);
+
+        // Act & Assert
+        for (int length = 0; length < binary.length; length++) {
+            int truncatedLength = length;
+            assertThatThrownBy(() -> this.deserializer.deserialize(binary, 0, truncatedLength))
+                    .isInstanceOf(DSSEException.class);
+        }
+        assertThatThrownBy(() -> this.deserializer.deserialize(extended, 0, extended.length))
+                .isInstanceOf(DSSEException.class)
+                .cause()
+                .hasMessage("Payload of 7 bytes does not end the 8 remaining bytes");
+    }
+
+    @Test
+    void deserialize_shouldThrowDSSEException_WhenLengthIsCorrupted() {
+
+        // Arrange: a payload type announcing 2^62 bytes
+        byte[] binary = {1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80,
+                (byte) 0x80, 0x40};
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(ByteBuffer.wrap(binary)))
+                .isInstanceOf(DSSEException.class)
+                .cause()
+                .hasMessage("Length 4611686018427387904 is too large");
+    }
+}
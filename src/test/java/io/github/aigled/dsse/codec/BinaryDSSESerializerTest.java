@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryDSSESerializerTest {
+
+    private final BinaryDSSESerializer serializer = new BinaryDSSESerializer();
+
+    @Test
+    void toByteArray_shouldWriteTheDocumentedFormat() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of("hello".getBytes(StandardCharsets.US_ASCII), "t", List.of(
+                DSSESignature.of(null, new byte[]{1, 2}),
+                DSSESignature.of("k", new byte[]{3})
+        ));
+
+        // Act
+        byte[] result = this.serializer.toByteArray(envelope);
+
+        // Assert
+        assertThat(result).containsExactly(
+                1,                          // version
+                1, 't',                     // payload type
+                2,                          // signature count
+                0, 2, 1, 2,                 // signature without keyid
+                2, 'k', 1, 3,               // signature with keyid
+                5, 'h', 'e', 'l', 'l', 'o'  // payload
+        );
+        assertThat(this.serializer.serializedLength(envelope)).isEqualTo(result.length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 127, 128, 16_384, 200_000})
+    void serialize_shouldWriteSameBytes_WhateverTheOutput(int payloadLength) {
+
+        // Arrange
+        byte[] payload = new byte[payloadLength];
+        new Random(payloadLength).nextBytes(payload);
+        DSSEEnvelope envelope = DSSEEnvelope.of(payload, "application/vnd.in-toto+json", List.of(
+                DSSESignature.of("key1", new byte[64])
+        ));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        this.serializer.serialize(envelope, output);
+
+        // Assert
+        byte[] expected = this.serializer.toByteArray(envelope);
+        assertThat(output.toByteArray()).isEqualTo(expected);
+        assertThat(this.serializer.serialize(envelope).getBytes(StandardCharsets.ISO_8859_1)).isEqualTo(expected);
+        assertThat(expected).hasSize((int) this.serializer.serializedLength(envelope));
+    }
+
+    @Test
+    void toByteArray_shouldBeSmallerThanJson_WhenPayloadIsLarge() {
+
+        // Arrange
+        byte[] payload = new byte[30_000];
+        new Random(42).nextBytes(payload);
+        DSSEEnvelope envelope = MappedDSSEEnvelope.of(ByteBuffer.wrap(payload), "application/vnd.in-toto+json",
+                                                      List.of(DSSESignature.of("key1", new byte[72])));
+
+        // Act
+        byte[] result = this.serializer.toByteArray(envelope);
+
+        // Assert
+        assertThat(result.length).isLessThan(30_200);
+        assertThat(new SimpleJsonDSSESerializer().serializedLength(envelope)).isGreaterThan(40_000);
+    }
+
+    @Test
+    void serialize_shouldWriteConsistentEnvelope_WhenSignedDuringSerialization() {
+
+        // Arrange
+        DSSEEnvelope envelope = new ConcurrentlySignedEnvelope();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        this.serializer.serialize(envelope, output);
+        byte[] array = this.serializer.toByteArray(envelope);
+
+        // Assert
+        BinaryDSSEDeserializer deserializer = new BinaryDSSEDeserializer();
+        byte[] written = output.toByteArray();
+        assertThat(deserializer.deserialize(written, 0, written.length).getSignatures()).hasSize(1);
+        assertThat(deserializer.deserialize(array, 0, array.length).getSignatures()).hasSize(2);
+    }
+
+    /**
+     * An envelope gaining a signature each time its signatures are read, as if it were signed concurrently.
+     */
+    private static final class ConcurrentlySignedEnvelope extends DSSEEnvelope {
+
+        private final List<DSSESignature> added = new ArrayList<>();
+
+        ConcurrentlySignedEnvelope() {
+
+            super("hello".getBytes(StandardCharsets.US_ASCII), "t");
+        }
+
+        @Override
+        public synchronized List<DSSESignature> getSignatures() {
+
+            this.added.add(DSSESignature.of("k" + this.added.size(), new byte[]{1, 2, 3}));
+            return List.copyOf(this.added);
+        }
+    }
+}
@@ -15,13 +15,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class Jackson2JsonDSSEDeserializerTest {
 
+    private static final String JSON = """
+            {"payload":"eyJ0ZXN0IjoidmFsdWUifQ==","payloadType":"application/vnd.in-toto+json",\
+            "signatures":[{"keyid":"key1","sig":"signature1"}]}""";
+
+    private static final DSSEEnvelope EXPECTED = DSSEEnvelope.ofSignedMessage(
+            "eyJ0ZXN0IjoidmFsdWUifQ==",
+            "application/vnd.in-toto+json",
+            List.of(new DSSESignature("key1", "signature1"))
+    );
+
     private final Jackson2JsonDSSEDeserializer deserializer = new Jackson2JsonDSSEDeserializer();
 
     @ParameterizedTest
@@ -29,7 +43,9 @@ class Jackson2JsonDSSEDeserializerTest {
             "{invalid json}",
             "{\"payload\": null}",
             "{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"signatures\":[]}",
-            "{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"payloadType\":\"application/vnd.in-toto+json\"}"
+            "{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"payloadType\":\"application/vnd.in-toto+json\"}",
+            "{\"payload\":\"PDw_Pz8+Pg==\",\"payloadType\":\"text/plain\",\"signatures\":[]}",
+            "{\"payload\":42,\"payloadType\":\"text/plain\",\"signatures\":[]}"
     })
     void shouldThrowException_WhenJsonEnvelopeIsInvalid(String json) {
 
@@ -100,4 +116,98 @@ class Jackson2JsonDSSEDeserializerTest {
         // Assert
         assertThat(result).isEqualTo(expectedDSSEEnvelope);
     }
+
+    @Test
+    void shouldDeserialize_WhenContentIsARangeOfBytes() {
+
+        // Arrange
+        byte[] json = ("garbage" + JSON + "garbage").getBytes(StandardCharsets.UTF_8);
+        int length = JSON.getBytes(StandardCharsets.UTF_8).length;
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(json, "garbage".length(), length);
+
+        // Assert
+        assertThat(result).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void shouldDeserialize_WhenContentIsADirectByteBuffer() {
+
+        // Arrange
+        byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(json.length).put(json).flip();
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(buffer);
+
+        // Assert
+        assertThat(result).isEqualTo(EXPECTED);
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void shouldDeserialize_WhenContentIsAnInputStream() {
+
+        // Arrange
+        ByteArrayInputStream stream = new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(stream);
+
+        // Assert
+        assertThat(result).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void shouldParseStreamInPlace_WithoutClosingIt() {
+
+        // Arrange
+        String json = "{\"payload\":\"PDw_Pz8-Pg\",\"payloadType\":\"text/plain\",\"signatures\":[]}";
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayInputStream stream = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+
+            @Override
+            public void close() {
+
+                closed.set(true);
+            }
+        };
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(stream);
+
+        // Assert
+        assertThat(result.getPayload()).isEqualTo("PDw/Pz8+Pg==");
+        assertThat(closed).isFalse();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PDw_Pz8-Pg==", "PDw_Pz8-Pg", "PDw/Pz8+Pg"})
+    void shouldDeserialize_WhenPayloadIsUrlSafeOrUnpadded(String payload) {
+
+        // Arrange
+        String json = "{\"payload\":\"%s\",\"payloadType\":\"text/plain\",\"signatures\":[]}".formatted(payload);
+
+        // Act
+        DSSEEnvelope fromString = this.deserializer.deserialize(json);
+        DSSEEnvelope fromBytes = this.deserializer.deserialize(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertThat(fromBytes.hasEncodedPayload()).isFalse();
+        assertThat(fromString.getPayload()).isEqualTo("PDw/Pz8+Pg==");
+        assertThat(fromBytes).isEqualTo(fromString);
+    }
+
+    @Test
+    void shouldThrowException_WhenBytesAreInvalid() {
+
+        // Arrange
+        byte[] json = "{invalid json}".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(json, 0, json.length))
+                .isInstanceOf(DSSEException.class)
+                .hasMessage("Failed to deserialize JSON envelope '{invalid json}'");
+    }
 }
@@ -11,17 +11,23 @@ package io.github.aigled.dsse.codec;
 import io.github.aigled.dsse.DSSEEnvelope;
 import io.github.aigled.dsse.DSSEException;
 import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
 import org.junit.jupiter.api.Test;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 class Jackson2JsonDSSESerializerTest {
 
@@ -59,16 +65,99 @@ class Jackson2JsonDSSESerializerTest {
         assertThat(actualJsonNode).isEqualTo(expectedJsonNode);
     }
 
+    @Test
+    void shouldSerialize_WithMappedEnvelope() {
+
+        // Arrange
+        String expectedJson = """
+                {
+                  "payload": "eyJ0ZXN0IjoidmFsdWUifQ==",
+                  "payloadType": "application/vnd.in-toto+json",
+                  "signatures": []
+                }
+                """;
+        JsonNode expectedJsonNode = this.jsonMapper.readTree(expectedJson);
+
+        ByteBuffer payload = ByteBuffer.wrap("{\"test\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(payload, "application/vnd.in-toto+json");
+
+        // Act
+        String result = this.serializer.serialize(envelope);
+        JsonNode actualJsonNode = this.jsonMapper.readTree(result);
+
+        // Assert
+        assertThat(actualJsonNode).isEqualTo(expectedJsonNode);
+    }
+
     @Test
     void shouldThrowException_WhenEnvelopeIsInvalid() {
 
         // Arrange
         DSSEEnvelope mockEnvelope = mock(DSSEEnvelope.class);
-        when(mockEnvelope.getPayload()).thenThrow(JacksonException.class);
+        when(mockEnvelope.newPayloadInputStream()).thenThrow(JacksonException.class);
 
         // Act & Assert
         assertThatThrownBy(() -> this.serializer.serialize(mockEnvelope))
                 .isInstanceOf(DSSEException.class)
                 .hasMessageContaining("Failed to serialize DSSE envelope");
     }
+
+    @Test
+    void serializedLength_shouldMatchSerializedBytes_WhenStringsNeedEscaping() {
+
+        // Arrange
+        for (int payloadLength = 0; payloadLength < 8; payloadLength++) {
+            byte[] payload = new byte[payloadLength];
+            new Random(payloadLength).nextBytes(payload);
+            DSSEEnvelope envelope = DSSEEnvelope.of(payload, "application/vnd.\"quoted\"+json; é\n", List.of(
+                    new DSSESignature(null, "c2lnMQ=="),
+                    new DSSESignature("key\\2/\u0001", "c2lnMg==")
+            ));
+
+            // Act
+            long length = this.serializer.serializedLength(envelope);
+            String result = this.serializer.serialize(envelope);
+
+            // Assert
+            assertThat(length).isEqualTo(result.getBytes(StandardCharsets.UTF_8).length);
+            assertThat(new Jackson2JsonDSSEDeserializer().deserialize(result)).isEqualTo(envelope);
+        }
+    }
+
+    @Test
+    void serialize_shouldWriteSameBytesAsString_WhenOutputIsAStream() throws IOException {
+
+        // Arrange
+        byte[] payload = new byte[100_000];
+        new Random(42).nextBytes(payload);
+        DSSEEnvelope envelope = DSSEEnvelope.of(payload, "application/octet-stream",
+                                                List.of(new DSSESignature("key1", "signature1")));
+        ByteArrayOutputStream output = spy(new ByteArrayOutputStream());
+
+        // Act
+        this.serializer.serialize(envelope, output);
+
+        // Assert
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(this.serializer.serialize(envelope));
+        assertThat((long) output.size()).isEqualTo(this.serializer.serializedLength(envelope));
+        verify(output, never()).close();
+    }
+
+    @Test
+    void serialize_shouldStreamPayload_WhenEnvelopeIsMappedAndOutputIsAChannel() {
+
+        // Arrange
+        byte[] payload = new byte[100_001];
+        new Random(42).nextBytes(payload);
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(ByteBuffer.allocateDirect(payload.length).put(payload).flip(),
+                                                            "application/octet-stream");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        this.serializer.serialize(envelope, Channels.newChannel(output));
+
+        // Assert
+        String expected = this.serializer.serialize(DSSEEnvelope.of(payload, "application/octet-stream", List.of()));
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonLinesDSSEReaderTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void stream_shouldReadAllEnvelopesInOrder_WhenParsedInParallel() throws IOException {
+
+        // Arrange
+        List<DSSEEnvelope> envelopes = envelopes(2000);
+        Path file = this.write(envelopes);
+        JsonLinesDSSEReader reader = JsonLinesDSSEReader.of(file, new SimpleJsonDSSEDeserializer());
+
+        // Act
+        List<DSSEEnvelope> result = reader.stream().toList();
+
+        // Assert
+        assertThat(result).isEqualTo(envelopes);
+        assertThat(reader.spliterator().trySplit()).isNotNull();
+    }
+
+    @Test
+    void stream_shouldReadAllEnvelopes_WhenFileIsMappedInSeveralRegions() throws IOException {
+
+        // Arrange
+        List<DSSEEnvelope> envelopes = envelopes(2000);
+        Path file = this.write(envelopes);
+
+        // Act
+        List<DSSEEnvelope> result;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            result = JsonLinesDSSEReader.of(channel, new Jackson2JsonDSSEDeserializer(), 64 * 1024).stream().toList();
+        }
+
+        // Assert
+        assertThat(result).isEqualTo(envelopes);
+    }
+
+    @Test
+    void of_shouldThrowDSSEException_WhenLineIsLongerThanARegion() throws IOException {
+
+        // Arrange
+        Path file = this.write(envelopes(3));
+
+        // Act & Assert
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            assertThatThrownBy(() -> JsonLinesDSSEReader.of(channel, new SimpleJsonDSSEDeserializer(), 16))
+                    .isInstanceOf(DSSEException.class)
+                    .hasMessage("Line at offset 0 is longer than 16 bytes");
+        }
+    }
+
+    @Test
+    void stream_shouldSkipBlankLines_AndAcceptCarriageReturns() {
+
+        // Arrange
+        String content = """
+
+                {"payload":"YQ==","payloadType":"text","signatures":[]}\r
+                  \r
+
+                {"payload":"Yg==","payloadType":"text","signatures":[]}""";
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+
+        // Act
+        List<DSSEEnvelope> result = JsonLinesDSSEReader.of(buffer, new SimpleJsonDSSEDeserializer())
+                                                       .stream()
+                                                       .sequential()
+                                                       .toList();
+
+        // Assert
+        assertThat(result).extracting(DSSEEnvelope::getPayload).containsExactly("YQ==", "Yg==");
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void stream_shouldThrowDSSEException_WhenLineIsInvalid() {
+
+        // Arrange
+        String content = "{\"payload\":\"YQ==\",\"payloadType\":\"text\",\"signatures\":[]}\n{invalid}\n";
+        JsonLinesDSSEReader reader = JsonLinesDSSEReader.of(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8)),
+                                                            new SimpleJsonDSSEDeserializer());
+
+        // Act & Assert
+        assertThatThrownBy(() -> reader.stream().toList())
+                .isInstanceOf(DSSEException.class)
+                .hasMessage("Failed to deserialize the line at offset 56");
+    }
+
+    @Test
+    void spliterator_shouldNotSplit_WhenContentIsSmall() {
+
+        // Arrange
+        JsonLinesDSSEReader reader = JsonLinesDSSEReader.of(ByteBuffer.wrap(new byte[100]), new SimpleJsonDSSEDeserializer());
+
+        // Act
+        Spliterator<DSSEEnvelope> spliterator = reader.spliterator();
+
+        // Assert
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+    }
+
+    private Path write(List<DSSEEnvelope> envelopes) throws IOException {
+
+        Path file = this.tempDir.resolve("envelopes.ndjson");
+        try (JsonLinesDSSEWriter writer = JsonLinesDSSEWriter.of(file, new SimpleJsonDSSESerializer())) {
+            writer.writeAll(envelopes.stream());
+        }
+
+        return file;
+    }
+
+    private static List<DSSEEnvelope> envelopes(int count) {
+
+        Random random = new Random(42);
+        return IntStream.range(0, count).mapToObj(i -> {
+            byte[] payload = new byte[random.nextInt(400)];
+            random.nextBytes(payload);
+            return DSSEEnvelope.of(payload, "application/vnd.in-toto+json",
+                                   List.of(DSSESignature.of("key-" + i, payload)));
+        }).toList();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESerializer;
+import io.github.aigled.dsse.DSSESignature;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class JsonLinesDSSEWriterTest {
+
+    private final SimpleJsonDSSESerializer serializer = new SimpleJsonDSSESerializer();
+
+    @Test
+    void write_shouldWriteOneEnvelopePerLine_WithoutFlushingEachOne() throws IOException {
+
+        // Arrange
+        ByteArrayOutputStream output = spy(new ByteArrayOutputStream());
+        List<DSSEEnvelope> envelopes = envelopes(3);
+
+        // Act
+        try (JsonLinesDSSEWriter writer = new JsonLinesDSSEWriter(output, this.serializer)) {
+            envelopes.forEach(writer::write);
+            verify(output, never()).flush();
+            assertThat(output.size()).isZero();
+        }
+
+        // Assert
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n"))
+                .containsExactlyElementsOf(envelopes.stream().map(this.serializer::serialize).toList());
+        verify(output).close();
+    }
+
+    @Test
+    void writeAll_shouldWriteEnvelopesInOrder_WhenStreamIsParallel() throws IOException {
+
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        List<DSSEEnvelope> envelopes = envelopes(1000);
+
+        // Act
+        try (JsonLinesDSSEWriter writer = new JsonLinesDSSEWriter(output, this.serializer)) {
+            writer.writeAll(envelopes.parallelStream());
+        }
+
+        // Assert
+        assertThat(output.toString(StandardCharsets.UTF_8).split("\n"))
+                .containsExactlyElementsOf(envelopes.stream().map(this.serializer::serialize).toList());
+    }
+
+    @Test
+    void write_shouldDiscardPartialLine_WhenSerializationFails() throws IOException {
+
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        DSSEEnvelope valid = envelopes(1).get(0);
+        DSSESerializer failingSerializer = new DSSESerializer() {
+
+            @Override
+            public String serialize(DSSEEnvelope envelope) {
+
+                return JsonLinesDSSEWriterTest.this.serializer.serialize(envelope);
+            }
+
+            @Override
+            public void serialize(DSSEEnvelope envelope, OutputStream out) {
+
+                JsonLinesDSSEWriterTest.this.serializer.serialize(envelope, out);
+                if (envelope != valid) {
+                    throw new DSSEException("Failed", null);
+                }
+            }
+        };
+
+        // Act
+        try (JsonLinesDSSEWriter writer = new JsonLinesDSSEWriter(output, failingSerializer)) {
+            writer.write(valid);
+            assertThatThrownBy(() -> writer.write(envelopes(2).get(1))).isInstanceOf(DSSEException.class);
+            writer.write(valid);
+        }
+
+        // Assert
+        String line = this.serializer.serialize(valid) + "\n";
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(line + line);
+    }
+
+    private static List<DSSEEnvelope> envelopes(int count) {
+
+        return IntStream.range(0, count)
+                        .mapToObj(i -> DSSEEnvelope.of(("payload " + i).getBytes(StandardCharsets.UTF_8), "text/plain",
+                                                       List.of(new DSSESignature("key-" + i, "c2ln"))))
+                        .toList();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProtobufDSSEDeserializerTest {
+
+    private final ProtobufDSSEDeserializer deserializer = new ProtobufDSSEDeserializer();
+    private final ProtobufDSSESerializer serializer = new ProtobufDSSESerializer();
+
+    @Test
+    void deserialize_shouldRoundTrip_WhenReadFromArrayOrString() {
+
+        // Arrange
+        byte[] payload = new byte[1000];
+        new Random(42).nextBytes(payload);
+        DSSEEnvelope envelope = DSSEEnvelope.of(payload, "application/vnd.in-toto+json ✓", List.of(
+                DSSESignature.of(null, new byte[]{1, 2, 3}),
+                DSSESignature.of("clé", new byte[64])
+        ));
+        byte[] message = this.serializer.toByteArray(envelope);
+        byte[] padded = new byte[message.length + 10];
+        System.arraycopy(message, 0, padded, 5, message.length);
+
+        // Act
+        DSSEEnvelope fromArray = this.deserializer.deserialize(padded, 5, message.length);
+        DSSEEnvelope fromString = this.deserializer.deserialize(this.serializer.serialize(envelope));
+
+        // Assert
+        assertThat(fromArray).isEqualTo(envelope);
+        assertThat(fromString).isEqualTo(envelope);
+        assertThat(fromArray.getState().get()).isEqualTo(DSSEEnvelope.State.SIGNED);
+    }
+
+    @Test
+    void deserialize_shouldFollowProtobufSemantics_WhenFieldsAreReorderedRepeatedOrUnknown() {
+
+        // Arrange
+        byte[] message = {
+                0x1A, 3, 0x0A, 1, 7,                  // signature without keyid
+                0x78, (byte) 0x96, 0x01,              // unknown varint field 15
+                0x12, 1, 'x',                         // payload_type, overridden below
+                0x0A, 2, 'h', 'i',                    // payload
+                0x25, 1, 2, 3, 4,                     // unknown fixed32 field 4
+                0x12, 1, 't',                         // payload_type
+                0x1A, 15, 0x12, 1, 'k',               // signature with keyid first,
+                0x21, 0, 0, 0, 0, 0, 0, 0, 0,         //   an unknown fixed64 field 4,
+                0x0A, 1, 9                            //   then sig
+        };
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(message, 0, message.length);
+
+        // Assert
+        assertThat(result.getSerializedBody()).isEqualTo("hi".getBytes(StandardCharsets.US_ASCII));
+        assertThat(result.getPayloadType()).isEqualTo("t");
+        assertThat(result.getSignatures()).containsExactly(DSSESignature.of(null, new byte[]{7}),
+                                                           DSSESignature.of("k", new byte[]{9}));
+    }
+
+    @Test
+    void deserialize_shouldApplyDefaults_WhenMessageIsEmpty() {
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(new byte[0], 0, 0);
+
+        // Assert
+        assertThat(result.getPayloadLength()).isZero();
+        assertThat(result.getPayloadType()).isEmpty();
+        assertThat(result.getSignatures()).isEmpty();
+        assertThat(result.getState().get()).isEqualTo(DSSEEnvelope.State.UNSIGNED);
+    }
+
+    @Test
+    void deserialize_shouldNotCopyPayload_WhenReadFromBuffer() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of("payload".getBytes(StandardCharsets.UTF_8), "application/json",
+                                                List.of(DSSESignature.of("keyid", new byte[]{9})));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64);
+        this.serializer.serialize(envelope, buffer);
+        buffer.flip();
+
+        // Act
+        MappedDSSEEnvelope result = this.deserializer.deserialize(buffer);
+        buffer.put(2, (byte) 'P');
+
+        // Assert
+        assertThat(buffer.position()).isZero();
+        assertThat(result.getPayloadType()).isEqualTo("application/json");
+        assertThat(result.getSignatures()).isEqualTo(envelope.getSignatures());
+        assertThat(new String(result.getSerializedBody(), StandardCharsets.UTF_8)).isEqualTo("Payload");
+    }
+
+    @Test
+    void deserialize_shouldThrowDSSEException_WhenFieldHasWrongWireType() {
+
+        // Arrange: payload_type as a varint
+        byte[] message = {0x10, 1};
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(message, 0, message.length))
+                .isInstanceOf(DSSEException.class)
+                .hasMessage("Failed to deserialize protobuf envelope of 2 bytes")
+                .cause()
+                .hasMessage("Field 2 has wire type 0 instead of 2");
+    }
+
+    @Test
+    void deserialize_shouldThrowDSSEException_WhenMessageIsTruncated() {
+
+        // Arrange
+        byte[] message = this.serializer.toByteArray(DSSEEnvelope.of("payload".getBytes(), "t", List.of(
+                DSSESignature.of("keyid", new byte[32])
+        )));
+
+        // Act & Assert
+        for (int length = 1; length < message.length; length++) {
+            int truncatedLength = length;
+            if (truncatedLength == 9 || truncatedLength == 12) {
+                // Truncated right after the payload or the payload type: a valid message with fewer fields
+                continue;
+            }
+            assertThatThrownBy(() -> this.deserializer.deserialize(message, 0, truncatedLength))
+                    .as("truncated to %d bytes", truncatedLength)
+                    .isInstanceOf(DSSEException.class);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProtobufDSSESerializerTest {
+
+    private final ProtobufDSSESerializer serializer = new ProtobufDSSESerializer();
+
+    @Test
+    void toByteArray_shouldWriteTheEnvelopeMessage() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of("hi".getBytes(StandardCharsets.US_ASCII), "t", List.of(
+                DSSESignature.of("k", new byte[]{1}),
+                DSSESignature.of(null, new byte[]{2, 3})
+        ));
+
+        // Act
+        byte[] result = this.serializer.toByteArray(envelope);
+
+        // Assert
+        assertThat(result).containsExactly(
+                0x0A, 2, 'h', 'i',                    // payload = 1
+                0x12, 1, 't',                         // payload_type = 2
+                0x1A, 6, 0x0A, 1, 1, 0x12, 1, 'k',    // signatures = 3, with sig = 1 and keyid = 2
+                0x1A, 4, 0x0A, 2, 2, 3                // signatures = 3, without keyid
+        );
+        assertThat(this.serializer.serializedLength(envelope)).isEqualTo(result.length);
+    }
+
+    @Test
+    void toByteArray_shouldOmitDefaultValues() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of(new byte[0], "", List.of(DSSESignature.of(null, new byte[0])));
+
+        // Act
+        byte[] result = this.serializer.toByteArray(envelope);
+
+        // Assert
+        assertThat(result).containsExactly(0x1A, 0);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 127, 128, 16_384, 200_000})
+    void serialize_shouldWriteSameBytes_WhateverTheOutput(int payloadLength) {
+
+        // Arrange
+        byte[] payload = new byte[payloadLength];
+        new Random(payloadLength).nextBytes(payload);
+        DSSEEnvelope envelope = DSSEEnvelope.of(payload, "application/vnd.in-toto+json", List.of(
+                DSSESignature.of("key1", new byte[64])
+        ));
+        byte[] expected = this.serializer.toByteArray(envelope);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length + 3).position(3);
+
+        // Act
+        this.serializer.serialize(envelope, stream);
+        this.serializer.serialize(envelope, direct);
+
+        // Assert
+        assertThat(stream.toByteArray()).isEqualTo(expected);
+        assertThat(direct.position()).isEqualTo(expected.length + 3);
+        byte[] written = new byte[expected.length];
+        direct.position(3).get(written);
+        assertThat(written).isEqualTo(expected);
+        assertThat(this.serializer.serialize(envelope).getBytes(StandardCharsets.ISO_8859_1)).isEqualTo(expected);
+    }
+
+    @Test
+    void serialize_shouldThrowDSSEException_WhenBufferIsTooSmall() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of("payload".getBytes(), "t", List.of());
+        ByteBuffer output = ByteBuffer.allocate(9);
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.serializer.serialize(envelope, output))
+                .isInstanceOf(DSSEException.class)
+                .hasMessage("Serialized envelope of 12 bytes does not fit in the 9 remaining bytes");
+        assertThat(output.position()).isZero();
+    }
+
+    @Test
+    void toByteArray_shouldWriteConsistentEnvelope_WhenSignedDuringSerialization() {
+
+        // Arrange
+        DSSEEnvelope envelope = new ConcurrentlySignedEnvelope();
+        ByteBuffer output = ByteBuffer.allocate(1024);
+
+        // Act
+        byte[] array = this.serializer.toByteArray(envelope);
+        this.serializer.serialize(envelope, output);
+
+        // Assert
+        ProtobufDSSEDeserializer deserializer = new ProtobufDSSEDeserializer();
+        assertThat(deserializer.deserialize(array, 0, array.length).getSignatures()).hasSize(1);
+        assertThat(deserializer.deserialize(output.flip()).getSignatures()).hasSize(2);
+    }
+
+    /**
+     * An envelope gaining a signature each time its signatures are read, as if it were signed concurrently.
+     */
+    private static final class ConcurrentlySignedEnvelope extends DSSEEnvelope {
+
+        private final List<DSSESignature> added = new ArrayList<>();
+
+        ConcurrentlySignedEnvelope() {
+
+            super("hello".getBytes(StandardCharsets.US_ASCII), "t");
+        }
+
+        @Override
+        public synchronized List<DSSESignature> getSignatures() {
+
+            this.added.add(DSSESignature.of("k" + this.added.size(), new byte[]{1, 2, 3}));
+            return List.copyOf(this.added);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEEnvelopeHeader;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSEHeaderFilter;
+import io.github.aigled.dsse.DSSESignature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimpleJsonDSSEDeserializerTest {
+
+    private static final DSSEEnvelope EXPECTED = DSSEEnvelope.ofSignedMessage(
+            "eyJ0ZXN0IjoidmFsdWUifQ==",
+            "application/vnd.in-toto+json",
+            List.of(new DSSESignature("key1", "signature1"), new DSSESignature(null, "signature2"))
+    );
+
+    private final SimpleJsonDSSEDeserializer deserializer = new SimpleJsonDSSEDeserializer();
+
+    @Test
+    void shouldDeserialize_WhenJsonIsValid() {
+
+        // Arrange
+        String json = """
+                {
+                  "payload": "eyJ0ZXN0IjoidmFsdWUifQ==",
+                  "payloadType": "application/vnd.in-toto+json",
+                  "signatures": [
+                    {
+                      "keyid": "key1",
+                      "sig": "signature1"
+                    },
+                    {
+                      "keyid": null,
+                      "sig": "signature2"
+                    }
+                  ]
+                }
+                """;
+
+        // Act
+        DSSEEnvelope fromString = this.deserializer.deserialize(json);
+        DSSEEnvelope fromStream = this.deserializer.deserialize(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertThat(fromString).isEqualTo(EXPECTED);
+        assertThat(fromStream).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void shouldIgnoreUnrecognizedFields_WhenJsonContainsAdditionalFields() {
+
+        // Arrange
+        String json = """
+                {"field_1": {"nested": [1, -2.5e3, true, false, null, "\\"}"]}, "payload": "eyJ0ZXN0IjoidmFsdWUifQ==",
+                 "payloadType": "application/vnd.in-toto+json", "signatures": [{"keyid": "key1", "field_2": [],
+                 "sig": "signature1"}, {"sig": "signature2"}]}
+                """;
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertThat(result).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void shouldUnescapeStrings_WhenJsonContainsEscapeSequences() {
+
+        // Arrange
+        String json = """
+                {"payload":"eyJ0ZXN0IjoidmFsdWUifQ\\u003d\\u003d","payloadType":"application\\/vnd.in-toto+json",\
+                "signatures":[{"keyid":"key\\u0031","sig":"signature1"},{"sig":"signature2"}]}""";
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(json);
+
+        // Assert
+        assertThat(result).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void shouldKeepEncodedPayload_OnlyWhenRequested() {
+
+        // Arrange
+        String json = "{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"payloadType\":\"text/plain\",\"signatures\":[]}";
+
+        // Act
+        DSSEEnvelope decoded = this.deserializer.deserialize(json);
+        DSSEEnvelope encoded = new SimpleJsonDSSEDeserializer(true).deserialize(json);
+
+        // Assert
+        assertThat(decoded.hasEncodedPayload()).isFalse();
+        assertThat(encoded.hasEncodedPayload()).isTrue();
+        assertThat(encoded).isEqualTo(decoded);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"PDw_Pz8-Pg==", "PDw_Pz8-Pg", "PDw/Pz8+Pg"})
+    void shouldDeserialize_WhenPayloadIsUrlSafeOrUnpadded(String payload) {
+
+        // Arrange
+        String json = "{\"payload\":\"%s\",\"payloadType\":\"text/plain\",\"signatures\":[]}".formatted(payload);
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(json);
+
+        // Assert
+        assertThat(result.getPayload()).isEqualTo("PDw/Pz8+Pg==");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{invalid json}",
+            "{\"payload\": null}",
+            "{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"signatures\":[]}",
+            "{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"payloadType\":\"application/vnd.in-toto+json\"}",
+            "{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"payloadType\":\"text\",\"signatures\":[{\"keyid\":\"k\"}]}",
+            "{\"payload\":\"not base64!\",\"payloadType\":\"text\",\"signatures\":[]}",
+            "{\"payload\":\"\",\"payloadType\":\"text\",\"signatures\":[]} trailing",
+            "{\"payload\":\"\",\"payloadType\":\"text\",\"signatures\":[]",
+            "{\"payload\":\"\",\"payloadType\":\"te"
+    })
+    void shouldThrowException_WhenJsonEnvelopeIsInvalid(String json) {
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(json))
+                .isInstanceOf(DSSEException.class)
+                .hasMessageStartingWith("Failed to deserialize JSON envelope");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"type\u00c3(", "type\\n\u00c3(", "\u00ed\u00a0\u0080"})
+    void shouldThrowException_WhenStringIsMalformedUtf8(String payloadType) {
+
+        // Arrange
+        byte[] json = ("{\"payload\":\"\",\"payloadType\":\"" + payloadType + "\",\"signatures\":[]}")
+                .getBytes(StandardCharsets.ISO_8859_1);
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(json, 0, json.length))
+                .isInstanceOf(DSSEException.class)
+                .hasRootCauseInstanceOf(CharacterCodingException.class);
+        assertThatThrownBy(() -> new Jackson2JsonDSSEDeserializer().deserialize(json, 0, json.length))
+                .isInstanceOf(DSSEException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"e", "+", "1.2.3", "--", "-", "01", "1.", ".5", "1e", "1e+", "-a"})
+    void shouldThrowException_WhenUnknownNumberIsInvalid(String number) {
+
+        // Arrange
+        String json = "{\"x\":%s,\"payload\":\"\",\"payloadType\":\"text\",\"signatures\":[]}".formatted(number);
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(json))
+                .isInstanceOf(DSSEException.class);
+        assertThatThrownBy(() -> new Jackson2JsonDSSEDeserializer().deserialize(json))
+                .isInstanceOf(DSSEException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-0", "7", "-12", "0.5", "-1.25e+10", "3E-2", "10e5"})
+    void shouldIgnoreUnknownNumber_WhenItIsValid(String number) {
+
+        // Arrange
+        String json = "{\"x\":[%s],\"payload\":\"\",\"payloadType\":\"text\",\"signatures\":[]}".formatted(number);
+
+        // Act
+        DSSEEnvelope result = this.deserializer.deserialize(json);
+
+        // Assert
+        assertThat(result).isEqualTo(new Jackson2JsonDSSEDeserializer().deserialize(json));
+    }
+
+    @Test
+    void shouldThrowException_WhenUnknownFieldIsTooDeeplyNested() {
+
+        // Arrange
+        String json = "{\"field\":" + "[".repeat(2000) + "]".repeat(2000) + "}";
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserialize(json))
+                .isInstanceOf(DSSEException.class)
+                .hasRootCauseMessage("Maximum nesting depth of 1000 exceeded");
+    }
+
+    @Test
+    void deserializeHeader_shouldLocatePayload_WithoutDecodingIt() {
+
+        // Arrange
+        byte[] json = ("xx{\"payload\":\"eyJ0ZXN0IjoidmFsdWUifQ==\",\"payloadType\":\"application/vnd.in-toto+json\","
+                       + "\"signatures\":[{\"keyid\":\"key1\",\"sig\":\"signature1\"},{\"sig\":\"sig\\/2\"}]}xx")
+                .getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        DSSEEnvelopeHeader header = this.deserializer.deserializeHeader(json, 2, json.length - 4);
+
+        // Assert
+        assertThat(header.payloadType()).isEqualTo("application/vnd.in-toto+json");
+        assertThat(header.keyids()).containsExactly("key1", null);
+        assertThat(new String(json, header.payloadOffset(), header.payloadLength(), StandardCharsets.US_ASCII))
+                .isEqualTo("eyJ0ZXN0IjoidmFsdWUifQ==");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"payloadType\":\"text\",\"signatures\":[]}",
+            "{\"payload\":\"\",\"payloadType\":\"text\",\"signatures\":[{\"keyid\":\"k\"}]}",
+            "{\"payload\":\"\",\"payloadType\":\"text\",\"signatures\":[]} trailing"
+    })
+    void deserializeHeader_shouldThrowException_WhenJsonEnvelopeIsInvalid(String json) {
+
+        // Arrange
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertThatThrownBy(() -> this.deserializer.deserializeHeader(bytes, 0, bytes.length))
+                .isInstanceOf(DSSEException.class)
+                .hasMessageStartingWith("Failed to deserialize JSON envelope");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // Rejected on the payload type, before the invalid remainder
+            "{\"payloadType\":\"text/plain\",\"payload\":[[[",
+            // Rejected on the signatures, before the invalid remainder
+            "{\"signatures\":[{\"keyid\":\"key1\",\"sig\":\"c2ln\"},{\"keyid\":\"key9\",\"sig\":\"c2ln\"}],\"payload\":[[[",
+            "{\"signatures\":[{\"keyid\":\"key1\",\"sig\":\"c2ln\"},{\"keyid\":\"key1\",\"sig\":\"c2ln\"}]}",
+            "{\"signatures\":[{\"sig\":\"c2ln\"},{\"sig\":\"c2ln\"}]}"
+    })
+    void deserializeHeader_shouldRejectEarly_WhenFilterCannotBeSatisfied(String json) {
+
+        // Arrange
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        DSSEHeaderFilter filter = DSSEHeaderFilter.trustedKeyIds(2, Set.of("key1", "key2"))
+                                                  .withPayloadTypes(Set.of("application/vnd.in-toto+json"));
+
+        // Act
+        Optional<DSSEEnvelopeHeader> header = this.deserializer.deserializeHeader(bytes, 0, bytes.length, filter);
+
+        // Assert
+        assertThat(header).isEmpty();
+    }
+
+    @Test
+    void deserializeHeader_shouldReturnHeader_WhenFilterIsSatisfied() {
+
+        // Arrange
+        byte[] json = ("{\"payload\":\"c2ln\",\"payloadType\":\"application/vnd.in-toto+json\",\"signatures\":["
+                       + "{\"keyid\":\"key2\",\"sig\":\"c2ln\"},{\"keyid\":\"key9\",\"sig\":\"c2ln\"},"
+                       + "{\"keyid\":\"key1\",\"sig\":\"c2ln\"}]}").getBytes(StandardCharsets.UTF_8);
+        DSSEHeaderFilter filter = DSSEHeaderFilter.trustedKeyIds(2, Set.of("key1", "key2"))
+                                                  .withPayloadTypes(Set.of("application/vnd.in-toto+json"));
+
+        // Act
+        Optional<DSSEEnvelopeHeader> header = this.deserializer.deserializeHeader(json, 0, json.length, filter);
+
+        // Assert
+        assertThat(header).hasValueSatisfying(value -> assertThat(value.keyids()).containsExactly("key2", "key9", "key1"));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.codec;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class SimpleJsonDSSESerializerTest {
+
+    private final SimpleJsonDSSESerializer serializer = new SimpleJsonDSSESerializer();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 100, 48 * 1024, 48 * 1024 + 1, 200_000})
+    void serialize_shouldProduceSameJsonAsJackson(int payloadLength) {
+
+        // Arrange
+        byte[] payload = new byte[payloadLength];
+        new Random(payloadLength).nextBytes(payload);
+        DSSEEnvelope envelope = DSSEEnvelope.of(payload, "application/vnd.in-toto+json", List.of(
+                new DSSESignature(null, "c2lnMQ=="),
+                new DSSESignature("key1", "c2lnMg==")
+        ));
+
+        // Act
+        String result = this.serializer.serialize(envelope);
+
+        // Assert
+        assertThat(result).isEqualTo(new Jackson2JsonDSSESerializer().serialize(envelope));
+        assertThat(this.serializer.serializedLength(envelope)).isEqualTo(result.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 200_000})
+    void serialize_shouldWriteEncodedPayloadAsIs_WhenEnvelopeHoldsIt(int payloadLength) {
+
+        // Arrange
+        byte[] payload = new byte[payloadLength];
+        new Random(payloadLength).nextBytes(payload);
+        List<DSSESignature> signatures = List.of(new DSSESignature("key1", "c2lnMQ=="));
+        DSSEEnvelope envelope = spy(DSSEEnvelope.ofSignedMessage(Base64.getEncoder().encodeToString(payload),
+                                                                 "application/vnd.in-toto+json", signatures));
+
+        // Act
+        String result = this.serializer.serialize(envelope);
+
+        // Assert
+        DSSEEnvelope decodedEnvelope = DSSEEnvelope.of(payload, "application/vnd.in-toto+json", signatures);
+        assertThat(result).isEqualTo(new Jackson2JsonDSSESerializer().serialize(decodedEnvelope));
+        assertThat(this.serializer.serializedLength(envelope)).isEqualTo(result.getBytes(StandardCharsets.UTF_8).length);
+        verify(envelope, never()).newPayloadInputStream();
+    }
+
+    @Test
+    void serialize_shouldEscapeStrings() {
+
+        // Arrange
+        DSSEEnvelope envelope = DSSEEnvelope.of(new byte[0], "type \"quoted\" é\n", List.of(
+                new DSSESignature("key\\1\u001f", "c2ln")
+        ));
+
+        // Act
+        String result = this.serializer.serialize(envelope);
+
+        // Assert
+        assertThat(result).isEqualTo("{\"payload\":\"\",\"payloadType\":\"type \\\"quoted\\\" é\\n\","
+                                     + "\"signatures\":[{\"keyid\":\"key\\\\1\\u001F\",\"sig\":\"c2ln\"}]}");
+        assertThat(result).isEqualTo(new Jackson2JsonDSSESerializer().serialize(envelope));
+        assertThat(this.serializer.serializedLength(envelope)).isEqualTo(result.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(new SimpleJsonDSSEDeserializer().deserialize(result)).isEqualTo(envelope);
+    }
+
+    @Test
+    void serialize_shouldStreamPayload_WhenEnvelopeIsMappedAndOutputIsAChannel() {
+
+        // Arrange
+        byte[] payload = new byte[100_001];
+        new Random(42).nextBytes(payload);
+        MappedDSSEEnvelope envelope = MappedDSSEEnvelope.of(ByteBuffer.allocateDirect(payload.length).put(payload).flip(),
+                                                            "application/octet-stream");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        this.serializer.serialize(envelope, Channels.newChannel(output));
+
+        // Assert
+        String expected = this.serializer.serialize(DSSEEnvelope.of(payload, "application/octet-stream", List.of()));
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+}
@@ -11,10 +11,11 @@ package io.github.aigled.dsse.crypto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.NoSuchAlgorithmException;
-import java.security.PrivateKey;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.security.*;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -22,6 +23,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class ECDSASignerTest {
 
     private ECDSASigner signer;
+    private ECDSAVerifier verifier;
 
     @BeforeEach
     void setUp() throws NoSuchAlgorithmException {
@@ -31,6 +33,7 @@ class ECDSASignerTest {
         KeyPair keyPair = keyPairGenerator.generateKeyPair();
         String algorithm = "SHA256withECDSA";
         this.signer = new ECDSASigner(algorithm, keyPair.getPrivate());
+        this.verifier = new ECDSAVerifier(algorithm, keyPair.getPublic());
     }
 
     /**
@@ -75,8 +78,30 @@ class ECDSASignerTest {
     void sign_ShouldThrowException_WhenInputIsNull() {
 
         // Act & Assert
-        assertThatThrownBy(() -> this.signer.sign(null))
+        assertThatThrownBy(() -> this.signer.sign((byte[]) null))
                 .isInstanceOf(NullPointerException.class)
                 .hasMessage("signingInput must not be null");
     }
+
+    /**
+     * Test case to ensure that the streaming variants sign the same content as the byte array variant.
+     */
+    @Test
+    void sign_ShouldGenerateVerifiableSignatures_ForStreamingInputs() {
+
+        // Arrange
+        byte[] inputData = "test input".getBytes();
+        List<ByteBuffer> buffers = List.of(ByteBuffer.wrap(inputData, 0, 4), ByteBuffer.wrap(inputData, 4, 6));
+
+        // Act
+        byte[] streamSignature = this.signer.sign(new ByteArrayInputStream(inputData));
+        byte[] channelSignature = this.signer.sign(Channels.newChannel(new ByteArrayInputStream(inputData)));
+        byte[] buffersSignature = this.signer.sign(buffers);
+
+        // Assert
+        assertThat(this.verifier.verify(inputData, streamSignature)).isTrue();
+        assertThat(this.verifier.verify(inputData, channelSignature)).isTrue();
+        assertThat(this.verifier.verify(inputData, buffersSignature)).isTrue();
+        assertThat(buffers).allSatisfy(buffer -> assertThat(buffer.position()).isIn(0, 4));
+    }
 }
@@ -12,8 +12,17 @@ import io.github.aigled.dsse.DSSEException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.security.*;
 import java.security.spec.ECGenParameterSpec;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -72,6 +81,29 @@ class ECDSAVerifierTest {
         assertThat(isValid).isTrue();
     }
 
+    /**
+     * Test the streaming verify methods with a valid signature.
+     */
+    @Test
+    void verify_shouldReturnTrue_WithValidSignatureAndStreamingInputs() throws Exception {
+
+        // Arrange
+        byte[] data = "test content".getBytes();
+        this.signer.update(data);
+        byte[] signature = this.signer.sign();
+
+        // Act
+        boolean streamValid = this.verifier.verify(new ByteArrayInputStream(data), signature);
+        boolean channelValid = this.verifier.verify(Channels.newChannel(new ByteArrayInputStream(data)), signature);
+        boolean buffersValid = this.verifier.verify(List.of(ByteBuffer.wrap(data, 0, 5), ByteBuffer.wrap(data, 5, 7)),
+                                                    signature);
+
+        // Assert
+        assertThat(streamValid).isTrue();
+        assertThat(channelValid).isTrue();
+        assertThat(buffersValid).isTrue();
+    }
+
     /**
      * Test the verify method with an invalid signature.
      */
@@ -113,6 +145,36 @@ class ECDSAVerifierTest {
         assertThat(isValid).isFalse();
     }
 
+    /**
+     * Test the verify method when the same verifier is shared between threads.
+     */
+    @Test
+    void verify_shouldReturnConsistentResults_WhenCalledConcurrently() throws Exception {
+
+        // Arrange
+        byte[] data = "test content".getBytes();
+        this.signer.update(data);
+        byte[] signature = this.signer.sign();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<Boolean>> results;
+        try {
+            results = executor.invokeAll(IntStream.range(0, 200)
+                                                  .mapToObj(i -> (Callable<Boolean>) () -> i % 2 == 0
+                                                          ? this.verifier.verify(data, signature)
+                                                          : !this.verifier.verify("modified content".getBytes(), signature))
+                                                  .toList());
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+    }
+
     /**
      * Test the verify method with an unsupported algorithm.
      */
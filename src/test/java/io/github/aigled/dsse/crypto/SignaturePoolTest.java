@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.crypto;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SignaturePoolTest {
+
+    private KeyPair keyPair;
+
+    @BeforeEach
+    void setUp() throws NoSuchAlgorithmException {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(256);
+        this.keyPair = keyPairGenerator.generateKeyPair();
+    }
+
+    @Test
+    void constructor_shouldKeepWarmedUpEngine_WhenAlgorithmIsSupported() {
+
+        // Act
+        SignaturePool pool = new SignaturePool("SHA256withECDSA", sig -> sig.initSign(this.keyPair.getPrivate()), 2);
+
+        // Assert
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_shouldReuseReleasedEngine() throws Exception {
+
+        // Arrange
+        SignaturePool pool = new SignaturePool("SHA256withECDSA", sig -> sig.initSign(this.keyPair.getPrivate()), 2);
+        Signature first = pool.acquire();
+        first.update("data".getBytes());
+        first.sign();
+        pool.release(first);
+
+        // Act
+        Signature second = pool.acquire();
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        assertThat(pool.idleCount()).isZero();
+    }
+
+    @Test
+    void release_shouldDropEngine_WhenPoolIsFull() throws Exception {
+
+        // Arrange
+        SignaturePool pool = new SignaturePool("SHA256withECDSA", sig -> sig.initVerify(this.keyPair.getPublic()), 1);
+        Signature first = pool.acquire();
+        Signature second = pool.acquire();
+
+        // Act
+        pool.release(first);
+        pool.release(second);
+
+        // Assert
+        assertThat(first).isNotSameAs(second);
+        assertThat(pool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_shouldThrowNoSuchAlgorithmException_WhenAlgorithmIsUnsupported() {
+
+        // Arrange
+        SignaturePool pool = new SignaturePool("UnsupportedAlgorithm", sig -> sig.initSign(this.keyPair.getPrivate()));
+
+        // Act & Assert
+        assertThat(pool.idleCount()).isZero();
+        assertThatThrownBy(pool::acquire)
+                .isInstanceOf(NoSuchAlgorithmException.class)
+                .hasMessage("UnsupportedAlgorithm Signature not available");
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.store;
+
+import io.github.aigled.dsse.DSSEEnvelope;
+import io.github.aigled.dsse.DSSEException;
+import io.github.aigled.dsse.DSSESignature;
+import io.github.aigled.dsse.MappedDSSEEnvelope;
+import io.github.aigled.dsse.codec.BinaryDSSESerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DSSEEnvelopeStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void get_shouldReturnAppendedEnvelope_WithoutCopyingItsPayload() throws IOException {
+
+        // Arrange
+        DSSEEnvelope envelope = envelope(1, 1000);
+
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory)) {
+            // Act
+            byte[] digest = store.append(envelope);
+            MappedDSSEEnvelope result = store.get(digest).orElseThrow();
+
+            // Assert
+            assertThat(digest).isEqualTo(DSSEEnvelopeStore.digest(envelope));
+            assertThat(result).isEqualTo(envelope);
+            assertThat(result.getPayloadBuffers()).singleElement()
+                                                  .satisfies(payload -> assertThat(payload.isDirect()).isTrue());
+            assertThat(store.contains(digest)).isTrue();
+            assertThat(store.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void get_shouldReturnEmpty_WhenDigestIsUnknown() throws IOException {
+
+        // Arrange
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory)) {
+            byte[] digest = store.append(envelope(1, 10));
+            digest[31] ^= 1;
+
+            // Act & Assert
+            assertThat(store.get(digest)).isEmpty();
+            assertThat(store.get(new byte[3])).isEmpty();
+            assertThat(store.contains(digest)).isFalse();
+        }
+    }
+
+    @Test
+    void append_shouldNotDuplicateEnvelopes() throws IOException {
+
+        // Arrange
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory)) {
+            byte[] digest = store.append(envelope(1, 10));
+
+            // Act
+            byte[] again = store.append(envelope(1, 10));
+            store.append(envelope(2, 10));
+
+            // Assert
+            assertThat(again).isEqualTo(digest);
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(scan(store)).containsExactly(envelope(1, 10), envelope(2, 10));
+        }
+    }
+
+    @Test
+    void open_shouldSucceed_WhenDuplicateWasAppendedBeforeShorterRecord() throws IOException {
+
+        // Arrange
+        byte[] payload = new byte[1000];
+        Arrays.fill(payload, (byte) 'x');
+        DSSEEnvelope duplicate = DSSEEnvelope.of(payload, "text/plain", List.of());
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            store.append(duplicate);
+            store.append(duplicate);
+            store.append(envelope(2, 10));
+            store.append(envelope(3, 3000));
+        }
+
+        // Act
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            // Assert
+            assertThat(scan(store)).containsExactly(duplicate, envelope(2, 10), envelope(3, 3000));
+        }
+    }
+
+    @Test
+    void append_shouldNotStartSegment_WhenDuplicateDoesNotFitInCurrentOne() throws IOException {
+
+        // Arrange
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            store.append(envelope(1, 2500));
+
+            // Act
+            store.append(envelope(1, 2500));
+
+            // Assert
+            assertThat(store.size()).isEqualTo(1);
+        }
+        try (Stream<Path> files = Files.list(this.directory)) {
+            assertThat(files.filter(file -> file.toString().endsWith(".seg"))).hasSize(1);
+        }
+    }
+
+    @Test
+    void open_shouldTreatLastSegmentAsEmpty_WhenItsHeaderWasNotWritten() throws IOException {
+
+        // Arrange
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            store.append(envelope(1, 3000));
+        }
+        Files.write(this.directory.resolve("00000001.seg"), new byte[4096]);
+
+        // Act
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            store.append(envelope(2, 10));
+
+            // Assert
+            assertThat(scan(store)).containsExactly(envelope(1, 3000), envelope(2, 10));
+        }
+    }
+
+    @Test
+    void stream_shouldScanAllSegmentsInAppendOrder() throws IOException {
+
+        // Arrange
+        List<DSSEEnvelope> envelopes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            envelopes.add(envelope(i, 100 + 97 * i));
+        }
+        envelopes.add(envelope(50, 20_000));
+
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            // Act
+            envelopes.forEach(store::append);
+
+            // Assert
+            assertThat(scan(store)).containsExactlyElementsOf(envelopes);
+            for (DSSEEnvelope envelope : envelopes) {
+                assertThat(store.get(DSSEEnvelopeStore.digest(envelope))).contains(toMapped(envelope));
+            }
+        }
+        try (Stream<Path> files = Files.list(this.directory)) {
+            assertThat(files.filter(file -> file.toString().endsWith(".seg")).count()).isGreaterThan(10);
+        }
+    }
+
+    @Test
+    void open_shouldRebuildIndex_WhenStoreIsReopened() throws IOException {
+
+        // Arrange
+        List<byte[]> digests = new ArrayList<>();
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            for (int i = 0; i < 20; i++) {
+                digests.add(store.append(envelope(i, 500)));
+            }
+        }
+
+        // Act
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 4096)) {
+            store.append(envelope(20, 500));
+
+            // Assert
+            assertThat(store.size()).isEqualTo(21);
+            for (int i = 0; i < 20; i++) {
+                assertThat(store.get(digests.get(i))).contains(toMapped(envelope(i, 500)));
+            }
+            assertThat(store.stream()).hasSize(21).last().isEqualTo(envelope(20, 500));
+        }
+    }
+
+    @Test
+    void open_shouldDropTornRecord_WhenLastSegmentWasNotFullyWritten() throws IOException {
+
+        // Arrange
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory)) {
+            store.append(envelope(1, 100));
+            store.append(envelope(2, 100));
+        }
+        // Corrupts the last byte of the payload of the second record
+        Path segment = this.directory.resolve("00000000.seg");
+        int secondRecordEnd = 8 + 2 * 40 + 2 * (int) new BinaryDSSESerializer().serializedLength(envelope(1, 100));
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{(byte) 0xFF}), secondRecordEnd - 1);
+        }
+
+        // Act
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory)) {
+            store.append(envelope(3, 10));
+
+            // Assert
+            assertThat(scan(store)).containsExactly(envelope(1, 100), envelope(3, 10));
+        }
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory)) {
+            assertThat(scan(store)).containsExactly(envelope(1, 100), envelope(3, 10));
+        }
+    }
+
+    @Test
+    void open_shouldThrowDSSEException_WhenStoreIsAlreadyOpen() throws IOException {
+
+        // Arrange
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory)) {
+            // Act & Assert
+            assertThatThrownBy(() -> DSSEEnvelopeStore.open(this.directory))
+                    .isInstanceOf(DSSEException.class)
+                    .hasMessageStartingWith("Failed to lock the envelope store");
+            assertThat(store.size()).isZero();
+        }
+    }
+
+    @Test
+    void get_shouldSeeEnvelopes_WhileTheyAreAppendedConcurrently() throws Exception {
+
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory, 64 * 1024)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> appenders = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int first = thread * 250;
+                appenders.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = first; i < first + 250; i++) {
+                        byte[] digest = store.append(envelope(i, 200));
+
+                        // Act
+                        assertThat(store.get(digest)).isPresent();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> appender : appenders) {
+                appender.get();
+            }
+
+            // Assert
+            assertThat(store.size()).isEqualTo(1000);
+            assertThat(store.stream()).hasSize(1000).doesNotHaveDuplicates();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void append_shouldThrowIllegalStateException_WhenStoreIsClosed() throws IOException {
+
+        // Arrange
+        DSSEEnvelopeStore store = DSSEEnvelopeStore.open(this.directory);
+        store.close();
+
+        // Act & Assert
+        assertThatThrownBy(() -> store.append(envelope(1, 1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<DSSEEnvelope> scan(DSSEEnvelopeStore store) {
+
+        return List.copyOf(store.stream().toList());
+    }
+
+    private static MappedDSSEEnvelope toMapped(DSSEEnvelope envelope) {
+
+        return MappedDSSEEnvelope.of(ByteBuffer.wrap(envelope.getSerializedBody()), envelope.getPayloadType(),
+                                     envelope.getSignatures());
+    }
+
+    private static DSSEEnvelope envelope(int id, int payloadLength) {
+
+        byte[] payload = new byte[payloadLength];
+        byte[] idBytes = Integer.toString(id).getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(idBytes, 0, payload, 0, Math.min(idBytes.length, payloadLength));
+        return DSSEEnvelope.of(payload, "application/vnd.in-toto+json", List.of(
+                DSSESignature.of("key-" + id, new byte[]{(byte) id, 1, 2})
+        ));
+    }
+}
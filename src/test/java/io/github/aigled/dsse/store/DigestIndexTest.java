@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Dorian AIGLE
+ *
+ * Use of this source code is governed by an MIT-style
+ * license that can be found in the LICENSE file or at
+ * https://opensource.org/licenses/MIT.
+ */
+
+package io.github.aigled.dsse.store;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DigestIndexTest {
+
+    @Test
+    void find_shouldReturnLocations_AfterGrowing() {
+
+        // Arrange
+        DigestIndex index = new DigestIndex(0);
+
+        // Act
+        for (long key = 0; key < 10_000; key++) {
+            index.put(key * 0x1_0000_0001L, key + 100);
+        }
+
+        // Assert
+        assertThat(index.size()).isEqualTo(10_000);
+        for (long key = 0; key < 10_000; key++) {
+            assertThat(index.find(key * 0x1_0000_0001L, location -> true)).isEqualTo(key + 100);
+        }
+        assertThat(index.find(-5, location -> true)).isEqualTo(DigestIndex.NOT_FOUND);
+    }
+
+    @Test
+    void find_shouldProbeAllEntries_WhenKeysCollide() {
+
+        // Arrange
+        DigestIndex index = new DigestIndex(4);
+        index.put(42, 1);
+        index.put(42, 2);
+        index.put(42, 3);
+
+        // Act & Assert
+        assertThat(index.find(42, location -> location == 2)).isEqualTo(2);
+        assertThat(index.find(42, location -> location == 3)).isEqualTo(3);
+        assertThat(index.find(42, location -> location == 4)).isEqualTo(DigestIndex.NOT_FOUND);
+    }
+}